@@ -19,6 +19,7 @@ import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactFactWithPayload;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactIdentifierIndex;
 import org.eclipse.sw360.antenna.model.artifact.facts.*;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.coordinates.CoordinateBuilder;
@@ -174,32 +175,28 @@ public class CSVArtifactMapper {
     public Collection<Artifact> createArtifactsList() {
 
         List<Artifact> artifacts = new ArrayList<>();
+        ArtifactIdentifierIndex artifactIndex = new ArtifactIdentifierIndex();
         List<CSVRecord> records = getRecordsFromCsvFile();
 
         for (CSVRecord record : records) {
             Artifact newArtifact = mapRecordToArtifact(record);
 
-            final Optional<Artifact> oldArtifact = artifactListContainsArtifact(artifacts, newArtifact);
+            final Optional<Artifact> oldArtifact = artifactListContainsArtifact(artifactIndex, newArtifact);
             if(oldArtifact.isPresent()) {
                 oldArtifact.get().mergeWith(newArtifact);
+                artifactIndex.add(oldArtifact.get());
             } else {
                 artifacts.add(newArtifact);
+                artifactIndex.add(newArtifact);
             }
         }
 
         return artifacts;
     }
 
-    private Optional<Artifact> artifactListContainsArtifact(List<Artifact> artifacts, Artifact artifact) {
+    private Optional<Artifact> artifactListContainsArtifact(ArtifactIdentifierIndex artifactIndex, Artifact artifact) {
         return artifact.askFor(ArtifactCoordinates.class)
-                .flatMap(artifactCoordinates -> artifactListContainsArtifact(artifacts, artifactCoordinates));
-
-    }
-
-    private Optional<Artifact> artifactListContainsArtifact(List<Artifact> artifacts, ArtifactCoordinates coordinates) {
-        return artifacts.stream()
-                .filter(coordinates::matches)
-                .findFirst();
+                .flatMap(artifactCoordinates -> artifactIndex.findFirstMatching(artifact, artifactCoordinates::matches));
     }
 
     private Artifact mapRecordToArtifact(CSVRecord record) {
@@ -12,10 +12,13 @@
 
 package org.eclipse.sw360.antenna.jsonreader;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.github.cliftonlabs.json_simple.JsonArray;
-import com.github.cliftonlabs.json_simple.JsonException;
 import com.github.cliftonlabs.json_simple.JsonObject;
-import com.github.cliftonlabs.json_simple.Jsoner;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.*;
@@ -35,16 +38,18 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
- * Reads a JsonDocument and returns its JsonObjects.
+ * Reads a JsonDocument and maps the JsonObjects of its components to artifacts.
  */
 public class JsonReader {
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonReader.class);
     private static final String COMPONENTS = "components";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private final Charset encoding;
     private final Path recordingFile;
     private final Path dependencyDir;
@@ -68,36 +73,84 @@ public class JsonReader {
         this.dependencyDir = dependencyDir;
     }
 
-    private List<JsonObject> readJsonObjects(InputStream stream) {
-        List<JsonObject> artifactList = new ArrayList<>();
+    /**
+     * Streams over the objects of the components array and hands each of them to the consumer as soon as it is read,
+     * so that only one component has to be kept in memory at a time.
+     */
+    private void readJsonObjects(InputStream stream, Consumer<JsonObject> consumer) {
         try (InputStream recordingStream = new RecordingInputStream(stream, recordingFile);
-             InputStreamReader reader = new InputStreamReader(recordingStream, encoding)) {
-            Object obj = Jsoner.deserialize(reader);
-            JsonObject temp = (JsonObject) obj;
-            JsonArray data = (JsonArray) temp.get(COMPONENTS);
-            for (Object aData : data) {
-                JsonObject jsonObject = (JsonObject) aData;
-                artifactList.add(jsonObject);
+             InputStreamReader reader = new InputStreamReader(recordingStream, encoding);
+             JsonParser parser = JSON_FACTORY.createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ExecutionException("Cannot read json objects from input stream: root is not a json object");
             }
-            stream.close();
-            return artifactList;
-        } catch (IOException | JsonException e) {
+            boolean componentsFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (COMPONENTS.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    componentsFound = true;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        consumer.accept((JsonObject) readValue(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!componentsFound) {
+                throw new ExecutionException("Cannot read json objects from input stream: no " + COMPONENTS + " found");
+            }
+            // consume the remaining input, so that it is recorded completely
+            IOUtils.copy(recordingStream, NullOutputStream.NULL_OUTPUT_STREAM);
+        } catch (IOException | ClassCastException e) {
             throw new ExecutionException("Cannot read json objects from input stream", e);
         }
     }
 
+    /*
+     * Reads the value at the current token in the representation Jsoner would have created for it.
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                JsonObject object = new JsonObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    object.put(key, readValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                JsonArray array = new JsonArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new ExecutionException("Unexpected json token " + parser.currentToken());
+        }
+    }
+
     @SuppressWarnings("WeakerAccess")
     protected List<Artifact> createArtifactsList(InputStream stream, List<String> filterStrings) {
         LOGGER.debug("Create artifacts list from input stream.");
         List<Artifact> artifacts = new ArrayList<>();
-        List<JsonObject> objects = readJsonObjects(stream);
-        for (JsonObject obj : objects) {
-            if (filterObject(obj, Optional.ofNullable(filterStrings))) {
-                continue;
+        readJsonObjects(stream, obj -> {
+            if (!filterObject(obj, Optional.ofNullable(filterStrings))) {
+                artifacts.add(mapArtifact(obj));
             }
-            Artifact artifact = mapArtifact(obj);
-            artifacts.add(artifact);
-        }
+        });
         LOGGER.debug("Creation of artifacts list finished.");
         try {
             stream.close();
@@ -22,6 +22,7 @@ import java.nio.file.Path;
  * bytes to the file at the recordingFilePath.
  */
 public class RecordingInputStream extends InputStream {
+    private static final int RECORDING_BUFFER_SIZE = 64 * 1024;
 
     private InputStream target;
     private OutputStream output;
@@ -45,7 +46,7 @@ public class RecordingInputStream extends InputStream {
             if (parent != null) {
                 Files.createDirectories(parent);
             }
-            this.output = new FileOutputStream(recordingFile);
+            this.output = new BufferedOutputStream(new FileOutputStream(recordingFile), RECORDING_BUFFER_SIZE);
         }
     }
 
@@ -71,6 +72,28 @@ public class RecordingInputStream extends InputStream {
         return readByte;
     }
 
+    /**
+     * Reads a chunk of the InputStream and writes it to the specified file.
+     *
+     * @return Number of bytes that are returned from the read Method of the InputStream.
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int readBytes = -1;
+        try {
+            readBytes = target.read(buffer, offset, length);
+
+            if (readBytes > 0) {
+                output.write(buffer, offset, readBytes);
+            }
+        } finally {
+            if (readBytes == -1) {
+                output.close();
+            }
+        }
+        return readBytes;
+    }
+
     @Override
     public int available() throws IOException {
         return target.available();
@@ -78,7 +101,11 @@ public class RecordingInputStream extends InputStream {
 
     @Override
     public void close() throws IOException {
-        target.close();
+        try {
+            target.close();
+        } finally {
+            output.close();
+        }
     }
 
     @Override
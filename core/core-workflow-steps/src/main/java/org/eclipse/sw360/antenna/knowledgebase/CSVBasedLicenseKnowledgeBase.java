@@ -27,6 +27,7 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -52,7 +53,7 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
 
     private final Map<String, String> aliasIdMap = new HashMap<>();
     private final Map<String, String> idLicenseMap = new HashMap<>();
-    private final Map<String, String> idTextMap = new HashMap<>();
+    private final Map<String, String> idTextMap = new ConcurrentHashMap<>();
     private final Map<String, String> idThreatGroupMap = new HashMap<>();
     private final Map<String, String> idClassificationMap = new HashMap<>();
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.knowledgebase;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the SPDX listed licenses, built from the offline snapshot of
+ * the license list that is bundled with the SPDX tools. The ids and names of
+ * all licenses are read once; the text of a license is read when it is first
+ * requested and cached afterwards. Lookups of unknown ids do not access any
+ * resources. Ids are looked up ignoring case, like SPDX license expressions
+ * are matched.
+ */
+class SPDXLicenseIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SPDXLicenseIndex.class);
+
+    static final String LICENSE_LIST_RESOURCE = "/resources/stdlicenses/licenses.json";
+    private static final String LICENSE_RESOURCE = "/resources/stdlicenses/%s.jsonld";
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String version;
+    private final Map<String, String> namesById;
+    private final Map<String, String> idsByLowerCaseId = new HashMap<>();
+    private final Map<String, Optional<String>> textsById = new ConcurrentHashMap<>();
+
+    private SPDXLicenseIndex(String version, Map<String, String> namesById) {
+        this.version = version;
+        this.namesById = Collections.unmodifiableMap(namesById);
+        namesById.keySet().forEach(id -> idsByLowerCaseId.put(id.toLowerCase(Locale.ROOT), id));
+    }
+
+    /**
+     * @return the index of the bundled license list, which is loaded on first use
+     */
+    static SPDXLicenseIndex getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    boolean isEmpty() {
+        return namesById.isEmpty();
+    }
+
+    boolean contains(String licenseId) {
+        return getLicenseId(licenseId).isPresent();
+    }
+
+    /**
+     * @param licenseId the id of a license in any case
+     * @return the id of the license as listed by SPDX
+     */
+    Optional<String> getLicenseId(String licenseId) {
+        return licenseId != null
+                ? Optional.ofNullable(idsByLowerCaseId.get(licenseId.toLowerCase(Locale.ROOT)))
+                : Optional.empty();
+    }
+
+    Optional<String> getName(String licenseId) {
+        return getLicenseId(licenseId).map(namesById::get);
+    }
+
+    Optional<String> getText(String licenseId) {
+        return getLicenseId(licenseId)
+                .flatMap(id -> textsById.computeIfAbsent(id, SPDXLicenseIndex::readText));
+    }
+
+    static SPDXLicenseIndex read(InputStream licenseList) throws IOException {
+        String version = UNKNOWN_VERSION;
+        Map<String, String> namesById = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(licenseList)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("The SPDX license list is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("licenseListVersion".equals(field)) {
+                    version = parser.getValueAsString(UNKNOWN_VERSION);
+                } else if ("licenses".equals(field) && value == JsonToken.START_ARRAY) {
+                    readLicenses(parser, namesById);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new SPDXLicenseIndex(version, namesById);
+    }
+
+    private static void readLicenses(JsonParser parser, Map<String, String> namesById) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String licenseId = null;
+            String name = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("licenseId".equals(field)) {
+                    licenseId = parser.getValueAsString();
+                } else if ("name".equals(field)) {
+                    name = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (licenseId != null) {
+                namesById.put(licenseId, name);
+            }
+        }
+    }
+
+    private static Optional<String> readText(String licenseId) {
+        try (InputStream license = SPDXLicenseIndex.class.getResourceAsStream(String.format(LICENSE_RESOURCE, licenseId))) {
+            if (license == null) {
+                LOGGER.debug("No license text bundled for SPDX license {}.", licenseId);
+                return Optional.empty();
+            }
+            try (JsonParser parser = JSON_FACTORY.createParser(license)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return Optional.empty();
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("licenseText".equals(field)) {
+                        return Optional.ofNullable(parser.getValueAsString());
+                    }
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the text of SPDX license {}.", licenseId, e);
+        }
+        return Optional.empty();
+    }
+
+    private static SPDXLicenseIndex load() {
+        try (InputStream licenseList = SPDXLicenseIndex.class.getResourceAsStream(LICENSE_LIST_RESOURCE)) {
+            if (licenseList != null) {
+                return read(licenseList);
+            }
+            LOGGER.warn("The SPDX license list {} is not available.", LICENSE_LIST_RESOURCE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the SPDX license list {}.", LICENSE_LIST_RESOURCE, e);
+        }
+        return new SPDXLicenseIndex(UNKNOWN_VERSION, new HashMap<>());
+    }
+
+    private static class Holder {
+        private static final SPDXLicenseIndex INSTANCE = load();
+    }
+}
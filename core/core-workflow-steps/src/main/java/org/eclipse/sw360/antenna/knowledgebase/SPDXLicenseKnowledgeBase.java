@@ -15,18 +15,21 @@ package org.eclipse.sw360.antenna.knowledgebase;
 import org.eclipse.sw360.antenna.api.ILicenseManagementKnowledgeBase;
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
-import org.spdx.rdfparser.InvalidSPDXAnalysisException;
-import org.spdx.rdfparser.license.*;
 
 import java.nio.charset.Charset;
 import java.util.Optional;
 
+/**
+ * Knowledge base for the SPDX listed licenses. It uses the offline snapshot
+ * of the license list bundled with the SPDX tools, see
+ * {@link SPDXLicenseIndex}, so it does not access the network.
+ */
 public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase {
     private IProcessingReporter reporter;
-    private ListedLicenses listedLicenses;
+    private final SPDXLicenseIndex licenseIndex;
 
     public SPDXLicenseKnowledgeBase() {
-        listedLicenses = ListedLicenses.getListedLicenses();
+        licenseIndex = SPDXLicenseIndex.getInstance();
     }
 
     @Override
@@ -36,18 +39,15 @@ public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase
 
     @Override
     public boolean isRunnable() {
-        return listedLicenses.getSpdxListedLicenseIds().length != 0;
+        return !licenseIndex.isEmpty();
     }
 
-    private Optional<SpdxListedLicense> getSpdxLicense(String licenseId) {
-        final SpdxListedLicense listedLicenseById;
-        try {
-            listedLicenseById = listedLicenses.getListedLicenseById(licenseId);
-        } catch (InvalidSPDXAnalysisException e) {
-            reporter.add(licenseId, MessageType.UNKNOWN_LICENSE, "No license found in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion());
-            return Optional.empty();
+    private boolean isKnownLicense(String licenseId) {
+        if (licenseIndex.contains(licenseId)) {
+            return true;
         }
-        return Optional.of(listedLicenseById);
+        reporter.add(licenseId, MessageType.UNKNOWN_LICENSE, "No license found in SPDX with list version: " + licenseIndex.getVersion());
+        return false;
     }
 
     @Override
@@ -57,30 +57,33 @@ public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase
 
     @Override
     public String getLicenseNameForId(String licenseId) {
-        return getSpdxLicense(licenseId)
-                .map(SimpleLicensingInfo::getName)
+        return Optional.ofNullable(licenseId)
+                .filter(this::isKnownLicense)
+                .flatMap(licenseIndex::getName)
                 .orElseGet(() -> {
-                    reporter.add(licenseId, MessageType.MISSING_LICENSE_INFORMATION, "No license name in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion() + ", fall back to id");
+                    reporter.add(licenseId, MessageType.MISSING_LICENSE_INFORMATION, "No license name in SPDX with list version: " + licenseIndex.getVersion() + ", fall back to id");
                     return licenseId;
                 });
     }
 
     @Override
     public String getTextForId(String licenseId) {
-        return getSpdxLicense(licenseId)
-                .map(License::getLicenseText)
+        return Optional.ofNullable(licenseId)
+                .filter(this::isKnownLicense)
+                .flatMap(licenseIndex::getText)
                 .orElseGet(() -> {
-                    reporter.add(licenseId, MessageType.MISSING_LICENSE_TEXT, "No license text found in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion());
+                    reporter.add(licenseId, MessageType.MISSING_LICENSE_TEXT, "No license text found in SPDX with list version: " + licenseIndex.getVersion());
                     return null;
                 });
     }
 
     @Override
     public String getLicenseIdForAlias(String id) {
-        return getSpdxLicense(id)
-                .map(SimpleLicensingInfo::getLicenseId)
+        return Optional.ofNullable(id)
+                .filter(this::isKnownLicense)
+                .flatMap(licenseIndex::getLicenseId)
                 .orElseGet(() -> {
-                    reporter.add(id, MessageType.MISSING_LICENSE_INFORMATION, "No license alias in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion() + ", fall back to id");
+                    reporter.add(id, MessageType.MISSING_LICENSE_INFORMATION, "No license alias in SPDX with list version: " + licenseIndex.getVersion() + ", fall back to id");
                     return id;
                 });
     }
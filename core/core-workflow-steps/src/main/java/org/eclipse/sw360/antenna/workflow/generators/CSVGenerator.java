@@ -19,31 +19,45 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
-import org.eclipse.sw360.antenna.model.license.LicenseInformation;
 import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
 import org.eclipse.sw360.antenna.api.Attachable;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 /**
  *
  * Creates a csv file that contains artifact name, version and license.
  *
  * artifactName;version;license;
+ *
+ * The rows are written to the file while the artifacts are processed, so the
+ * memory needed does not depend on the number of artifacts. Values containing
+ * the delimiter, quotes or line breaks are quoted as described in RFC 4180.
  */
 public class CSVGenerator extends AbstractGenerator {
     public static final String ANTENNA_ARTIFACT_INFORMATION_CSV = "Antenna_artifactInformation.csv";
     public static final String IDENTIFIER = "artifact-information";
     public static final String CLASSIFIER = "antenna-artifact-info";
     public static final String TYPE = "csv";
+    public static final String GZIP_EXTENSION = ".gz";
+    public static final String GZIP_TYPE = TYPE + GZIP_EXTENSION;
+    private static final String GZIP_KEY = "gzip";
+    private static final String HEADER = "artifactName;artifactId;groupId;mavenVersion;bundleVersion;license ";
+    private static final char DELIMITER = ';';
+    private static final char QUOTE = '"';
+    private static final String RECORD_SEPARATOR = "\n";
     private Path targetDirectory;
     private Charset encoding;
+    private boolean gzip;
 
     public CSVGenerator() {
         this.workflowStepOrder = 500;
@@ -51,81 +65,96 @@ public class CSVGenerator extends AbstractGenerator {
 
     /**
      * Creates a csv file that contains artifact name, version and license. File
-     * will be written to CsvFileWriter.ANTENNA_ARTIFACT_INFORMATION_CSV
+     * will be written to CsvFileWriter.ANTENNA_ARTIFACT_INFORMATION_CSV, or to
+     * the same file name with the extension .gz if the output is compressed.
      */
-    private void writeFile(StringBuilder information, File csvFile) {
-        try (PrintWriter out = new PrintWriter(csvFile, encoding.toString())) {
-            out.write(information.toString());
-        }catch (FileNotFoundException e) {
-            throw new ExecutionException("The csvFile " + csvFile.getName() + " was not found ", e);
-        } catch (UnsupportedEncodingException e){
-            throw new ExecutionException("The encoding " + encoding.toString() + " is unsupported ", e);
+    private void writeFile(Collection<Artifact> artifacts, Path csvFile) {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(openOutputStream(csvFile), encoding))) {
+            out.write(HEADER);
+            out.write(RECORD_SEPARATOR);
+            for (Artifact artifact : artifacts) {
+                writeRow(out, artifact);
+            }
+        } catch (IOException e) {
+            throw new ExecutionException("The csvFile " + csvFile.getFileName() + " could not be written", e);
         }
     }
 
-    private StringBuilder createStringBuilder(Collection<Artifact> artifacts) {
-        StringBuilder information = new StringBuilder();
-        information.append("artifactName;artifactId;groupId;mavenVersion;bundleVersion;license \n");
-        for (Artifact artifact : artifacts) {
-            appendInformation(information, artifact.askFor(ArtifactFilename.class)
-                    .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
-                    .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
-                    .orElse(""));
-
-            final Optional<ArtifactCoordinates> oArtifactCoordinates = artifact.askFor(ArtifactCoordinates.class);
-            if(oArtifactCoordinates.isPresent()) {
-                final ArtifactCoordinates artifactCoordinates = oArtifactCoordinates.get();
-
-                Optional<Coordinate> mavenPURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.MAVEN);
-                if(mavenPURL.isPresent()) {
-                    appendInformation(information, mavenPURL.get().getName());
-                    appendInformation(information, mavenPURL.get().getNamespace());
-                    appendInformation(information, mavenPURL.get().getVersion());
-                } else {
-                    appendInformation(information, "");
-                    appendInformation(information, "");
-                    appendInformation(information, "");
-                }
-
-                Optional<Coordinate> bundlePURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.P2);
-                if(bundlePURL.isPresent()) {
-                    // appendInformation(information, bundlePURL.get().getName());
-                    appendInformation(information, bundlePURL.get().getVersion());
-                } else {
-                    // appendInformation(information, "");
-                    appendInformation(information, "");
-                }
-            }
+    private OutputStream openOutputStream(Path csvFile) throws IOException {
+        OutputStream out = Files.newOutputStream(csvFile);
+        return gzip ? new GZIPOutputStream(out) : out;
+    }
+
+    private void writeRow(Writer out, Artifact artifact) throws IOException {
+        writeValue(out, artifact.askFor(ArtifactFilename.class)
+                .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
+                .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
+                .orElse(""));
+
+        final Optional<ArtifactCoordinates> oArtifactCoordinates = artifact.askFor(ArtifactCoordinates.class);
+        Optional<Coordinate> mavenPURL = oArtifactCoordinates
+                .flatMap(artifactCoordinates -> artifactCoordinates.getCoordinateForType(Coordinate.Types.MAVEN));
+        writeValue(out, mavenPURL.map(Coordinate::getName).orElse(""));
+        writeValue(out, mavenPURL.map(Coordinate::getNamespace).orElse(""));
+        writeValue(out, mavenPURL.map(Coordinate::getVersion).orElse(""));
+
+        Optional<Coordinate> bundlePURL = oArtifactCoordinates
+                .flatMap(artifactCoordinates -> artifactCoordinates.getCoordinateForType(Coordinate.Types.P2));
+        writeValue(out, bundlePURL.map(Coordinate::getVersion).orElse(""));
+
+        writeQuoted(out, ArtifactLicenseUtils.getFinalLicenses(artifact).evaluate() + " ");
+        out.write(RECORD_SEPARATOR);
+    }
 
-            LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
-            StringBuilder licenses = new StringBuilder();
-            licenses.append(finalLicenses.evaluate());
-            licenses.append(" ");
-            information.append(licenses);
-            licenses.append(";");
-            information.append("\n");
+    private void writeValue(Writer out, String information) throws IOException {
+        if (information != null) {
+            writeQuoted(out, information);
         }
-        return information;
+        out.write(DELIMITER);
     }
 
-    private void appendInformation(StringBuilder sb, String information) {
-        Optional.ofNullable(information)
-                .ifPresent(sb::append);
-        sb.append(";");
+    /**
+     * Writes the value, enclosed in quotes if it contains the delimiter, a
+     * quote or a line break. Quotes within the value are doubled.
+     */
+    private static void writeQuoted(Writer out, String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+        out.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.write(QUOTE);
+            }
+            out.write(c);
+        }
+        out.write(QUOTE);
     }
 
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == DELIMITER || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public Map<String, IAttachable> produce(Collection<Artifact> artifacts) {
-        StringBuilder information = createStringBuilder(artifacts);
-        File csvFile = this.targetDirectory.resolve(ANTENNA_ARTIFACT_INFORMATION_CSV).toFile();
-        writeFile(information, csvFile);
-        return Collections.singletonMap(IDENTIFIER, new Attachable(TYPE, CLASSIFIER, csvFile));
+        String fileName = gzip ? ANTENNA_ARTIFACT_INFORMATION_CSV + GZIP_EXTENSION : ANTENNA_ARTIFACT_INFORMATION_CSV;
+        Path csvFile = this.targetDirectory.resolve(fileName);
+        writeFile(artifacts, csvFile);
+        return Collections.singletonMap(IDENTIFIER, new Attachable(gzip ? GZIP_TYPE : TYPE, CLASSIFIER, csvFile.toFile()));
     }
 
     @Override
     public void configure(Map<String, String> configMap) {
         this.targetDirectory = context.getToolConfiguration().getAntennaTargetDirectory();
         this.encoding = context.getToolConfiguration().getEncoding();
+        this.gzip = getBooleanConfigValue(GZIP_KEY, configMap);
     }
-}
\ No newline at end of file
+}
@@ -25,16 +25,19 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.Deflater;
 
 /**
  * The SourceZipWriter creates a zip file containing the given Sources.
  */
 public class SourceZipWriter extends AbstractGenerator {
     private static final String SOURCE_ZIP_PATH_KEY = "source.zip.path";
+    private static final String COMPRESSION_LEVEL_KEY = "compression.level";
 
     private IArtifactFilter notAllowed;
     private IArtifactFilter unknownMatchStateFilter;
     private Path sourceZipPath;
+    private int compressionLevel;
 
     public SourceZipWriter() {
         this.workflowStepOrder = 700;
@@ -42,7 +45,8 @@ public class SourceZipWriter extends AbstractGenerator {
 
     @Override
     public Map<String, IAttachable> produce(Collection<Artifact> artifacts) {
-        return new SourceZipWriterImpl(sourceZipPath, notAllowed, unknownMatchStateFilter, reporter)
+        return new SourceZipWriterImpl(sourceZipPath, notAllowed, unknownMatchStateFilter, reporter,
+                compressionLevel)
                 .produce(artifacts);
     }
 
@@ -59,5 +63,7 @@ public class SourceZipWriter extends AbstractGenerator {
         } else {
             this.sourceZipPath = context.getToolConfiguration().getAntennaTargetDirectory().resolve("sources.zip");
         }
+        this.compressionLevel = getIntConfigValue(COMPRESSION_LEVEL_KEY, configMap,
+                SourceZipWriterImpl.DEFAULT_COMPRESSION_LEVEL, Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION);
     }
 }
@@ -23,35 +23,76 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.util.ConcurrencyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
 import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 
+/**
+ * <p>
+ * Writes the source jars of artifacts into a single zip file.
+ * </p>
+ * <p>
+ * Entries of the source jars that are already deflated are copied into the
+ * target zip as they are, without inflating and deflating them again. Only
+ * the remaining entries are compressed with the configured compression level.
+ * The source jars are prepared concurrently, but they are always written in
+ * the order of the artifacts, so that the resulting zip file is the same for
+ * the same input. For the same reason, the entries keep the modification time
+ * of their source entries.
+ * </p>
+ */
 public class SourceZipWriterImpl {
+    public static final int DEFAULT_COMPRESSION_LEVEL = Deflater.BEST_COMPRESSION;
+
     private static final String IDENTIFIER = "sources-zip";
     private static final String CLASSIFIER = "antenna-sources-zip";
     private static final String TYPE = "zip";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The modification time used for entries without a time: 1980-01-01, the
+     * earliest time that can be stored in a zip file.
+     */
+    private static final long DEFAULT_ENTRY_TIME = new GregorianCalendar(1980, Calendar.JANUARY, 1).getTimeInMillis();
 
     private IArtifactFilter notAllowed;
     private IArtifactFilter unknownMatchStateFilter;
     private Path sourceZipPath;
     private IProcessingReporter reporter;
+    private final int compressionLevel;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SourceZipWriterImpl.class);
 
     public SourceZipWriterImpl(Path sourceZipPath, IArtifactFilter notAllowed, IArtifactFilter unknownMatchStateFilter, IProcessingReporter reporter) {
+        this(sourceZipPath, notAllowed, unknownMatchStateFilter, reporter, DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public SourceZipWriterImpl(Path sourceZipPath, IArtifactFilter notAllowed, IArtifactFilter unknownMatchStateFilter, IProcessingReporter reporter, int compressionLevel) {
+        if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
         this.sourceZipPath = sourceZipPath;
         this.notAllowed = notAllowed;
         this.unknownMatchStateFilter = unknownMatchStateFilter;
         this.reporter = reporter;
+        this.compressionLevel = compressionLevel;
     }
 
     public Map<String, IAttachable> produce(Collection<Artifact> artifacts) {
@@ -69,24 +110,26 @@ public class SourceZipWriterImpl {
         if (!artifacts.isEmpty()) {
             createSourceZipPath();
 
+            List<SourceJar> sourceJars = new ArrayList<>();
+            artifacts.stream()
+                    .filter(notAllowed::passed)
+                    .forEach(artifact -> {
+                        if (unknownMatchStateFilter.passed(artifact)) {
+                            toSourceJar(artifact).ifPresent(sourceJars::add);
+                        } else {
+                            if (!artifact.isProprietary()) {
+                                this.reporter.add(artifact,
+                                        MessageType.MATCHSTATE_UNKNOWN,
+                                        "Artifact is not added to sources.zip as MatchState of artifact is declared as unknown.");
+                            }
+                        }
+                    });
+
             try (FileOutputStream output = new FileOutputStream(sourceZipPath.toFile());
                  ZipArchiveOutputStream zipOutput = new ZipArchiveOutputStream(output)) {
 
-                zipOutput.setLevel(Deflater.BEST_COMPRESSION);
-
-                artifacts.stream()
-                        .filter(notAllowed::passed)
-                        .forEach(artifact -> {
-                            if (unknownMatchStateFilter.passed(artifact)) {
-                                addContentToZip(artifact, zipOutput);
-                            } else {
-                                if (!artifact.isProprietary()) {
-                                    this.reporter.add(artifact,
-                                            MessageType.MATCHSTATE_UNKNOWN,
-                                            "Artifact is not added to sources.zip as MatchState of artifact is declared as unknown.");
-                                }
-                            }
-                        });
+                zipOutput.setLevel(compressionLevel);
+                writeSourceJars(sourceJars, zipOutput);
 
                 zipOutput.flush();
                 output.flush();
@@ -116,57 +159,213 @@ public class SourceZipWriterImpl {
         }
     }
 
+    private Optional<SourceJar> toSourceJar(Artifact artifact) {
+        return artifact.askForGet(ArtifactSourceFile.class)
+                .map(sourceFile -> new SourceJar(artifact, sourceFile, artifact.askFor(ArtifactFilename.class)
+                        .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
+                        .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
+                        .orElse(sourceFile.toFile().getName())
+                        .replaceAll(".jar", "")));
+    }
+
     /**
-     * Adds the content of the source zip with the specified sourceTypes.
+     * Writes the given source jars into the zip. The source jars are prepared
+     * on a thread pool; a limited number of them is prepared ahead of the one
+     * that is currently written.
      *
-     * @param artifact Artifact of which the content shall be added.
-     * @param zipOut   ZipOutputStream for the ZipFile.
+     * @param sourceJars the source jars to be added
+     * @param zipOut     ZipOutputStream for the ZipFile.
      */
-    private void addContentToZip(Artifact artifact, ZipArchiveOutputStream zipOut) {
-        if (notAllowed.passed(artifact)) {
-            final Optional<Path> sourceFile = artifact.askForGet(ArtifactSourceFile.class);
-            if (!sourceFile.isPresent()) {
-                return;
-            }
-            String entryName = artifact.askFor(ArtifactFilename.class)
-                    .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
-                    .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
-                    .orElse(sourceFile.get().toFile().getName())
-                    .replaceAll(".jar", "");
-            try {
-                LOGGER.debug("Writing File: {}", entryName);
-                writeContentToZipEntry(zipOut, sourceFile.get().toFile(), entryName);
-            } catch (ZipException e) {
-                if (!e.getMessage().equals("zip file is empty")) {
-                    reporter.add(artifact, MessageType.PROCESSING_FAILURE,
-                            e.getMessage() + ": caused by File: " + sourceFile);
-                    LOGGER.warn("{}: caused by File: {}", e.getMessage(), sourceFile);
+    private void writeSourceJars(List<SourceJar> sourceJars, ZipArchiveOutputStream zipOut) {
+        if (sourceJars.isEmpty()) {
+            return;
+        }
+        final int threads = Math.min(Runtime.getRuntime().availableProcessors(), sourceJars.size());
+        final int lookAhead = 2 * threads;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final Deque<Future<PreparedSourceJar>> pending = new ArrayDeque<>();
+        try {
+            int next = 0;
+            for (SourceJar sourceJar : sourceJars) {
+                while (next < sourceJars.size() && pending.size() < lookAhead) {
+                    final SourceJar toPrepare = sourceJars.get(next++);
+                    pending.add(executor.submit(() -> prepare(toPrepare)));
                 }
-            } catch (IOException e) {
-                String message = "An Exception occurred during the creation of the zip file: source of " + artifact + " could not be resolved: " + e.getMessage();
-                this.reporter.add(artifact, MessageType.PROCESSING_FAILURE,
-                        message);
-                LOGGER.warn(e.getMessage());
+                addContentToZip(sourceJar, pending.remove(), zipOut);
             }
+        } finally {
+            pending.forEach(SourceZipWriterImpl::closeQuietly);
+            executor.shutdownNow();
         }
     }
 
-    private void writeContentToZipEntry(ZipArchiveOutputStream zipOut, File sourceJar, String entryName)
+    /**
+     * Adds the content of a prepared source jar to the zip.
+     *
+     * @param sourceJar the source jar of the artifact
+     * @param prepared  the future with the prepared content of the source jar
+     * @param zipOut    ZipOutputStream for the ZipFile.
+     */
+    private void addContentToZip(SourceJar sourceJar, Future<PreparedSourceJar> prepared, ZipArchiveOutputStream zipOut) {
+        final Artifact artifact = sourceJar.artifact;
+        final Path sourceFile = sourceJar.file;
+        try {
+            LOGGER.debug("Writing File: {}", sourceJar.entryName);
+            try (PreparedSourceJar preparedSourceJar = ConcurrencyUtils.awaitResult(prepared, "Creation of the sources.zip file", IOException.class)) {
+                preparedSourceJar.writeTo(zipOut);
+            }
+        } catch (ZipException e) {
+            if (!e.getMessage().equals("zip file is empty")) {
+                reporter.add(artifact, MessageType.PROCESSING_FAILURE,
+                        e.getMessage() + ": caused by File: " + sourceFile);
+                LOGGER.warn("{}: caused by File: {}", e.getMessage(), sourceFile);
+            }
+        } catch (IOException e) {
+            String message = "An Exception occurred during the creation of the zip file: source of " + artifact + " could not be resolved: " + e.getMessage();
+            this.reporter.add(artifact, MessageType.PROCESSING_FAILURE,
+                    message);
+            LOGGER.warn(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the entries of a source jar. Entries that cannot be copied in
+     * their compressed form are compressed in memory.
+     *
+     * @param sourceJar the source jar
+     * @return the prepared source jar, which has to be closed by the caller
+     * @throws IOException if the source jar cannot be read
+     */
+    private PreparedSourceJar prepare(SourceJar sourceJar) throws IOException {
+        final ZipFile zipFile = new ZipFile(sourceJar.file.toFile());
+        try {
+            final List<PreparedEntry> entries = new ArrayList<>();
+            Enumeration<ZipArchiveEntry> sourceEntries = zipFile.getEntries();
+            while (sourceEntries.hasMoreElements()) {
+                entries.add(prepareEntry(zipFile, sourceEntries.nextElement(), sourceJar.entryName));
+            }
+            return new PreparedSourceJar(zipFile, entries);
+        } catch (IOException | RuntimeException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
+
+    private PreparedEntry prepareEntry(ZipFile zipFile, ZipArchiveEntry sourceEntry, String entryName)
             throws IOException {
-        try (ZipFile zipFile = new ZipFile(sourceJar)) {
-            Enumeration<? extends ZipArchiveEntry> entries = zipFile.getEntries();
-            while (entries.hasMoreElements()) {
-                ZipArchiveEntry zipEntry = entries.nextElement();
-                InputStream inputStream = zipFile.getInputStream(zipEntry);
-                zipOut.putArchiveEntry(new ZipArchiveEntry(entryName + "/" + zipEntry.getName()));
-                byte[] buffer = new byte[1024 * 4];
-                for (int read = inputStream.read(buffer); -1 != read; read = inputStream.read(buffer)) {
-                    zipOut.write(buffer, 0, read);
+        final ZipArchiveEntry entry = new ZipArchiveEntry(entryName + "/" + sourceEntry.getName());
+        entry.setTime(sourceEntry.getTime() == -1 ? DEFAULT_ENTRY_TIME : sourceEntry.getTime());
+        if (canCopyRaw(sourceEntry)) {
+            entry.setMethod(sourceEntry.getMethod());
+            entry.setCrc(sourceEntry.getCrc());
+            entry.setSize(sourceEntry.getSize());
+            entry.setCompressedSize(sourceEntry.getCompressedSize());
+            return new PreparedEntry(entry, sourceEntry, null);
+        }
+
+        final CRC32 crc = new CRC32();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        final Deflater deflater = new Deflater(compressionLevel, true);
+        long size = 0;
+        try (InputStream inputStream = zipFile.getInputStream(sourceEntry);
+             DeflaterOutputStream outputStream = new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = inputStream.read(buffer); -1 != read; read = inputStream.read(buffer)) {
+                crc.update(buffer, 0, read);
+                outputStream.write(buffer, 0, read);
+                size += read;
+            }
+        } finally {
+            deflater.end();
+        }
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setCrc(crc.getValue());
+        entry.setSize(size);
+        entry.setCompressedSize(compressed.size());
+        return new PreparedEntry(entry, null, compressed.toByteArray());
+    }
+
+    /**
+     * Checks whether an entry can be copied without decompressing it: it must
+     * be deflated (or empty) and its sizes and checksum must be known.
+     */
+    private static boolean canCopyRaw(ZipArchiveEntry sourceEntry) {
+        final boolean supportedMethod = sourceEntry.getMethod() == ZipEntry.DEFLATED
+                || sourceEntry.getMethod() == ZipEntry.STORED && sourceEntry.getSize() == 0;
+        return supportedMethod
+                && !sourceEntry.getGeneralPurposeBit().usesEncryption()
+                && sourceEntry.getCrc() != -1
+                && sourceEntry.getSize() != -1
+                && sourceEntry.getCompressedSize() != -1;
+    }
+
+    private static void closeQuietly(Future<PreparedSourceJar> future) {
+        try {
+            ConcurrencyUtils.awaitResult(future, "Creation of the sources.zip file", IOException.class).close();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Discarding source jar that has not been written: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A source jar of an artifact together with the name of the directory
+     * its content is stored in.
+     */
+    private static final class SourceJar {
+        private final Artifact artifact;
+        private final Path file;
+        private final String entryName;
+
+        private SourceJar(Artifact artifact, Path file, String entryName) {
+            this.artifact = artifact;
+            this.file = file;
+            this.entryName = entryName;
+        }
+    }
+
+    /**
+     * An opened source jar with the entries that are ready to be written.
+     */
+    private static final class PreparedSourceJar implements AutoCloseable {
+        private final ZipFile zipFile;
+        private final List<PreparedEntry> entries;
+
+        private PreparedSourceJar(ZipFile zipFile, List<PreparedEntry> entries) {
+            this.zipFile = zipFile;
+            this.entries = entries;
+        }
+
+        private void writeTo(ZipArchiveOutputStream zipOut) throws IOException {
+            for (PreparedEntry entry : entries) {
+                try (InputStream rawStream = entry.rawStream(zipFile)) {
+                    zipOut.addRawArchiveEntry(entry.entry, rawStream);
                 }
-                zipOut.closeArchiveEntry();
-                zipOut.flush();
-                inputStream.close();
             }
         }
+
+        @Override
+        public void close() throws IOException {
+            zipFile.close();
+        }
+    }
+
+    /**
+     * An entry of the target zip with its compressed data, which is either
+     * taken from an entry of the source jar or has been compressed in memory.
+     */
+    private static final class PreparedEntry {
+        private final ZipArchiveEntry entry;
+        private final ZipArchiveEntry sourceEntry;
+        private final byte[] compressedData;
+
+        private PreparedEntry(ZipArchiveEntry entry, ZipArchiveEntry sourceEntry, byte[] compressedData) {
+            this.entry = entry;
+            this.sourceEntry = sourceEntry;
+            this.compressedData = compressedData;
+        }
+
+        private InputStream rawStream(ZipFile zipFile) throws IOException {
+            return compressedData != null ? new ByteArrayInputStream(compressedData) : zipFile.getRawInputStream(sourceEntry);
+        }
     }
 }
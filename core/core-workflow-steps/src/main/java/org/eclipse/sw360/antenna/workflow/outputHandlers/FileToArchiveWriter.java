@@ -11,6 +11,9 @@
 
 package org.eclipse.sw360.antenna.workflow.outputHandlers;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractOutputHandler;
@@ -19,18 +22,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.*;
 
 /**
- * Writes the attribution document to the given archive
+ * Writes the attribution document to the given archive.
+ * <p>
+ * All files to be added to the same archive are written in a single pass: the
+ * existing entries of the archive are copied into a new archive without
+ * recompressing them, followed by the new files. The new archive then replaces
+ * the original one.
  */
 public class FileToArchiveWriter extends AbstractOutputHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileToArchiveWriter.class);
     private static final String INSTRUCTIONS_KEY = "instructions";
+    private static final String SEPARATOR = "/";
 
     private final List<FileToArchiveWriterInstruction> writeToArchiveInstructions = new ArrayList<>();
 
@@ -40,9 +47,11 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
 
     @Override
     public void handle(Map<String, IAttachable> generatedOutput) {
+        Map<Path, Map<Path, Path>> filesPerArchive = new LinkedHashMap<>();
         for (FileToArchiveWriterInstruction instruction : writeToArchiveInstructions) {
-            handleWriteToArchiveInstructions(instruction, generatedOutput);
+            handleWriteToArchiveInstructions(instruction, generatedOutput, filesPerArchive);
         }
+        filesPerArchive.forEach(this::addFilesToArchive);
     }
 
     @Override
@@ -54,7 +63,8 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
         }
     }
 
-    private void handleWriteToArchiveInstructions(FileToArchiveWriterInstruction instruction, Map<String, IAttachable> generatedOutput) {
+    private void handleWriteToArchiveInstructions(FileToArchiveWriterInstruction instruction, Map<String, IAttachable> generatedOutput,
+                                                  Map<Path, Map<Path, Path>> filesPerArchive) {
         Path zipFile = instruction.zipFile;
         if (! zipFile.toFile().exists()) {
             String msg = "zip file=[" + zipFile + "] does not yet exists";
@@ -76,10 +86,33 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
 
         LOGGER.debug("Write file=[{}] to artifact=[{}]", sourcePath, zipFile);
 
-        addFileToArchive(sourcePath, zipFile, pathInArchive);
+        validateFileToAdd(sourcePath, pathInArchive);
+        filesPerArchive.computeIfAbsent(zipFile, path -> new LinkedHashMap<>())
+                .put(pathInArchive, sourcePath);
     }
 
     public void addFileToArchive(Path sourcePath, Path zipFile, Path pathInArchive) {
+        validateFileToAdd(sourcePath, pathInArchive);
+        addFilesToArchive(zipFile, Collections.singletonMap(pathInArchive, sourcePath));
+    }
+
+    /**
+     * Adds multiple files to an archive in a single pass. Existing entries
+     * with the same names are replaced.
+     *
+     * @param zipFile       the archive to be extended
+     * @param filesToAdd    a map with the paths in the archive as keys and the
+     *                      files to be stored there as values
+     */
+    public void addFilesToArchive(Path zipFile, Map<Path, Path> filesToAdd) {
+        try {
+            addNewEntriesToZipFile(zipFile, filesToAdd);
+        } catch (IOException e) {
+            throw new ExecutionException("The files=" + filesToAdd.values() + " could not be added to the archive=[" + zipFile + "]", e);
+        }
+    }
+
+    private void validateFileToAdd(Path sourcePath, Path pathInArchive) {
         if (pathInArchive == null){
             throw new ExecutionException("The argument pathInArchive was empty");
         }
@@ -90,24 +123,61 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
         if(! sourcePath.toFile().exists()){
             throw new ExecutionException("Source file=["+sourcePath+"] does not exist");
         }
+    }
+
+    private void addNewEntriesToZipFile(Path zipFile, Map<Path, Path> filesToAdd) throws IOException {
+        Map<String, Path> newEntries = new LinkedHashMap<>();
+        filesToAdd.forEach((pathInArchive, sourcePath) -> newEntries.put(toEntryName(pathInArchive), sourcePath));
 
+        Path absoluteZipFile = zipFile.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absoluteZipFile.getParent(), absoluteZipFile.getFileName().toString(), ".tmp");
         try {
-            addNewEntryToZipFile(zipFile, pathInArchive, sourcePath);
-        } catch (IOException | URISyntaxException e) {
-            throw new ExecutionException("The file=[" + sourcePath + "] could not be added to the archive=[" + zipFile + "]", e);
+            try (ZipFile originalArchive = new ZipFile(absoluteZipFile.toFile());
+                 ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(tempFile.toFile())) {
+                Set<String> existingNames = new HashSet<>();
+                Enumeration<ZipArchiveEntry> entries = originalArchive.getEntries();
+                while (entries.hasMoreElements()) {
+                    existingNames.add(entries.nextElement().getName());
+                }
+                originalArchive.copyRawEntries(zipOut, entry -> !newEntries.containsKey(entry.getName()));
+
+                for (Map.Entry<String, Path> newEntry : newEntries.entrySet()) {
+                    addMissingDirectories(zipOut, newEntry.getKey(), existingNames);
+                    zipOut.putArchiveEntry(zipOut.createArchiveEntry(newEntry.getValue().toFile(), newEntry.getKey()));
+                    Files.copy(newEntry.getValue(), zipOut);
+                    zipOut.closeArchiveEntry();
+                }
+            }
+            Files.move(tempFile, absoluteZipFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Adds entries for the parent directories of a new entry unless the
+     * archive already contains the directory or other entries in it.
+     */
+    private static void addMissingDirectories(ZipArchiveOutputStream zipOut, String entryName, Set<String> existingNames)
+            throws IOException {
+        int index = entryName.indexOf(SEPARATOR);
+        while (index > 0) {
+            String directory = entryName.substring(0, index + 1);
+            if (existingNames.stream().noneMatch(name -> name.startsWith(directory))) {
+                zipOut.putArchiveEntry(new ZipArchiveEntry(directory));
+                zipOut.closeArchiveEntry();
+            }
+            index = entryName.indexOf(SEPARATOR, index + 1);
         }
+        existingNames.add(entryName);
     }
 
-    private void addNewEntryToZipFile(Path zipFile, Path pathInArchive, Path sourcePath)
-            throws IOException, URISyntaxException {
-        Map<String, String> properties = Collections.singletonMap("create", "false");
-        URI zipFileUri = new URI("jar:" + zipFile.toUri().toString());
-        try (FileSystem zipfs = FileSystems.newFileSystem(zipFileUri, properties)) {
-            Path zipFilePath = zipfs.getPath(pathInArchive.toString()).toAbsolutePath();
-            Path parent = Optional.ofNullable(zipFilePath.getParent())
-                    .orElseThrow(() -> new ExecutionException("parent should exists"));
-            Files.createDirectories(parent);
-            Files.copy(sourcePath, zipFilePath, StandardCopyOption.REPLACE_EXISTING);
+    private static String toEntryName(Path pathInArchive) {
+        StringJoiner name = new StringJoiner(SEPARATOR);
+        pathInArchive.normalize().forEach(element -> name.add(element.toString()));
+        if (name.length() == 0) {
+            throw new ExecutionException("The path in the archive=[" + pathInArchive + "] does not denote a file");
         }
+        return name.toString();
     }
 }
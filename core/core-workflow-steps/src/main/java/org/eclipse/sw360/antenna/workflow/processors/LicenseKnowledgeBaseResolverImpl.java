@@ -19,8 +19,11 @@ import org.eclipse.sw360.antenna.model.license.LicenseInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class LicenseKnowledgeBaseResolverImpl {
@@ -33,7 +36,9 @@ public class LicenseKnowledgeBaseResolverImpl {
 
     /**
      * Adds a license Identifier, a license long name and the text to the
-     * licenses of the artifact list.
+     * licenses of the artifact list. The licenses are grouped by their
+     * configured id, so that every distinct id is looked up only once in the
+     * knowledge base; the groups are resolved in parallel.
      *
      * @param artifacts
      *            List of artifacts which will be resolved
@@ -41,80 +46,90 @@ public class LicenseKnowledgeBaseResolverImpl {
     public Collection<Artifact> resolveKnowledgeBase(Collection<Artifact> artifacts) {
         LOGGER.debug("Resolve license knowledge base with {}", knowledgeBase.getId());
 
+        Map<String, List<License>> licensesById = new LinkedHashMap<>();
         artifacts.stream()
                 .map(artifact -> artifact.askForAll(ArtifactLicenseInformation.class))
                 .flatMap(List::stream)
                 .map(ArtifactLicenseInformation::get)
                 .map(LicenseInformation::getLicenses)
                 .flatMap(Collection::stream)
-                .forEach(license -> {
-                    aliasToIdentifier(license);
-                    setText(license);
-                    setThreatGroup(license);
-                    setClassification(license);
-                });
+                .forEach(license -> licensesById.computeIfAbsent(license.getId(), id -> new ArrayList<>()).add(license));
+
+        LOGGER.debug("Resolving {} distinct license ids", licensesById.size());
+        licensesById.entrySet().parallelStream()
+                .forEach(entry -> resolve(entry.getKey(), entry.getValue()).applyTo(entry.getValue()));
 
         return artifacts;
     }
 
     /**
-     * Replaces the aliases with the license Identifier.
-     * If it is found in the licenseKnowledgeBase.
+     * Looks up the information for the given license id in the knowledge
+     * base. Only the information missing in at least one of the licenses
+     * with this id is requested.
      */
-    private void aliasToIdentifier(License license) {
-        String licenseId = this.knowledgeBase.getLicenseIdForAlias(license.getId());
-        if (licenseId != null) {
-            license.setId(licenseId);
-        } else {
-            licenseId = license.getId();
-        }
-        setLongName(license, licenseId);
+    private ResolvedLicense resolve(String rawId, List<License> licenses) {
+        String licenseId = Optional.ofNullable(knowledgeBase.getLicenseIdForAlias(rawId))
+                .orElse(rawId);
+        String longName = licenses.stream().anyMatch(license -> StringUtils.isEmpty(license.getCommonName()))
+                ? knowledgeBase.getLicenseNameForId(licenseId)
+                : null;
+        String text = licenses.stream().anyMatch(license -> StringUtils.isEmpty(license.getText()))
+                ? knowledgeBase.getTextForId(licenseId)
+                : null;
+        String threatGroup = licenses.stream().anyMatch(license -> isEmpty(license.getThreatGroup()))
+                ? knowledgeBase.getThreatGroupForId(licenseId)
+                : null;
+        String classification = licenses.stream().anyMatch(license -> isEmpty(license.getClassification()))
+                ? knowledgeBase.getClassificationById(licenseId)
+                : null;
+        return new ResolvedLicense(licenseId, longName, text, threatGroup, classification);
     }
 
-    /**
-     * Replaces the longName that belongs to the given licenseId to the license, if
-     * it is found in the knowledgeBase.
-     */
-    private void setLongName(License license, String licenseId) {
-        String configuredLongName = license.getCommonName();
-        if (StringUtils.isEmpty(configuredLongName)) {
-            String longName = this.knowledgeBase.getLicenseNameForId(licenseId);
-            if (longName != null) {
-                license.setCommonName(longName);
-            }
-        }
+    private static boolean isEmpty(Optional<String> property) {
+        return !property.isPresent() || property.get().isEmpty();
     }
 
     /**
-     * Sets text in License of artifact and extends idTextMap in
-     * LicenseKnowledgeBase.
-     *
-     * @param license
-     *            List of licenses for which the text will be set
+     * The information found in the knowledge base for one license id. A
+     * single instance is shared by all licenses with this id, so the license
+     * name and text are referenced rather than looked up for every license.
      */
-    private void setText(License license) {
-        String configuredText = license.getText();
-        if (StringUtils.isEmpty(configuredText)) {
-            String id = license.getId();
-            Optional.ofNullable(knowledgeBase.getTextForId(id))
-                    .ifPresent(license::setText);
-        }
-    }
+    private static final class ResolvedLicense {
+        private final String id;
+        private final String longName;
+        private final String text;
+        private final String threatGroup;
+        private final String classification;
 
-
-    private void setThreatGroup(License license) {
-        Optional<String> threatGroupOfLicense = license.getThreatGroup();
-        if (!threatGroupOfLicense.isPresent() || threatGroupOfLicense.get().isEmpty()) {
-            Optional.ofNullable(this.knowledgeBase.getThreatGroupForId(license.getId()))
-                    .ifPresent(license::setThreatGroup);
+        private ResolvedLicense(String id, String longName, String text, String threatGroup, String classification) {
+            this.id = id;
+            this.longName = longName;
+            this.text = text;
+            this.threatGroup = threatGroup;
+            this.classification = classification;
         }
-    }
 
-    private void setClassification(License license) {
-        Optional<String> classificationOfLicense = license.getClassification();
-        if (!classificationOfLicense.isPresent() || classificationOfLicense.get().isEmpty()) {
-            Optional.ofNullable(this.knowledgeBase.getClassificationById(license.getId()))
-                    .ifPresent(license::setClassification);
+        /**
+         * Replaces the aliases with the license Identifier and sets long name,
+         * text, threat group and classification of the licenses, unless they
+         * are already configured.
+         */
+        private void applyTo(List<License> licenses) {
+            for (License license : licenses) {
+                license.setId(id);
+                if (longName != null && StringUtils.isEmpty(license.getCommonName())) {
+                    license.setCommonName(longName);
+                }
+                if (text != null && StringUtils.isEmpty(license.getText())) {
+                    license.setText(text);
+                }
+                if (threatGroup != null && isEmpty(license.getThreatGroup())) {
+                    license.setThreatGroup(threatGroup);
+                }
+                if (classification != null && isEmpty(license.getClassification())) {
+                    license.setClassification(classification);
+                }
+            }
         }
     }
 }
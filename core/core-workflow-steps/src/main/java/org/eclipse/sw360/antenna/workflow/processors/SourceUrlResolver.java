@@ -17,21 +17,26 @@ import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceUrl;
-import org.eclipse.sw360.antenna.util.HttpHelper;
+import org.eclipse.sw360.antenna.util.DownloadManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 public class SourceUrlResolver extends AbstractProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(SourceUrlResolver.class);
-    private HttpHelper httpHelper;
+    private static final String CACHE_DIRECTORY_KEY = "download.cache.directory";
+    private static final String PARALLEL_DOWNLOADS_KEY = "parallel.downloads";
+
+    private DownloadManager downloadManager;
     private Path dependencyTargetDirectory;
 
     public SourceUrlResolver() {
@@ -47,16 +52,17 @@ public class SourceUrlResolver extends AbstractProcessor {
     }
 
     private void resolveSourceUrls(Collection<Artifact> artifacts) {
+        List<String> sourceUrls = artifacts.stream()
+                .map(artifact -> artifact.askForGet(ArtifactSourceUrl.class))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+        Map<String, File> sourceFiles = downloadManager.downloadAll(sourceUrls, dependencyTargetDirectory);
+
         for (Artifact artifact : artifacts) {
-            Optional<String> sourceUrl = artifact.askForGet(ArtifactSourceUrl.class);
-            if (sourceUrl.isPresent()) {
-                try {
-                    File file = httpHelper.downloadFile(sourceUrl.get(), dependencyTargetDirectory);
-                    artifact.addFact(new ArtifactSourceFile(file.toPath()));
-                } catch (IOException e) {
-                    LOGGER.warn("Issue during download of artifact sources", e);
-                }
-            }
+            artifact.askForGet(ArtifactSourceUrl.class)
+                    .map(sourceFiles::get)
+                    .ifPresent(file -> artifact.addFact(new ArtifactSourceFile(file.toPath())));
         }
     }
 
@@ -64,7 +70,21 @@ public class SourceUrlResolver extends AbstractProcessor {
     public void configure(Map<String,String> configMap) {
         super.configure(configMap);
         ToolConfiguration toolConfig = context.getToolConfiguration();
-        httpHelper = new HttpHelper(context.getHttpClient());
         dependencyTargetDirectory = toolConfig.getDependenciesDirectory();
+        Path cacheDirectory = configMap.containsKey(CACHE_DIRECTORY_KEY) ?
+                Paths.get(getConfigValue(CACHE_DIRECTORY_KEY, configMap)) :
+                getDefaultCacheDirectory();
+        int parallelDownloads = getIntConfigValue(PARALLEL_DOWNLOADS_KEY, configMap,
+                DownloadManager.DEFAULT_PARALLEL_DOWNLOADS, 1, Integer.MAX_VALUE);
+        downloadManager = new DownloadManager(context.getHttpClient(), cacheDirectory, parallelDownloads);
+    }
+
+    /**
+     * Returns the download cache used if none is configured. It is located in
+     * the home directory of the user, so that it is shared by all projects
+     * and survives cleaning a project.
+     */
+    static Path getDefaultCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".m2", "antenna", "download-cache");
     }
 }
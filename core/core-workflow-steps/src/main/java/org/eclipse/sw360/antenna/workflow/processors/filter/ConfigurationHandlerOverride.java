@@ -18,6 +18,7 @@ import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.Configuration;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 
 import java.util.Collection;
@@ -50,10 +51,9 @@ public class ConfigurationHandlerOverride extends AbstractProcessor {
             IProcessingReporter reporter) {
         configureIgnoreForDownload(configuration, artifacts, reporter);
 
-        configuration.getOverride()
-                .forEach((key, override) -> artifacts.stream()
-                        .filter(key::matches)
-                        .forEach(artifact -> overrideArtifact(artifact, override)));
+        ArtifactSelectorIndex<Artifact> overrides = ArtifactSelectorIndex.of(configuration.getOverride());
+        artifacts.forEach(artifact -> overrides.forEachMatching(artifact,
+                override -> overrideArtifact(artifact, override)));
     }
 
     private void overrideArtifact(Artifact artifact, Artifact override) {
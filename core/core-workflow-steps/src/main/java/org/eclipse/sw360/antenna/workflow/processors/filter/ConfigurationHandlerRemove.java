@@ -19,6 +19,7 @@ import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.Configuration;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 
 import java.util.*;
@@ -35,9 +36,10 @@ public class ConfigurationHandlerRemove extends AbstractProcessor {
 
     private void removeProprietaryArtifacts(Collection<Artifact> artifacts, Configuration configuration) {
         IArtifactFilter isProprietaryFilter = new ProprietaryArtifactFilter();
-        List<Artifact> remove = new ArrayList<>();
+        ArtifactSelectorIndex<Artifact> overrides = getNonNullOverrides(configuration);
+        Set<Artifact> remove = Collections.newSetFromMap(new IdentityHashMap<>());
         for (Artifact artifact : artifacts) {
-            boolean overridePropertyValue = getProprietaryOverrideValue(configuration, artifact);
+            boolean overridePropertyValue = getProprietaryOverrideValue(overrides, artifact);
             if (!isProprietaryFilter.passed(artifact)) {
                 if (overridePropertyValue) {
                     reporter.add(artifact, MessageType.ARTIFACT_IS_PROPRIETARY,
@@ -47,12 +49,12 @@ public class ConfigurationHandlerRemove extends AbstractProcessor {
                 }
             }
         }
-        artifacts.removeAll(remove);
+        artifacts.removeIf(remove::contains);
     }
 
     private void removeArtifacts(Collection<Artifact> artifacts, Configuration configuration) {
         List<ArtifactSelector> removeArtifact = configuration.getRemoveArtifact();
-        List<Artifact> remove = new ArrayList<>();
+        Set<Artifact> remove = Collections.newSetFromMap(new IdentityHashMap<>());
         BlacklistFilter configFilter = new BlacklistFilter(removeArtifact);
         for (Artifact artifact : artifacts) {
             if (!configFilter.passed(artifact)) {
@@ -61,15 +63,19 @@ public class ConfigurationHandlerRemove extends AbstractProcessor {
                         "Artifact is removed from artifacts list for processing.");
             }
         }
-        artifacts.removeAll(remove);
+        artifacts.removeIf(remove::contains);
     }
 
-    private boolean getProprietaryOverrideValue(Configuration configuration, Artifact artifact) {
-        return configuration.getOverride().entrySet().stream()
+    private ArtifactSelectorIndex<Artifact> getNonNullOverrides(Configuration configuration) {
+        ArtifactSelectorIndex<Artifact> overrides = new ArtifactSelectorIndex<>();
+        configuration.getOverride().entrySet().stream()
                 .filter(e -> e.getValue() != null)
-                .filter(e -> e.getKey().matches(artifact))
-                .map(Map.Entry::getValue)
-                .findAny()
+                .forEach(e -> overrides.add(e.getKey(), e.getValue()));
+        return overrides;
+    }
+
+    private boolean getProprietaryOverrideValue(ArtifactSelectorIndex<Artifact> overrides, Artifact artifact) {
+        return overrides.findFirstMatching(artifact)
                 .orElse(artifact)
                 .getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY);
     }
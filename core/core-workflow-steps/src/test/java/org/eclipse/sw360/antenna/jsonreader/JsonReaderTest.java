@@ -111,4 +111,16 @@ public class JsonReaderTest {
                     .isTrue();
                 });
     }
+
+    @Test
+    public void testThatTheInputIsRecordedCompletely() throws URISyntaxException, IOException {
+        Path recordFilePath = Paths.get(".", "target", "recording", "data2.json");
+        JsonReader jsonReader = new JsonReader(recordFilePath, Paths.get("tmp"), StandardCharsets.UTF_8);
+        Path input = Paths.get(this.getClass().getClassLoader().getResource("JsonReaderTest/data2.json").toURI());
+
+        artifacts = jsonReader.createArtifactsList(Files.newInputStream(input));
+
+        assertThat(artifacts).isNotEmpty();
+        assertThat(Files.readAllBytes(recordFilePath)).isEqualTo(Files.readAllBytes(input));
+    }
 }
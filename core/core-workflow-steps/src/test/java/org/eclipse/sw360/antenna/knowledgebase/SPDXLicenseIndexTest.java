@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.knowledgebase;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SPDXLicenseIndexTest {
+    private static final String LICENSE_LIST = "{\"licenseListVersion\": \"1.2\", \"licenses\": [" +
+            "{\"reference\": \"./MIT.html\", \"seeAlso\": [\"https://opensource.org/licenses/MIT\"], " +
+            "\"name\": \"MIT License\", \"licenseId\": \"MIT\", \"isOsiApproved\": true}], " +
+            "\"releaseDate\": \"2019-01-01\"}";
+
+    @Test
+    public void readIndexesIdsAndNames() throws IOException {
+        SPDXLicenseIndex index = SPDXLicenseIndex.read(
+                new ByteArrayInputStream(LICENSE_LIST.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(index.getVersion()).isEqualTo("1.2");
+        assertThat(index.contains("MIT")).isTrue();
+        assertThat(index.getName("MIT")).contains("MIT License");
+        assertThat(index.getLicenseId("mit")).contains("MIT");
+        assertThat(index.getName("Unknown-License")).isEmpty();
+    }
+
+    @Test
+    public void bundledIndexProvidesCachedTexts() {
+        SPDXLicenseIndex index = SPDXLicenseIndex.getInstance();
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.getText("Apache-2.0").get()).startsWith("Apache License");
+        assertThat(index.getText("Apache-2.0").get()).isSameAs(index.getText("Apache-2.0").get());
+        assertThat(index.getText("Unknown-License")).isEmpty();
+    }
+}
@@ -51,6 +51,13 @@ public class SPDXLicenseKnowledgeBaseTest {
         assertThat(spdxLicenseKnowledgeBase.getClassificationById("Apache-2.0")).isEmpty();
     }
 
+    @Test
+    public void testLicenseIdForAliasIsTheListedId() {
+        assertThat(spdxLicenseKnowledgeBase.getLicenseIdForAlias("apache-2.0")).isEqualTo("Apache-2.0");
+        assertThat(spdxLicenseKnowledgeBase.getLicenseNameForId("APACHE-2.0")).isEqualTo("Apache License 2.0");
+        verifyZeroInteractions(reportMock);
+    }
+
     @Test
     public void testUnknownSpdxLicense() {
         String licenseNameForId = spdxLicenseKnowledgeBase.getLicenseNameForId("Unknown-License");
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.workflow.generators;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.OverriddenLicenseInformation;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.model.license.License;
+import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class CSVGeneratorTest extends AntennaTestWithMockedContext {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private CSVGenerator csvGenerator;
+    private Collection<Artifact> artifacts;
+
+    @Before
+    public void setUp() {
+        when(toolConfigMock.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(toolConfigMock.getAntennaTargetDirectory()).thenReturn(temporaryFolder.getRoot().toPath());
+
+        csvGenerator = new CSVGenerator();
+        csvGenerator.setAntennaContext(antennaContextMock);
+
+        Artifact mavenArtifact = new Artifact()
+                .addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.test", "test-artifact", "1.0"))
+                .addFact(new ArtifactFilename("test;1.jar"))
+                .addFact(new OverriddenLicenseInformation(new License("Apache-2.0")));
+        Artifact fileArtifact = new Artifact()
+                .addFact(new ArtifactFilename("some \"copied\"\ncode"))
+                .addFact(new OverriddenLicenseInformation(new License("MIT")));
+        artifacts = Arrays.asList(mavenArtifact, fileArtifact);
+    }
+
+    @After
+    public void tearDown() {
+        verify(toolConfigMock).getEncoding();
+        verify(toolConfigMock).getAntennaTargetDirectory();
+    }
+
+    private static final String EXPECTED_CSV = "artifactName;artifactId;groupId;mavenVersion;bundleVersion;license \n" +
+            "\"test;1.jar\";test-artifact;org.test;1.0;;Apache-2.0 \n" +
+            "\"some \"\"copied\"\"\ncode\";;;;;MIT \n";
+
+    @Test
+    public void rowsAreWrittenWithQuotedValues() throws IOException {
+        csvGenerator.configure(Collections.emptyMap());
+
+        Map<String, IAttachable> attachables = csvGenerator.produce(artifacts);
+
+        Path csvFile = temporaryFolder.getRoot().toPath().resolve(CSVGenerator.ANTENNA_ARTIFACT_INFORMATION_CSV);
+        assertThat(new String(Files.readAllBytes(csvFile), StandardCharsets.UTF_8)).isEqualTo(EXPECTED_CSV);
+        assertThat(attachables.get(CSVGenerator.IDENTIFIER).getType()).isEqualTo(CSVGenerator.TYPE);
+    }
+
+    @Test
+    public void outputCanBeCompressed() throws IOException {
+        csvGenerator.configure(Collections.singletonMap("gzip", "true"));
+
+        Map<String, IAttachable> attachables = csvGenerator.produce(artifacts);
+
+        Path csvFile = temporaryFolder.getRoot().toPath()
+                .resolve(CSVGenerator.ANTENNA_ARTIFACT_INFORMATION_CSV + CSVGenerator.GZIP_EXTENSION);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(csvFile))) {
+            assertThat(IOUtils.toString(in, StandardCharsets.UTF_8)).isEqualTo(EXPECTED_CSV);
+        }
+        assertThat(attachables.get(CSVGenerator.IDENTIFIER).getType()).isEqualTo(CSVGenerator.GZIP_TYPE);
+    }
+}
@@ -12,6 +12,8 @@ package org.eclipse.sw360.antenna.workflow.generators;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.sw360.antenna.api.IArtifactFilter;
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
@@ -27,11 +29,17 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.mockito.Mockito.*;
 
@@ -75,12 +83,76 @@ public class SourceZipWriterImplTest {
         assertThatZipFileContainsDuplicateEntries(zipFile, DUPLICATE_ENTRY);
     }
 
+    @Test
+    public void testDeflatedEntriesAreCopiedWithoutRecompression() throws URISyntaxException, IOException {
+        final File zipFile = executeSourceZipWriter(PATH_TO_JAR_WITH_DUPLICATE_ENTRIES);
+
+        try (ZipFile sourceJar = new ZipFile(resourceFile(PATH_TO_JAR_WITH_DUPLICATE_ENTRIES));
+             ZipFile sourcesZip = new ZipFile(zipFile)) {
+            final List<ZipArchiveEntry> sourceEntries = Collections.list(sourceJar.getEntries());
+            final List<ZipArchiveEntry> zipEntries = Collections.list(sourcesZip.getEntries());
+            Assert.assertEquals(sourceEntries.size(), zipEntries.size());
+            for (int i = 0; i < sourceEntries.size(); i++) {
+                final ZipArchiveEntry sourceEntry = sourceEntries.get(i);
+                final ZipArchiveEntry zipEntry = zipEntries.get(i);
+                Assert.assertEquals("c3p0-0.9.5.3-sources/" + sourceEntry.getName(), zipEntry.getName());
+                Assert.assertEquals(sourceEntry.getTime(), zipEntry.getTime());
+                if (sourceEntry.getMethod() == ZipEntry.DEFLATED) {
+                    Assert.assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+                    Assert.assertArrayEquals(IOUtils.toByteArray(sourceJar.getRawInputStream(sourceEntry)),
+                            IOUtils.toByteArray(sourcesZip.getRawInputStream(zipEntry)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStoredEntriesAreCompressed() throws IOException {
+        final byte[] content = StringUtils.repeat("public class Foo {}\n", 100).getBytes(StandardCharsets.UTF_8);
+        final Path sourceJar = temporaryFolder.getRoot().toPath().resolve("stored-sources.jar");
+        try (ZipOutputStream jarOut = new ZipOutputStream(Files.newOutputStream(sourceJar))) {
+            final ZipEntry entry = new ZipEntry("Foo.java");
+            final CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCrc(crc.getValue());
+            jarOut.putNextEntry(entry);
+            jarOut.write(content);
+            jarOut.closeEntry();
+        }
+
+        final File zipFile = executeSourceZipWriter(sourceJar, "sources.zip");
+
+        try (ZipFile sourcesZip = new ZipFile(zipFile)) {
+            final ZipArchiveEntry entry = sourcesZip.getEntry("stored-sources/Foo.java");
+            Assert.assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+            Assert.assertTrue(entry.getCompressedSize() < content.length);
+            Assert.assertArrayEquals(content, IOUtils.toByteArray(sourcesZip.getInputStream(entry)));
+        }
+    }
+
+    @Test
+    public void testZipFileIsDeterministic() throws URISyntaxException, IOException {
+        final Path sourceJar = resourceFile(PATH_TO_JAR_WITH_DUPLICATE_ENTRIES).toPath();
+
+        final File zipFile1 = executeSourceZipWriter(sourceJar, "sources1.zip");
+        final File zipFile2 = executeSourceZipWriter(sourceJar, "sources2.zip");
+
+        Assert.assertArrayEquals(Files.readAllBytes(zipFile1.toPath()), Files.readAllBytes(zipFile2.toPath()));
+    }
+
+    private File resourceFile(final String path) throws URISyntaxException {
+        final URL resource = getClass().getClassLoader().getResource(path);
+        return Paths.get(resource.toURI()).toFile();
+    }
+
     private File executeSourceZipWriter(final String pathToJar) throws URISyntaxException {
-        final URL resource = getClass().getClassLoader().getResource(pathToJar);
-        final File file = Paths.get(resource.toURI()).toFile();
-        final String pathToJarFile = file.getAbsolutePath();
+        return executeSourceZipWriter(resourceFile(pathToJar).toPath(), "sources.zip");
+    }
 
-        final Path pathToSourcesZip = temporaryFolder.getRoot().toPath().resolve("sources.zip");
+    private File executeSourceZipWriter(final Path pathToJarFile, final String zipName) {
+        final Path pathToSourcesZip = temporaryFolder.getRoot().toPath().resolve(zipName);
 
         final SourceZipWriterImpl sourceZipWriter = new SourceZipWriterImpl(pathToSourcesZip,
                 artifactFilterMock,
@@ -88,7 +160,7 @@ public class SourceZipWriterImplTest {
                 processingReporterMock);
 
         final Artifact artifact = new Artifact();
-        final ArtifactSourceFile sourceFile = new ArtifactSourceFile(Paths.get(pathToJarFile));
+        final ArtifactSourceFile sourceFile = new ArtifactSourceFile(pathToJarFile);
         artifact.addFact(sourceFile);
         final List<Artifact> artifacts = Arrays.asList(artifact);
 
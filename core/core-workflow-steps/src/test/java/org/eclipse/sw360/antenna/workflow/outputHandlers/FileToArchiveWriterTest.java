@@ -11,6 +11,8 @@
 package org.eclipse.sw360.antenna.workflow.outputHandlers;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.sw360.antenna.api.Attachable;
+import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,7 +30,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -124,4 +129,28 @@ public class FileToArchiveWriterTest extends AntennaTestWithMockedContext {
         assertThat(contentOfAddedFile).isEqualTo(contentOfInnerFile);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHandleAddsAllFilesForAnArchiveInOnePass() throws Exception {
+        File otherFileToAdd = temporaryFolder.newFile("otherFileToAdd.txt");
+        try (PrintWriter out = new PrintWriter(otherFileToAdd)) {
+            out.print("content of other file");
+        }
+        Map<String, IAttachable> generatedOutput = new HashMap<>();
+        generatedOutput.put("first-output", new Attachable("txt", "first", fileToAddIntoArchive));
+        generatedOutput.put("second-output", new Attachable("txt", "second", otherFileToAdd));
+        String archive = archiveToAddFileIn.getAbsolutePath();
+        fileToArchiveWriter.configure(Collections.singletonMap("instructions",
+                "first-output:" + archive + ":" + innerPath + ";second-output:" + archive + ":firstFile.txt"));
+
+        fileToArchiveWriter.handle(generatedOutput);
+
+        List<String> filesInZip = listContentsOfZip(archiveToAddFileIn);
+        assertThat(filesInZip.stream().map(Paths::get)).contains(innerPath);
+        assertThat(filesInZip).containsAll(originalContentOfZip);
+        assertThat(filesInZip.stream().filter("firstFile.txt"::equals)).hasSize(1);
+        assertThat(getContentOfEntryInZip(archiveToAddFileIn, innerPath.toString())).isEqualTo(contentOfInnerFile);
+        assertThat(getContentOfEntryInZip(archiveToAddFileIn, "firstFile.txt")).isEqualTo("content of other file");
+        assertThat(temporaryFolder.getRoot().list()).hasSize(3);
+    }
+}
@@ -188,6 +188,27 @@ public class LicenseKnowledgeBaseResolverTest extends AntennaTestWithMockedConte
         });
     }
 
+    @Test
+    public void testLicenseIdIsResolvedOnlyOnce() {
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Artifact artifact = new Artifact();
+            artifact.addFact(new ConfiguredLicenseInformation(new License(LICENSE_ID)));
+            artifacts.add(artifact);
+        }
+
+        knowledgeBaseResolver.process(artifacts);
+
+        verify(knowledgeBaseMock, times(1)).getLicenseIdForAlias(LICENSE_ID);
+        verify(knowledgeBaseMock, times(1)).getTextForId(LICENSE_ID);
+        assertThat(artifacts).allSatisfy(artifact -> assertThat(ArtifactLicenseUtils.getFinalLicenses(artifact).getLicenses())
+                .hasOnlyOneElementSatisfying(l -> {
+                    assertThat(l.getCommonName()).isEqualTo(LICENSE_NAME);
+                    assertThat(l.getText()).isSameAs(LICENSE_TEXT);
+                    assertThat(l.getThreatGroup()).hasValue(LICENSE_THREAT_GROUP);
+                }));
+    }
+
     @Override
     @After
     public void assertThatOnlyExpectedMethodsAreCalled() {
@@ -14,7 +14,7 @@ package org.eclipse.sw360.antenna.workflow.processors;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceUrl;
-import org.eclipse.sw360.antenna.util.HttpHelper;
+import org.eclipse.sw360.antenna.util.DownloadManager;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -22,8 +22,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.File;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.sw360.antenna.testing.util.AntennaTestingUtils.setVariableValueInObject;
@@ -34,20 +36,20 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public class SourceUrlResolverTest {
     @Mock
-    private HttpHelper httpHelper;
+    private DownloadManager downloadManager;
 
     private SourceUrlResolver resolver;
 
     @Before
     public void setUp() throws Exception {
         resolver = new SourceUrlResolver();
-        setVariableValueInObject(resolver, "httpHelper", httpHelper);
+        setVariableValueInObject(resolver, "downloadManager", downloadManager);
     }
 
     @Test
     public void processDownloadsSourcesAndSetsTheSourceFileFact() throws Exception {
-        when(httpHelper.downloadFile(eq("https://example.com/artifact0.zip"), any()))
-                .thenReturn(new File("artifact0.zip"));
+        when(downloadManager.downloadAll(eq(Collections.singletonList("https://example.com/artifact0.zip")), any()))
+                .thenReturn(Collections.singletonMap("https://example.com/artifact0.zip", new File("artifact0.zip")));
 
         Artifact artifact0 = new Artifact();
         artifact0.addFact(new ArtifactSourceUrl("https://example.com/artifact0.zip"));
@@ -63,4 +65,11 @@ public class SourceUrlResolverTest {
 
         assertThat(artifact1.askForGet(ArtifactSourceFile.class).isPresent()).isFalse();
     }
+
+    @Test
+    public void defaultCacheDirectoryIsInTheHomeDirectoryOfTheUser() {
+        assertThat(SourceUrlResolver.getDefaultCacheDirectory())
+                .startsWithRaw(Paths.get(System.getProperty("user.home")))
+                .endsWithRaw(Paths.get("download-cache"));
+    }
 }
\ No newline at end of file
@@ -12,8 +12,11 @@ package org.eclipse.sw360.antenna.api.workflow;
 
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 
 public abstract class AbstractProcessor extends ConfigurableWorkflowItem {
     final public WorkflowStepResult process(ProcessingState previousState) throws ExecutionException {
@@ -26,4 +29,30 @@ public abstract class AbstractProcessor extends ConfigurableWorkflowItem {
     public WorkflowStepResult postProcessResult(WorkflowStepResult result) {
         return result;
     }
+
+    /**
+     * The classes of the facts this processor reads from the artifacts. Declaring
+     * {@link ArtifactFact} itself means that every fact may be read.
+     *
+     * A processor which declares both its read and its written facts promises to only
+     * change facts of the artifacts it is given and to return exactly these artifacts.
+     * In a workflow with parallel execution such processors can be run concurrently with
+     * their neighbours, as long as none of them writes facts the others read or write.
+     *
+     * @return The read facts, or an empty optional if they are unknown. Processors with
+     * unknown facts are always executed on their own.
+     */
+    public Optional<Set<Class<? extends ArtifactFact>>> getReadFacts() {
+        return Optional.empty();
+    }
+
+    /**
+     * The classes of the facts this processor adds to or changes on the artifacts.
+     *
+     * @return The written facts, or an empty optional if they are unknown.
+     * @see #getReadFacts()
+     */
+    public Optional<Set<Class<? extends ArtifactFact>>> getWrittenFacts() {
+        return Optional.empty();
+    }
 }
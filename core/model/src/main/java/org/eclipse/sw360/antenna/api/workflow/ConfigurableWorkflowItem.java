@@ -80,6 +80,29 @@ public abstract class ConfigurableWorkflowItem {
         return "true".equals(getConfigValue(key, configMap, "false").toLowerCase());
     }
 
+    public int getIntConfigValue(String key, Map<String, String> configMap, int defaultValue, int minValue, int maxValue) {
+        final String value = configMap.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        final String error = maxValue == Integer.MAX_VALUE
+                ? String.format("The value of '%s' must be a number not less than %d, but is '%s'.", key, minValue, value)
+                : String.format("The value of '%s' must be a number between %d and %d, but is '%s'.", key, minValue, maxValue, value);
+        final int result;
+        try {
+            result = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.error(error);
+            throw new ConfigurationException(error, e);
+        }
+        if (result < minValue || result > maxValue) {
+            LOGGER.error(error);
+            throw new ConfigurationException(error);
+        }
+        return result;
+    }
+
     public List<String> getCommaSeparatedConfigValue(String key, Map<String,String> configMap) {
         final String configValue = getConfigValue(key, configMap, "");
         if ("".equals(configValue)) {
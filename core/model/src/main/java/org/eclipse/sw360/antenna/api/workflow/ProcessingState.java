@@ -14,6 +14,7 @@ package org.eclipse.sw360.antenna.api.workflow;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactIdentifierIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,7 +22,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public class ProcessingState {
-    private List<Artifact> artifacts = new ArrayList<>();
+    private final List<Artifact> artifacts = new ArrayList<>();
     private final Map<String,IAttachable> attachableMap = new HashMap<>();
     private final List<String> additionalReportComments = new ArrayList<>();
     private final Map<String, Set<IEvaluationResult>> failCausingResults = new HashMap<>();
@@ -36,8 +37,25 @@ public class ProcessingState {
         initialResults.forEach(wsr -> applyWorkflowStepResult(wsr, true));
     }
 
-    public Set<Artifact> getArtifacts() {
-        return new HashSet<>(artifacts);
+    /**
+     * @return A snapshot of the current artifacts in the order they were added. An artifact which was added more
+     * than once is contained only once; artifacts are compared by identity, so the snapshot can be created without
+     * hashing the artifacts and their facts. The snapshot belongs to the caller: it can be changed without affecting
+     * the state, while changes to the artifacts themselves are shared.
+     */
+    public List<Artifact> getArtifacts() {
+        Set<Artifact> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        return artifacts.stream()
+                .filter(seen::add)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * @return An unmodifiable live view of the current artifacts for read-only access, which might contain an
+     * artifact more than once.
+     */
+    public List<Artifact> getArtifactsView() {
+        return Collections.unmodifiableList(artifacts);
     }
 
     public Map<String, IAttachable> getAttachables() {
@@ -60,7 +78,9 @@ public class ProcessingState {
         if(forceAppend || workflowStepResult.isArtifactsShouldBeAppended()){
             artifacts.addAll(workflowStepResult.getArtifacts());
         } else {
-            artifacts = new ArrayList<>(workflowStepResult.getArtifacts());
+            List<Artifact> replacement = new ArrayList<>(workflowStepResult.getArtifacts());
+            artifacts.clear();
+            artifacts.addAll(replacement);
         }
         attachableMap.putAll(workflowStepResult.getAttachables());
         additionalReportComments.addAll(workflowStepResult.getAdditionalReportComments());
@@ -70,12 +90,15 @@ public class ProcessingState {
     }
 
     private void checkingDuplicateArtifactsInWorkflowStepResults(Collection<WorkflowStepResult> initialResults) {
+        Map<WorkflowStepResult, ArtifactIdentifierIndex> indexes = new IdentityHashMap<>();
+        initialResults.forEach(ir -> indexes.put(ir, new ArtifactIdentifierIndex(ir.getArtifacts())));
+
         List<Artifact> potentialArtifactDuplicates = initialResults.stream()
                 .filter(WorkflowStepResult::isArtifactsShouldBeAppended)
                 .flatMap(ir ->
                         initialResults.stream()
                                 .filter(ir2 -> !ir2.equals(ir))
-                                .map(ir::getPotentialDuplicatesWith)
+                                .map(ir2 -> ir.getPotentialDuplicatesWith(indexes.get(ir2)))
                 )
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
@@ -16,17 +16,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class ArtifactCore
         implements IPrettyPrintable{
-    private final Map<Class<? extends ArtifactFact>, ArtifactFact> artifactFacts = new HashMap<>();
+    /*
+     * The facts are stored in slots indexed by the ordinal of their key class, see ArtifactFactClasses.
+     * Processors which declare disjoint facts may be executed concurrently on the same artifacts,
+     * hence facts are written under the lock of the artifact and the slots are read atomically.
+     */
+    private static final AtomicReferenceArray<ArtifactFact> NO_FACTS = new AtomicReferenceArray<>(0);
+    private volatile AtomicReferenceArray<ArtifactFact> artifactFacts = NO_FACTS;
     private final ArtifactFlags artifactFlags = new ArtifactFlags();
     private final Optional<String> analysisSource;
+    /*
+     * Values computed from the facts, cached until a fact is added. They are not part of the state of the artifact.
+     * Every value records the version of the facts it was computed from, so a value computed while a fact is added
+     * is not used afterwards.
+     */
+    private final Map<Object, DerivedValue> derivedValues = new ConcurrentHashMap<>();
+    private volatile long factsVersion;
 
-    private final Logger LOGGER =  LoggerFactory.getLogger(ArtifactCore.class);
+    private static final Logger LOGGER =  LoggerFactory.getLogger(ArtifactCore.class);
 
     public ArtifactCore() {
         analysisSource = Optional.empty();
@@ -36,32 +50,68 @@ public class ArtifactCore
         this.analysisSource = Optional.ofNullable(analysisSource);
     }
 
-    private <T extends ArtifactFact> Predicate<T> not(Predicate<T> predicate) {
-        return predicate.negate();
-    }
+    @SuppressWarnings("unchecked")
+    public ArtifactCore addFact(ArtifactFact artifactFact) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(artifactFact.prettyPrint());
+        }
 
-    private <T extends ArtifactFact> Stream<T> filterEmptyFacts(Stream<T> stream) {
-        return stream
-                .filter(not(ArtifactFact::isEmpty));
-    }
+        final int ordinal = ArtifactFactClasses.register(artifactFact.getKey());
 
-    private <T extends ArtifactFact> Optional<T> filterEmptyFacts(Optional<T> stream) {
-        return stream
-                .filter(not(ArtifactFact::isEmpty));
+        synchronized (this) {
+            AtomicReferenceArray<ArtifactFact> facts = artifactFacts;
+            if (ordinal >= facts.length()) {
+                AtomicReferenceArray<ArtifactFact> grown = new AtomicReferenceArray<>(ArtifactFactClasses.size());
+                for (int i = 0; i < facts.length(); i++) {
+                    grown.set(i, facts.get(i));
+                }
+                artifactFacts = grown;
+                facts = grown;
+            }
+            final ArtifactFact existing = facts.get(ordinal);
+            facts.set(ordinal, existing == null ? artifactFact : existing.mergeWith(artifactFact));
+            factsVersion++;
+        }
+        return this;
     }
 
+    /**
+     * Returns a value computed from the facts of this artifact. The value is computed on first use and cached until
+     * a fact is added, so that workflow steps can share expensive information derived from the facts, e.g. the final
+     * licenses. Changes made to the payload of a fact in place are not detected.
+     *
+     * @param key         identifies the value, compared by identity
+     * @param computation computes the value from this artifact
+     * @param <T>         the type of the value
+     * @return the cached or newly computed value
+     */
     @SuppressWarnings("unchecked")
-    public ArtifactCore addFact(ArtifactFact artifactFact) {
-        LOGGER.trace(artifactFact.prettyPrint());
+    public <T> T getDerivedValue(Object key, Function<? super ArtifactCore, ? extends T> computation) {
+        final long version = factsVersion;
+        final DerivedValue cached = derivedValues.get(key);
+        if (cached != null && cached.factsVersion == version) {
+            return (T) cached.value;
+        }
+        final T value = computation.apply(this);
+        derivedValues.put(key, new DerivedValue(version, value));
+        return value;
+    }
 
-        final Class<? extends ArtifactFact> rowClass = artifactFact.getKey();
+    private ArtifactFact getFact(int ordinal) {
+        final AtomicReferenceArray<ArtifactFact> facts = artifactFacts;
+        return ordinal >= 0 && ordinal < facts.length() ? facts.get(ordinal) : null;
+    }
 
-        if(artifactFacts.containsKey(rowClass)) {
-            artifactFacts.put(rowClass, artifactFacts.get(rowClass).mergeWith(artifactFact));
-        } else {
-            artifactFacts.put(rowClass, artifactFact);
+    private List<ArtifactFact> getNonEmptyFacts() {
+        final AtomicReferenceArray<ArtifactFact> facts = artifactFacts;
+        final List<ArtifactFact> result = new ArrayList<>();
+        for (int i = 0; i < facts.length(); i++) {
+            final ArtifactFact fact = facts.get(i);
+            if (fact != null && !fact.isEmpty()) {
+                result.add(fact);
+            }
         }
-        return this;
+        return result;
     }
 
     public ArtifactCore addCoordinate(Coordinate coordinate) {
@@ -86,18 +136,23 @@ public class ArtifactCore
 
     @SuppressWarnings("unchecked")
     public <T extends ArtifactFact> Optional<T> askFor(Class<T> rowClass) {
-        return filterEmptyFacts(Optional.ofNullable(artifactFacts.get(rowClass))
-                .filter(rowClass::isInstance)
-                .map(rowClass::cast));
+        final ArtifactFact fact = getFact(ArtifactFactClasses.ordinalOf(rowClass));
+        if (fact == null || fact.isEmpty() || !rowClass.isInstance(fact)) {
+            return Optional.empty();
+        }
+        return Optional.of(rowClass.cast(fact));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends ArtifactFact> List<T> askForAll(Class<T> rowSuperClass) {
-        return filterEmptyFacts(artifactFacts.entrySet().stream()
-                .filter(classArtifactFactEntry -> rowSuperClass.isAssignableFrom(classArtifactFactEntry.getKey()))
-                .map(Map.Entry::getValue)
-                .map(o -> (T) o))
-                .collect(Collectors.toList());
+        final List<T> result = new ArrayList<>();
+        for (int ordinal : ArtifactFactClasses.ordinalsAssignableTo(rowSuperClass)) {
+            final ArtifactFact fact = getFact(ordinal);
+            if (fact != null && !fact.isEmpty()) {
+                result.add((T) fact);
+            }
+        }
+        return result;
     }
 
     @SuppressWarnings("unchecked")
@@ -130,7 +185,7 @@ public class ArtifactCore
     }
 
     public void overrideWith(ArtifactCore artifactWithPrecedence) {
-        filterEmptyFacts(artifactWithPrecedence.artifactFacts.values().stream())
+        artifactWithPrecedence.getNonEmptyFacts()
                 .forEach(this::addFact);
         artifactWithPrecedence.artifactFlags.getRawContent()
                 .forEach(this::setFlag);
@@ -152,11 +207,11 @@ public class ArtifactCore
                     .append(")");
         }
         stringBuilder.append(": ");
-        if((artifactFacts.isEmpty() || artifactFacts.values().stream().allMatch(ArtifactFact::isEmpty)) &&
-                artifactFlags.isEmpty()) {
+        final List<ArtifactFact> facts = getNonEmptyFacts();
+        if(facts.isEmpty() && artifactFlags.isEmpty()) {
             stringBuilder.append("empty");
         } else {
-            stringBuilder.append(filterEmptyFacts(artifactFacts.values().stream())
+            stringBuilder.append(facts.stream()
                     .map(IPrettyPrintable::prettyPrint)
                     .sorted()
                     .collect(Collectors.joining("\n\t")));
@@ -188,13 +243,38 @@ public class ArtifactCore
         if (this == o) return true;
         if (!(o instanceof ArtifactCore)) return false;
         ArtifactCore that = (ArtifactCore) o;
-        return Objects.equals(artifactFacts, that.artifactFacts) &&
+        return factsEqual(that) &&
                 Objects.equals(artifactFlags, that.artifactFlags) &&
                 Objects.equals(analysisSource, that.analysisSource);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(artifactFacts, artifactFlags, analysisSource);
+        int factsHash = 0;
+        final AtomicReferenceArray<ArtifactFact> facts = artifactFacts;
+        for (int i = 0; i < facts.length(); i++) {
+            factsHash += Objects.hashCode(facts.get(i));
+        }
+        return Objects.hash(factsHash, artifactFlags, analysisSource);
+    }
+
+    private static final class DerivedValue {
+        private final long factsVersion;
+        private final Object value;
+
+        private DerivedValue(long factsVersion, Object value) {
+            this.factsVersion = factsVersion;
+            this.value = value;
+        }
+    }
+
+    private boolean factsEqual(ArtifactCore that) {
+        final int length = Math.max(artifactFacts.length(), that.artifactFacts.length());
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(getFact(i), that.getFact(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 }
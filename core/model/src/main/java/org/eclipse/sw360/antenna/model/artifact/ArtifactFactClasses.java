@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.artifact;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Assigns an ordinal to every fact class which is used as key of a fact, so that artifacts can store their facts in
+ * a slot array. Also keeps a table of the ordinals of all keys which are subtypes of a given class.
+ */
+final class ArtifactFactClasses {
+    private static final Object LOCK = new Object();
+    private static final Map<Class<?>, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Subtypes> SUBTYPES = new ConcurrentHashMap<>();
+    private static volatile Class<?>[] classes = new Class<?>[0];
+
+    private ArtifactFactClasses() {
+        // only static methods
+    }
+
+    /*
+     * @return the ordinal of the class, or -1 if it has never been used as a key
+     */
+    static int ordinalOf(Class<?> factClass) {
+        Integer ordinal = ORDINALS.get(factClass);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    static int register(Class<?> factClass) {
+        Integer ordinal = ORDINALS.get(factClass);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (LOCK) {
+            ordinal = ORDINALS.get(factClass);
+            if (ordinal == null) {
+                ordinal = classes.length;
+                Class<?>[] extended = Arrays.copyOf(classes, ordinal + 1);
+                extended[ordinal] = factClass;
+                classes = extended;
+                ORDINALS.put(factClass, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
+    static int size() {
+        return classes.length;
+    }
+
+    /*
+     * @return the ordinals of all registered keys which are assignable to the given class, in ascending order
+     */
+    static int[] ordinalsAssignableTo(Class<?> superClass) {
+        final Class<?>[] registered = classes;
+        Subtypes subtypes = SUBTYPES.get(superClass);
+        if (subtypes == null || subtypes.registeredClasses != registered.length) {
+            subtypes = new Subtypes(superClass, registered);
+            SUBTYPES.put(superClass, subtypes);
+        }
+        return subtypes.ordinals;
+    }
+
+    /*
+     * The subtypes of a class among the first registeredClasses keys, recomputed when new keys are registered.
+     */
+    private static final class Subtypes {
+        private final int registeredClasses;
+        private final int[] ordinals;
+
+        private Subtypes(Class<?> superClass, Class<?>[] registered) {
+            int[] assignable = new int[registered.length];
+            int count = 0;
+            for (int i = 0; i < registered.length; i++) {
+                if (superClass.isAssignableFrom(registered[i])) {
+                    assignable[count++] = i;
+                }
+            }
+            registeredClasses = registered.length;
+            ordinals = Arrays.copyOf(assignable, count);
+        }
+    }
+}
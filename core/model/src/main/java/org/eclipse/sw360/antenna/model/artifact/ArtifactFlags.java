@@ -11,37 +11,103 @@
 
 package org.eclipse.sw360.antenna.model.artifact;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * The flags of an artifact. Every flag name gets a global index, the flags of an artifact are stored as two bits
+ * per index: whether the flag is set and its value.
+ */
 public class ArtifactFlags
         implements IPrettyPrintable {
-    private final Map<String,Boolean> flags = new HashMap<>();
+    private static final Object LOCK = new Object();
+    private static final Map<String, Integer> FLAG_INDICES = new ConcurrentHashMap<>();
+    private static volatile String[] flagNames = new String[0];
+
+    private static final int FLAGS_PER_WORD = Long.SIZE / 2;
+    private static final long[] NO_FLAGS = new long[0];
+
+    private long[] words = NO_FLAGS;
+
+    private static int indexOf(String key) {
+        Integer index = FLAG_INDICES.get(key);
+        return index == null ? -1 : index;
+    }
+
+    private static int register(String key) {
+        Integer index = FLAG_INDICES.get(key);
+        if (index != null) {
+            return index;
+        }
+        synchronized (LOCK) {
+            index = FLAG_INDICES.get(key);
+            if (index == null) {
+                index = flagNames.length;
+                String[] extended = Arrays.copyOf(flagNames, index + 1);
+                extended[index] = key;
+                flagNames = extended;
+                FLAG_INDICES.put(key, index);
+            }
+            return index;
+        }
+    }
 
     public String prettyPrint() {
-        return flags.entrySet().stream()
+        return getRawContent().entrySet().stream()
                 .map(e -> e.getKey() + ": " + e.getValue().toString())
                 .collect(Collectors.joining(", ", "[", "]"));
     }
 
-    public void setFlag(String key, boolean value) {
-        flags.put(key,value);
+    public synchronized void setFlag(String key, boolean value) {
+        final int index = register(key);
+        final int word = index / FLAGS_PER_WORD;
+        final int shift = 2 * (index % FLAGS_PER_WORD);
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        words[word] = (words[word] & ~(3L << shift)) | (1L << shift) | ((value ? 1L : 0L) << (shift + 1));
+    }
+
+    public synchronized boolean getFlag(String key) {
+        final int index = indexOf(key);
+        if (index < 0 || index / FLAGS_PER_WORD >= words.length) {
+            return false;
+        }
+        return (words[index / FLAGS_PER_WORD] & (1L << (2 * (index % FLAGS_PER_WORD) + 1))) != 0;
     }
 
-    public boolean getFlag(String key) {
-        return Optional.ofNullable(flags.get(key))
-                .orElse(false);
+    public synchronized Map<String,Boolean> getRawContent() {
+        final String[] names = flagNames;
+        final Map<String, Boolean> content = new HashMap<>();
+        for (int word = 0; word < words.length; word++) {
+            for (int i = 0; i < FLAGS_PER_WORD; i++) {
+                final int shift = 2 * i;
+                if ((words[word] & (1L << shift)) != 0) {
+                    content.put(names[word * FLAGS_PER_WORD + i], (words[word] & (1L << (shift + 1))) != 0);
+                }
+            }
+        }
+        return content;
     }
 
-    public Map<String,Boolean> getRawContent() {
-        return new HashMap<>(flags);
+    public synchronized boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public boolean isEmpty() {
-        return flags.isEmpty();
+    private synchronized long[] snapshot() {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(words, length);
     }
 
     @Override
@@ -49,11 +115,11 @@ public class ArtifactFlags
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ArtifactFlags that = (ArtifactFlags) o;
-        return Objects.equals(flags, that.flags);
+        return Arrays.equals(snapshot(), that.snapshot());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(flags);
+        return Arrays.hashCode(snapshot());
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.artifact;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index over the identifiers of a collection of artifacts, which allows to find the potential duplicates of an
+ * artifact without comparing it to every indexed artifact.
+ *
+ * Every identifier is reduced to normalized keys (coordinate type and name, file name, hash, path). Two artifacts
+ * can only be duplicates if they share such a key. Identifiers which can match without sharing a key, i.e.
+ * identifiers containing wildcards or missing the relevant parts, cannot be keyed; artifacts having such an
+ * identifier are compared with every other artifact. The candidates found by the index are always verified with
+ * {@link Artifact#isPotentialDuplicateOf(Artifact)} or the given matcher, so the results are the same as when
+ * comparing all pairs.
+ *
+ * The index does not observe changes of the artifacts. If an indexed artifact gets new identifiers, it has to be
+ * added again.
+ */
+public class ArtifactIdentifierIndex {
+    private final List<Artifact> artifacts = new ArrayList<>();
+    private final Map<Artifact, Integer> artifactIds = new IdentityHashMap<>();
+    private final Map<String, BitSet> buckets = new HashMap<>();
+    private final BitSet unkeyedArtifacts = new BitSet();
+
+    public ArtifactIdentifierIndex() {
+    }
+
+    public ArtifactIdentifierIndex(Collection<Artifact> artifacts) {
+        artifacts.forEach(this::add);
+    }
+
+    /**
+     * Adds the artifact to the index. Adding an artifact which is already part of the index updates its keys.
+     *
+     * @param artifact the artifact to index
+     */
+    public void add(Artifact artifact) {
+        Integer id = artifactIds.get(artifact);
+        if (id == null) {
+            id = artifacts.size();
+            artifacts.add(artifact);
+            artifactIds.put(artifact, id);
+        }
+        final int artifactId = id;
+        ArtifactIdentifierKeys keys = ArtifactIdentifierKeys.of(artifact);
+        if (keys.isUnkeyed()) {
+            unkeyedArtifacts.set(artifactId);
+        }
+        keys.getKeys().forEach(key -> buckets.computeIfAbsent(key, k -> new BitSet()).set(artifactId));
+    }
+
+    /**
+     * @param artifact the artifact to look for
+     * @return all indexed artifacts which are potential duplicates of the given artifact, in the order they were
+     * added to the index. The artifact itself is not part of the result.
+     */
+    public List<Artifact> findPotentialDuplicates(Artifact artifact) {
+        return findMatching(artifact, candidate -> candidate.isPotentialDuplicateOf(artifact));
+    }
+
+    /**
+     * @param artifact the artifact to look for
+     * @param matcher  the check a candidate has to pass
+     * @return the first indexed artifact which shares an identifier key with the given artifact and passes the
+     * matcher. The matcher must not accept artifacts which are no potential duplicates.
+     */
+    public Optional<Artifact> findFirstMatching(Artifact artifact, Predicate<Artifact> matcher) {
+        BitSet candidates = getCandidates(artifact);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            Artifact candidate = artifacts.get(id);
+            if (candidate != artifact && matcher.test(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<Artifact> findMatching(Artifact artifact, Predicate<Artifact> matcher) {
+        List<Artifact> result = new ArrayList<>();
+        BitSet candidates = getCandidates(artifact);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            Artifact candidate = artifacts.get(id);
+            if (candidate != artifact && matcher.test(candidate)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private BitSet getCandidates(Artifact artifact) {
+        ArtifactIdentifierKeys keys = ArtifactIdentifierKeys.of(artifact);
+        BitSet candidates = new BitSet();
+        if (keys.isUnkeyed()) {
+            candidates.set(0, artifacts.size());
+            return candidates;
+        }
+        candidates.or(unkeyedArtifacts);
+        keys.getKeys().stream()
+                .map(buckets::get)
+                .filter(Objects::nonNull)
+                .forEach(candidates::or);
+        return candidates;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.artifact;
+
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIdentifier;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * The normalized keys of artifact identifiers (coordinate type and name, file name, hash, path), together with the
+ * information whether one of the identifiers can match without sharing a key. Two identifiers can only match each
+ * other in either direction if they share a key or one of them is unkeyed.
+ */
+final class ArtifactIdentifierKeys {
+    private final Set<String> keys = new HashSet<>();
+    private boolean unkeyed = false;
+
+    static ArtifactIdentifierKeys of(Artifact artifact) {
+        ArtifactIdentifierKeys result = new ArtifactIdentifierKeys();
+        for (ArtifactIdentifier identifier : artifact.getArtifactIdentifiers()) {
+            result.addKeysOf(identifier);
+        }
+        return result;
+    }
+
+    static ArtifactIdentifierKeys of(ArtifactIdentifier identifier) {
+        ArtifactIdentifierKeys result = new ArtifactIdentifierKeys();
+        result.addKeysOf(identifier);
+        return result;
+    }
+
+    Set<String> getKeys() {
+        return keys;
+    }
+
+    boolean isUnkeyed() {
+        return unkeyed;
+    }
+
+    private void addKeysOf(ArtifactIdentifier identifier) {
+        if (identifier instanceof ArtifactCoordinates) {
+            ((ArtifactCoordinates) identifier).getCoordinates().forEach(this::addCoordinateKey);
+        } else if (identifier instanceof ArtifactFilename) {
+            ((ArtifactFilename) identifier).getArtifactFilenameEntries().forEach(this::addFilenameKeys);
+        } else if (identifier instanceof ArtifactPathnames) {
+            Optional.ofNullable(((ArtifactPathnames) identifier).get())
+                    .ifPresent(pathnames -> pathnames.stream()
+                            .filter(Objects::nonNull)
+                            .forEach(this::addPathnameKeys));
+        } else if (identifier instanceof ArtifactFile) {
+            keys.add("file:" + ((ArtifactFile) identifier).get());
+        } else {
+            unkeyed = true;
+        }
+    }
+
+    private void addCoordinateKey(Coordinate coordinate) {
+        if (WildcardMatcher.isLiteral(coordinate.getName())) {
+            keys.add("coordinate:" + coordinate.getType() + ":" + coordinate.getName());
+        } else {
+            unkeyed = true;
+        }
+    }
+
+    private void addFilenameKeys(ArtifactFilename.ArtifactFilenameEntry entry) {
+        final String filename = entry.getFilename();
+        final String hash = entry.getHash();
+        if (filename != null && !WildcardMatcher.isLiteral(filename) || filename == null && !WildcardMatcher.isLiteral(hash)) {
+            unkeyed = true;
+            return;
+        }
+        if (filename != null) {
+            keys.add("filename:" + basename(filename));
+        }
+        if (WildcardMatcher.isLiteral(hash)) {
+            keys.add("hash:" + hash);
+        }
+    }
+
+    private void addPathnameKeys(String pathname) {
+        keys.add("pathname:" + pathname);
+        keys.add("filename:" + basename(pathname));
+    }
+
+    private static String basename(String path) {
+        return path.substring(Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.artifact;
+
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIdentifier;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Index over a list of artifact selectors with associated values, e.g. the overrides of a configuration, which
+ * allows to find the selectors matching an artifact without testing every selector.
+ *
+ * Selectors are keyed by the identifier keys an artifact must have to be matched, i.e. by the exact coordinate
+ * names, file names and hashes they contain. Selectors which cannot be keyed, e.g. because they contain wildcards,
+ * are tested for every artifact. Candidates are always verified with {@link ArtifactSelector#matches(Artifact)},
+ * so the results are the same as when testing every selector.
+ *
+ * @param <T> the type of the values associated with the selectors
+ */
+public class ArtifactSelectorIndex<T> {
+    private final List<ArtifactSelector> selectors = new ArrayList<>();
+    private final List<T> values = new ArrayList<>();
+    private final Map<String, BitSet> buckets = new HashMap<>();
+    private final BitSet unkeyedSelectors = new BitSet();
+
+    public static ArtifactSelectorIndex<ArtifactSelector> of(Collection<? extends ArtifactSelector> selectors) {
+        ArtifactSelectorIndex<ArtifactSelector> index = new ArtifactSelectorIndex<>();
+        selectors.forEach(selector -> index.add(selector, selector));
+        return index;
+    }
+
+    public static <T> ArtifactSelectorIndex<T> of(Map<? extends ArtifactSelector, ? extends T> selectorsWithValues) {
+        ArtifactSelectorIndex<T> index = new ArtifactSelectorIndex<>();
+        selectorsWithValues.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * @param selector the selector to index
+     * @param value    the value which is returned if the selector matches
+     */
+    public void add(ArtifactSelector selector, T value) {
+        final int id = selectors.size();
+        selectors.add(selector);
+        values.add(value);
+        Optional<Set<String>> keys = keysOf(selector);
+        if (keys.isPresent()) {
+            keys.get().forEach(key -> buckets.computeIfAbsent(key, k -> new BitSet()).set(id));
+        } else {
+            unkeyedSelectors.set(id);
+        }
+    }
+
+    /**
+     * @param artifact the artifact to match
+     * @return the values of all selectors matching the artifact, in the order the selectors were added
+     */
+    public List<T> findMatching(Artifact artifact) {
+        List<T> result = new ArrayList<>();
+        BitSet candidates = getCandidates(artifact);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (selectors.get(id).matches(artifact)) {
+                result.add(values.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes the values of the selectors matching the artifact to the action, in the order the selectors were added.
+     * The artifact is matched again after each action, so an action may change the artifact, e.g. its coordinates,
+     * and thus decide which of the later selectors match.
+     *
+     * @param artifact the artifact to match
+     * @param action   the action to perform for the value of each matching selector
+     */
+    public void forEachMatching(Artifact artifact, Consumer<? super T> action) {
+        int id = nextMatching(artifact, getCandidates(artifact), 0);
+        while (id >= 0) {
+            action.accept(values.get(id));
+            id = nextMatching(artifact, getCandidates(artifact), id + 1);
+        }
+    }
+
+    /**
+     * @param artifact the artifact to match
+     * @return the value of the first added selector matching the artifact
+     */
+    public Optional<T> findFirstMatching(Artifact artifact) {
+        BitSet candidates = getCandidates(artifact);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (selectors.get(id).matches(artifact)) {
+                return Optional.ofNullable(values.get(id));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param artifact the artifact to match
+     * @return true, if any of the selectors matches the artifact
+     */
+    public boolean matchesAny(Artifact artifact) {
+        BitSet candidates = getCandidates(artifact);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (selectors.get(id).matches(artifact)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return selectors.isEmpty();
+    }
+
+    private int nextMatching(Artifact artifact, BitSet candidates, int fromId) {
+        for (int id = candidates.nextSetBit(fromId); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (selectors.get(id).matches(artifact)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private BitSet getCandidates(Artifact artifact) {
+        ArtifactIdentifierKeys keys = ArtifactIdentifierKeys.of(artifact);
+        BitSet candidates = new BitSet();
+        if (keys.isUnkeyed()) {
+            candidates.set(0, selectors.size());
+            return candidates;
+        }
+        candidates.or(unkeyedSelectors);
+        keys.getKeys().stream()
+                .map(buckets::get)
+                .filter(Objects::nonNull)
+                .forEach(candidates::or);
+        return candidates;
+    }
+
+    /*
+     * The keys of which a matching artifact has to have at least one, or an empty optional if there are no such keys.
+     */
+    private static Optional<Set<String>> keysOf(ArtifactSelector selector) {
+        if (selector instanceof ArtifactIdentifier) {
+            ArtifactIdentifierKeys keys = ArtifactIdentifierKeys.of((ArtifactIdentifier) selector);
+            return keys.isUnkeyed() ? Optional.empty() : Optional.of(keys.getKeys());
+        }
+        if (selector instanceof ArtifactSelectorAndSet) {
+            // every part has to match, so the keys of any part are sufficient
+            return ((ArtifactSelectorAndSet) selector).getSelectors().stream()
+                    .map(ArtifactSelectorIndex::keysOf)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .findFirst();
+        }
+        if (selector instanceof ArtifactSelectorOrSet) {
+            Set<String> keys = new HashSet<>();
+            for (ArtifactSelector part : ((ArtifactSelectorOrSet) selector).getSelectors()) {
+                Optional<Set<String>> partKeys = keysOf(part);
+                if (!partKeys.isPresent()) {
+                    return Optional.empty();
+                }
+                keys.addAll(partKeys.get());
+            }
+            return Optional.of(keys);
+        }
+        return Optional.empty();
+    }
+}
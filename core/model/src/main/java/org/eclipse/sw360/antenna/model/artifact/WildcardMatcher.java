@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.artifact;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled wildcard pattern as used by artifact selectors. In a pattern {@code *} matches any sequence of
+ * characters and {@code .} only matches itself, surrounding whitespace is ignored.
+ *
+ * Patterns consisting only of literal parts and {@code *} are matched by comparing prefixes, suffixes and inner
+ * parts of the input. Patterns with further regular expression characters keep their historical regular expression
+ * semantics. Compiled patterns are cached, so every distinct pattern is only compiled once.
+ */
+public abstract class WildcardMatcher {
+    private static final String REGEX_CHARACTERS = "?+[](){}|^$\\";
+    private static final int MAX_CACHE_SIZE = 10000;
+    private static final Map<String, WildcardMatcher> CACHE = new ConcurrentHashMap<>();
+
+    public abstract boolean matches(String input);
+
+    /**
+     * @param pattern the wildcard pattern, must not be null
+     * @return the matcher for the pattern
+     */
+    public static WildcardMatcher compile(String pattern) {
+        WildcardMatcher matcher = CACHE.get(pattern);
+        if (matcher == null) {
+            matcher = create(pattern.trim());
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(pattern, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * @param pattern the pattern to check, may be null
+     * @return true, if the pattern is only matched by the identical string
+     */
+    public static boolean isLiteral(String pattern) {
+        if (pattern == null || !pattern.equals(pattern.trim())) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || REGEX_CHARACTERS.indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static WildcardMatcher create(String trimmedPattern) {
+        for (int i = 0; i < trimmedPattern.length(); i++) {
+            if (REGEX_CHARACTERS.indexOf(trimmedPattern.charAt(i)) >= 0) {
+                return new RegexMatcher(trimmedPattern);
+            }
+        }
+        if (trimmedPattern.indexOf('*') < 0) {
+            return new LiteralMatcher(trimmedPattern);
+        }
+        return new GlobMatcher(trimmedPattern);
+    }
+
+    private static final class LiteralMatcher extends WildcardMatcher {
+        private final String literal;
+
+        private LiteralMatcher(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String input) {
+            return literal.equals(input);
+        }
+    }
+
+    private static final class RegexMatcher extends WildcardMatcher {
+        private final Pattern pattern;
+
+        private RegexMatcher(String trimmedPattern) {
+            this.pattern = toRegex(trimmedPattern);
+        }
+
+        @Override
+        public boolean matches(String input) {
+            return pattern.matcher(input).matches();
+        }
+    }
+
+    /*
+     * Matches patterns made of literal parts separated by '*': the first part has to be a prefix, the last part a
+     * suffix and the inner parts have to occur in order in between.
+     */
+    private static final class GlobMatcher extends WildcardMatcher {
+        private final String prefix;
+        private final String suffix;
+        private final String[] innerParts;
+        private final int minimalLength;
+        private final Pattern fallback;
+
+        private GlobMatcher(String trimmedPattern) {
+            String[] parts = trimmedPattern.split("\\*", -1);
+            prefix = parts[0];
+            suffix = parts[parts.length - 1];
+            innerParts = new String[parts.length - 2];
+            System.arraycopy(parts, 1, innerParts, 0, innerParts.length);
+            int length = prefix.length() + suffix.length();
+            for (String part : innerParts) {
+                length += part.length();
+            }
+            minimalLength = length;
+            fallback = toRegex(trimmedPattern);
+        }
+
+        @Override
+        public boolean matches(String input) {
+            if (input.length() < minimalLength || !input.startsWith(prefix) || !input.endsWith(suffix)) {
+                return false;
+            }
+            if (containsLineTerminator(input)) {
+                // '*' is translated to '.*?' which does not match line terminators
+                return fallback.matcher(input).matches();
+            }
+            int position = prefix.length();
+            final int end = input.length() - suffix.length();
+            for (String part : innerParts) {
+                int found = input.indexOf(part, position);
+                if (found < 0 || found + part.length() > end) {
+                    return false;
+                }
+                position = found + part.length();
+            }
+            return true;
+        }
+
+        private static boolean containsLineTerminator(String input) {
+            for (int i = 0; i < input.length(); i++) {
+                char c = input.charAt(i);
+                if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Pattern toRegex(String trimmedPattern) {
+        return Pattern.compile(trimmedPattern.replaceAll("\\.", "\\\\.").replaceAll("\\*", ".*?"));
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.sw360.antenna.model.util;
 
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCore;
 import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
 import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
 import org.eclipse.sw360.antenna.model.artifact.facts.ObservedLicenseInformation;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class ArtifactLicenseUtils {
+    private static final Object FINAL_LICENSES_KEY = new Object();
 
     private ArtifactLicenseUtils(){
         // only static methods
@@ -40,8 +42,13 @@ public class ArtifactLicenseUtils {
      *     - a observed licenses (e.g. by scanners)
      *     the resulting effective license is calculated as {declared licenses} AND {observed licenses}
      *   - otherwise an empty license is returned
+     * The result is cached in the artifact until a fact is added, so all workflow steps share it.
      */
     public static LicenseInformation getFinalLicenses(Artifact artifact) {
+        return artifact.getDerivedValue(FINAL_LICENSES_KEY, ArtifactLicenseUtils::computeFinalLicenses);
+    }
+
+    private static LicenseInformation computeFinalLicenses(ArtifactCore artifact) {
         final Optional<LicenseInformation> configured = artifact.askForGet(ConfiguredLicenseInformation.class);
 
         if(configured.isPresent()) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2020.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.api.workflow;
+
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigurableWorkflowItemTest {
+    private static final String KEY = "some.number";
+
+    private final ConfigurableWorkflowItem item = new ConfigurableWorkflowItem() {
+    };
+
+    private static Map<String, String> config(String value) {
+        return Collections.singletonMap(KEY, value);
+    }
+
+    @Test
+    public void getIntConfigValueReturnsTheDefaultIfTheKeyIsMissing() {
+        assertThat(item.getIntConfigValue(KEY, Collections.emptyMap(), 8, 1, 10)).isEqualTo(8);
+    }
+
+    @Test
+    public void getIntConfigValueParsesTheValue() {
+        assertThat(item.getIntConfigValue(KEY, config(" 4 "), 8, 1, 10)).isEqualTo(4);
+    }
+
+    @Test
+    public void getIntConfigValueAcceptsTheBounds() {
+        assertThat(item.getIntConfigValue(KEY, config("1"), 8, 1, 10)).isEqualTo(1);
+        assertThat(item.getIntConfigValue(KEY, config("10"), 8, 1, 10)).isEqualTo(10);
+    }
+
+    @Test
+    public void getIntConfigValueRejectsNonNumericValues() {
+        assertThatThrownBy(() -> item.getIntConfigValue(KEY, config("many"), 8, 1, Integer.MAX_VALUE))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessage("The value of 'some.number' must be a number not less than 1, but is 'many'.");
+    }
+
+    @Test
+    public void getIntConfigValueRejectsValuesOutOfRange() {
+        assertThatThrownBy(() -> item.getIntConfigValue(KEY, config("11"), 8, 1, 10))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessage("The value of 'some.number' must be a number between 1 and 10, but is '11'.");
+    }
+}
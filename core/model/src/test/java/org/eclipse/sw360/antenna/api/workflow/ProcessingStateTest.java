@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2020.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.api.workflow;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessingStateTest {
+    private static class CountingArtifact extends Artifact {
+        private final AtomicInteger hashCodeCalls;
+
+        CountingArtifact(String analysisSource, AtomicInteger hashCodeCalls) {
+            super(analysisSource);
+            this.hashCodeCalls = hashCodeCalls;
+        }
+
+        @Override
+        public int hashCode() {
+            hashCodeCalls.incrementAndGet();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o);
+        }
+    }
+
+    @Test
+    public void getArtifactsContainsEveryArtifactOnceInOrder() {
+        Artifact first = new Artifact("first");
+        Artifact second = new Artifact("second");
+        ProcessingState state = new ProcessingState(Arrays.asList(
+                new WorkflowStepResult(Collections.singletonList(first), true),
+                new WorkflowStepResult(Collections.singletonList(second), true)));
+        state.applyWorkflowStepResult(new WorkflowStepResult(Collections.singletonList(first), true));
+
+        assertThat(state.getArtifactsView()).containsExactly(first, second, first);
+        assertThat(state.getArtifacts()).containsExactly(first, second);
+    }
+
+    @Test
+    public void getArtifactsDoesNotHashTheArtifacts() {
+        AtomicInteger hashCodeCalls = new AtomicInteger();
+        ProcessingState state = new ProcessingState(Collections.singletonList(
+                new WorkflowStepResult(Collections.singletonList(new CountingArtifact("source", hashCodeCalls)), true)));
+        hashCodeCalls.set(0);
+
+        state.getArtifacts();
+
+        assertThat(hashCodeCalls.get()).isZero();
+    }
+
+    @Test
+    public void getArtifactsReturnsASnapshotOwnedByTheCaller() {
+        Artifact artifact = new Artifact("source");
+        ProcessingState state = new ProcessingState(Collections.singletonList(
+                new WorkflowStepResult(Collections.singletonList(artifact), true)));
+
+        List<Artifact> snapshot = state.getArtifacts();
+        snapshot.clear();
+
+        assertThat(state.getArtifacts()).containsExactly(artifact);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIdentifier;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceUrl;
+import org.eclipse.sw360.antenna.model.artifact.facts.CopyrightStatement;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by artifacts with a typical set of facts and flags, and the time needed to query
+ * their facts.
+ *
+ * Not part of the test suite, run it with the main method from the test classpath. The main method first prints
+ * the retained heap per artifact and then runs the query benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ArtifactHeapBenchmark {
+    private static final int ARTIFACT_COUNT = 50000;
+
+    private List<Artifact> artifacts;
+
+    @Setup
+    public void setUp() {
+        artifacts = createArtifacts(ARTIFACT_COUNT);
+    }
+
+    @Benchmark
+    public int askFor() {
+        int found = 0;
+        for (Artifact artifact : artifacts) {
+            if (artifact.askFor(ArtifactFilename.class).isPresent()) {
+                found++;
+            }
+            if (artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int askForAll() {
+        int found = 0;
+        for (Artifact artifact : artifacts) {
+            found += artifact.askForAll(ArtifactIdentifier.class).size();
+        }
+        return found;
+    }
+
+    private static List<Artifact> createArtifacts(int count) {
+        List<Artifact> artifacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = "artifact" + i;
+            artifacts.add(new Artifact("benchmark")
+                    .addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", name, "1.0"))
+                    .addFact(new ArtifactFilename(name + ".jar", Integer.toHexString(i)))
+                    .addFact(new ArtifactPathnames("path/to/" + name + ".jar"))
+                    .addFact(new ArtifactSourceUrl("https://example.org/" + name))
+                    .addFact(new CopyrightStatement("Copyright (c) " + name))
+                    .setFlag(Artifact.IS_PROPRIETARY_FLAG_KEY, i % 2 == 0)
+                    .setFlag(Artifact.IS_IGNORE_FOR_DOWNLOAD_KEY));
+        }
+        return artifacts;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        long before = usedHeap();
+        List<Artifact> artifacts = createArtifacts(ARTIFACT_COUNT);
+        long after = usedHeap();
+        System.out.printf("Retained heap of %d artifacts: %d bytes (%d bytes per artifact)%n",
+                artifacts.size(), after - before, (after - before) / artifacts.size());
+
+        new Runner(new OptionsBuilder()
+                .include(ArtifactHeapBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactIdentifierIndex;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactIdentifierIndexTest {
+
+    @Test
+    public void testThatMatchingCoordinatesAreFound() {
+        Artifact artifact = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "artifact", "1.0"));
+        Artifact other = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "other", "1.0"));
+        ArtifactIdentifierIndex index = new ArtifactIdentifierIndex(Arrays.asList(artifact, other));
+
+        Artifact lookup = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "artifact", "1.0"));
+
+        assertThat(index.findPotentialDuplicates(lookup)).containsExactly(artifact);
+    }
+
+    @Test
+    public void testThatWildcardCoordinatesAreFound() {
+        Artifact artifact = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "artifact", "1.0"));
+        Artifact wildcard = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "art*", "1.0"));
+        ArtifactIdentifierIndex index = new ArtifactIdentifierIndex(Arrays.asList(artifact, wildcard));
+
+        assertThat(index.findPotentialDuplicates(artifact)).containsExactly(wildcard);
+        assertThat(index.findPotentialDuplicates(wildcard)).containsExactly(artifact);
+    }
+
+    @Test
+    public void testThatFilenamesMatchPathnames() {
+        Artifact filename = new Artifact().addFact(new ArtifactFilename("someFilename.jar"));
+        Artifact hashOnly = new Artifact().addFact(new ArtifactFilename(null, "12345"));
+        ArtifactIdentifierIndex index = new ArtifactIdentifierIndex(Arrays.asList(filename, hashOnly));
+
+        Artifact pathnames = new Artifact().addFact(new ArtifactPathnames("path/to/someFilename.jar"));
+        Artifact filenameWithHash = new Artifact().addFact(new ArtifactFilename("otherFilename.jar", "12345"));
+
+        assertThat(index.findPotentialDuplicates(pathnames)).containsExactly(filename);
+        assertThat(index.findPotentialDuplicates(filenameWithHash)).containsExactly(hashOnly);
+    }
+
+    @Test
+    public void testThatIndexFindsTheSameDuplicatesAsPairwiseComparison() {
+        Random random = new Random(42);
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            artifacts.add(randomArtifact(random));
+        }
+        ArtifactIdentifierIndex index = new ArtifactIdentifierIndex(artifacts);
+
+        for (int i = 0; i < 100; i++) {
+            Artifact lookup = randomArtifact(random);
+            List<Artifact> expected = artifacts.stream()
+                    .filter(artifact -> artifact.isPotentialDuplicateOf(lookup))
+                    .collect(Collectors.toList());
+
+            assertThat(index.findPotentialDuplicates(lookup)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private Artifact randomArtifact(Random random) {
+        Artifact artifact = new Artifact();
+        String name = "name" + random.nextInt(20);
+        switch (random.nextInt(6)) {
+            case 0:
+                artifact.addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "group", name, "1." + random.nextInt(3)));
+                break;
+            case 1:
+                artifact.addCoordinate(new Coordinate(Coordinate.Types.NPM, name.substring(0, 5) + "*", "1.0"));
+                break;
+            case 2:
+                artifact.addFact(new ArtifactFilename(name + ".jar", random.nextBoolean() ? "hash" + random.nextInt(10) : null));
+                break;
+            case 3:
+                artifact.addFact(new ArtifactFilename(null, "hash" + random.nextInt(10)));
+                break;
+            case 4:
+                artifact.addFact(new ArtifactPathnames("some/path/" + name + ".jar"));
+                break;
+            default:
+                artifact.addCoordinate(new Coordinate(Coordinate.Types.NPM, name, "1.0"))
+                        .addFact(new ArtifactFilename(name + ".tgz"));
+                break;
+        }
+        return artifact;
+    }
+}
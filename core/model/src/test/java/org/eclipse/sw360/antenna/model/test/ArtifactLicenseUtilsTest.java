@@ -115,4 +115,19 @@ public class ArtifactLicenseUtilsTest {
                 .isEqualTo(2);
         assertThat(finalLicenses.getLicenses()).contains(epl);
     }
+
+    @Test
+    public void testFinalLicensesAreComputedOnceUntilAFactIsAdded() {
+        Artifact artifact = new Artifact("Test")
+                .addFact(new DeclaredLicenseInformation(apache))
+                .addFact(new ObservedLicenseInformation(epl));
+
+        LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+
+        assertThat(ArtifactLicenseUtils.getFinalLicenses(artifact)).isSameAs(finalLicenses);
+
+        artifact.addFact(new OverriddenLicenseInformation(mit));
+
+        assertThat(ArtifactLicenseUtils.getFinalLicenses(artifact).evaluate()).isEqualTo(mit.getId());
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorAndSet;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorOrSet;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactSelectorIndexTest {
+
+    @Test
+    public void testThatMatchingSelectorsAreFoundInOrder() {
+        ArtifactSelector exact = new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, "org.group", "artifact", "1.0"));
+        ArtifactSelector other = new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, "org.group", "other", "1.0"));
+        ArtifactSelector wildcard = new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, "org.group", "art*", "1.*"));
+        Map<ArtifactSelector, String> selectors = new LinkedHashMap<>();
+        selectors.put(wildcard, "wildcard");
+        selectors.put(other, "other");
+        selectors.put(exact, "exact");
+        ArtifactSelectorIndex<String> index = ArtifactSelectorIndex.of(selectors);
+
+        Artifact artifact = new Artifact().addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group", "artifact", "1.0"));
+
+        assertThat(index.findMatching(artifact)).containsExactly("wildcard", "exact");
+        assertThat(index.findFirstMatching(artifact)).contains("wildcard");
+        assertThat(index.matchesAny(new Artifact().addFact(new ArtifactFilename("artifact.jar")))).isFalse();
+    }
+
+    @Test
+    public void testThatChangesOfTheArtifactAffectLaterSelectors() {
+        Coordinate first = new Coordinate(Coordinate.Types.MAVEN, "org.group", "first", "1.0");
+        Coordinate second = new Coordinate(Coordinate.Types.MAVEN, "org.group", "second", "1.0");
+        Coordinate third = new Coordinate(Coordinate.Types.MAVEN, "org.group", "third", "1.0");
+        Map<ArtifactSelector, Coordinate> selectors = new LinkedHashMap<>();
+        selectors.put(new ArtifactCoordinates(third), first);
+        selectors.put(new ArtifactCoordinates(first), second);
+        selectors.put(new ArtifactCoordinates(second), third);
+        ArtifactSelectorIndex<Coordinate> index = ArtifactSelectorIndex.of(selectors);
+
+        Artifact artifact = new Artifact().addCoordinate(first);
+        List<Coordinate> added = new ArrayList<>();
+        index.forEachMatching(artifact, coordinate -> {
+            added.add(coordinate);
+            artifact.addCoordinate(coordinate);
+        });
+
+        assertThat(added).containsExactly(second, third);
+    }
+
+    @Test
+    public void testThatSelectorSetsAreMatched() {
+        ArtifactSelector coordinates = new ArtifactCoordinates(new Coordinate(Coordinate.Types.NPM, "package", "1.0"));
+        ArtifactSelector filename = new ArtifactFilename("package.tgz");
+        ArtifactSelectorIndex<ArtifactSelector> index = ArtifactSelectorIndex.of(Arrays.asList(
+                new ArtifactSelectorAndSet(coordinates, filename),
+                new ArtifactSelectorOrSet(coordinates, filename)));
+
+        Artifact both = new Artifact()
+                .addCoordinate(new Coordinate(Coordinate.Types.NPM, "package", "1.0"))
+                .addFact(new ArtifactFilename("package.tgz"));
+        Artifact pathOnly = new Artifact().addFact(new ArtifactPathnames("some/path/package.tgz"));
+
+        assertThat(index.findMatching(both)).hasSize(2);
+        assertThat(index.findMatching(pathOnly)).hasSize(1);
+    }
+
+    @Test
+    public void testThatIndexFindsTheSameSelectorsAsTestingAll() {
+        Random random = new Random(42);
+        List<ArtifactSelector> selectors = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            selectors.add(randomSelector(random));
+        }
+        ArtifactSelectorIndex<ArtifactSelector> index = ArtifactSelectorIndex.of(selectors);
+
+        for (int i = 0; i < 200; i++) {
+            Artifact artifact = randomArtifact(random);
+            List<ArtifactSelector> expected = selectors.stream()
+                    .filter(selector -> selector.matches(artifact))
+                    .collect(Collectors.toList());
+
+            assertThat(index.findMatching(artifact)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private ArtifactSelector randomSelector(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return new ArtifactSelectorAndSet(randomIdentifier(random), randomIdentifier(random));
+            case 1:
+                return new ArtifactSelectorOrSet(randomIdentifier(random), randomIdentifier(random));
+            default:
+                return randomIdentifier(random);
+        }
+    }
+
+    private ArtifactSelector randomIdentifier(Random random) {
+        String name = "name" + random.nextInt(20);
+        switch (random.nextInt(5)) {
+            case 0:
+                return new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, "group", name, "1." + random.nextInt(3)));
+            case 1:
+                return new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, "group", name.substring(0, 5) + "*", "*"));
+            case 2:
+                return new ArtifactFilename(name + ".jar", random.nextBoolean() ? "hash" + random.nextInt(10) : null);
+            case 3:
+                return new ArtifactFilename(null, "hash" + random.nextInt(10));
+            default:
+                return new ArtifactFilename("*" + random.nextInt(10) + ".jar");
+        }
+    }
+
+    private Artifact randomArtifact(Random random) {
+        String name = "name" + random.nextInt(20);
+        Artifact artifact = new Artifact();
+        if (random.nextBoolean()) {
+            artifact.addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "group", name, "1." + random.nextInt(3)));
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                artifact.addFact(new ArtifactFilename(name + ".jar", random.nextBoolean() ? "hash" + random.nextInt(10) : null));
+                break;
+            case 1:
+                artifact.addFact(new ArtifactPathnames("some/path/" + name + ".jar"));
+                break;
+            default:
+                break;
+        }
+        return artifact;
+    }
+}
@@ -109,6 +109,24 @@ public class ArtifactTest {
 
     }
 
+    @Test
+    public void testThatHashCodeFollowsChanges() {
+        Artifact artifact1 = new Artifact().addFact(new ArtifactFilename("test.jar"));
+        Artifact artifact2 = new Artifact().addFact(new ArtifactFilename("test.jar"));
+        assertThat(artifact1.hashCode()).isEqualTo(artifact2.hashCode());
+
+        artifact1.addFact(new CopyrightStatement("Copyright"));
+        assertThat(artifact1).isNotEqualTo(artifact2);
+        artifact2.addFact(new CopyrightStatement("Copyright"));
+        assertThat(artifact1.hashCode()).isEqualTo(artifact2.hashCode());
+
+        artifact1.setFlag(Artifact.IS_PROPRIETARY_FLAG_KEY, true);
+        assertThat(artifact1.hashCode()).isNotEqualTo(artifact2.hashCode());
+        artifact2.setFlag(Artifact.IS_PROPRIETARY_FLAG_KEY, true);
+        assertThat(artifact1).isEqualTo(artifact2);
+        assertThat(artifact1.hashCode()).isEqualTo(artifact2.hashCode());
+    }
+
     @Test
     public void matchStateTest() {
         assertThat(artifact.getMatchState()).isEqualTo(MatchState.EXACT);
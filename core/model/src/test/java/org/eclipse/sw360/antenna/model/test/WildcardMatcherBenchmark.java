@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares matching coordinates against wildcard selectors with the compiled matchers to matching them with a
+ * regular expression created on every comparison, as it was done before.
+ *
+ * Not part of the test suite, run it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class WildcardMatcherBenchmark {
+    @Param("10000")
+    private int artifactCount;
+
+    @Param("2000")
+    private int selectorCount;
+
+    private List<Coordinate> coordinates;
+    private List<Coordinate> selectors;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        coordinates = new ArrayList<>();
+        for (int i = 0; i < artifactCount; i++) {
+            coordinates.add(new Coordinate(Coordinate.Types.MAVEN, "org.group" + random.nextInt(100),
+                    "artifact" + random.nextInt(1000), "1." + random.nextInt(10) + ".0"));
+        }
+        selectors = new ArrayList<>();
+        for (int i = 0; i < selectorCount; i++) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    selectors.add(new Coordinate(Coordinate.Types.MAVEN, "org.group" + random.nextInt(100),
+                            "artifact" + random.nextInt(1000), "1." + random.nextInt(10) + ".0"));
+                    break;
+                case 1:
+                    selectors.add(new Coordinate(Coordinate.Types.MAVEN, "org.group" + random.nextInt(100),
+                            "artifact" + random.nextInt(100) + "*", "*"));
+                    break;
+                default:
+                    selectors.add(new Coordinate(Coordinate.Types.MAVEN, "org.group*",
+                            "*" + random.nextInt(1000), "1.*.0"));
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public int compiledMatchers() {
+        int matches = 0;
+        for (Coordinate selector : selectors) {
+            for (Coordinate coordinate : coordinates) {
+                if (selector.matches(coordinate)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int regularExpressionPerComparison() {
+        int matches = 0;
+        for (Coordinate selector : selectors) {
+            for (Coordinate coordinate : coordinates) {
+                if (matchesWithRegularExpressions(selector, coordinate)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesWithRegularExpressions(Coordinate selector, Coordinate coordinate) {
+        return compareWithRegularExpression(selector.getScheme(), coordinate.getScheme()) &&
+                compareWithRegularExpression(selector.getType(), coordinate.getType()) &&
+                compareWithRegularExpression(selector.getNamespace(), coordinate.getNamespace()) &&
+                compareWithRegularExpression(selector.getName(), coordinate.getName()) &&
+                compareWithRegularExpression(selector.getVersion(), coordinate.getVersion()) &&
+                compareWithRegularExpression(selector.getSubpath(), coordinate.getSubpath());
+    }
+
+    private static boolean compareWithRegularExpression(String regex, String input) {
+        if (regex == null) {
+            return true;
+        }
+        return regex.equals(input) || Pattern.matches(
+                regex.trim().replaceAll("\\.", "\\\\.").replaceAll("\\*", ".*?"),
+                input != null ? input : "");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WildcardMatcherBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
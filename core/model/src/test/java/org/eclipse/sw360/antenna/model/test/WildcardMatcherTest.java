@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.WildcardMatcher;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WildcardMatcherTest {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            "", "*", "**", "commons-*", "*-lang3", "org.apache.*", "org.*.commons", "a*b*c", "*.jar", " junit ",
+            "1.0", "1.*.2", "1.?", "v[0-9]+", "(foo|bar)", "a*a", "aa*aa", "*b*", "x.y");
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "", "commons-lang3", "commons-io", "org.apache.commons", "org.eclipse.commons", "orgXapache", "abc",
+            "aXbYc", "acb", "file.jar", "filejar", "junit", " junit ", "1.0", "1x0", "1.1.2", "1.", "1.2", "v12",
+            "foo", "bar", "a", "aa", "aaa", "aaaa", "aaXaa", "b", "x.y", "xzy", "commons-\nlang3", "line b");
+
+    @Test
+    public void testThatMatcherBehavesLikeRegularExpression() {
+        for (String pattern : PATTERNS) {
+            WildcardMatcher matcher = WildcardMatcher.compile(pattern);
+            for (String input : INPUTS) {
+                assertThat(matcher.matches(input))
+                        .as("'%s' matching '%s'", pattern, input)
+                        .isEqualTo(matchesAsRegularExpression(pattern, input));
+            }
+        }
+    }
+
+    @Test
+    public void testThatCompiledMatchersAreCached() {
+        assertThat(WildcardMatcher.compile("org.apache.*")).isSameAs(WildcardMatcher.compile("org.apache.*"));
+    }
+
+    @Test
+    public void testLiteralPatterns() {
+        assertThat(WildcardMatcher.isLiteral("commons-lang3")).isTrue();
+        assertThat(WildcardMatcher.isLiteral("org.apache")).isTrue();
+        assertThat(WildcardMatcher.isLiteral("commons-*")).isFalse();
+        assertThat(WildcardMatcher.isLiteral("1.?")).isFalse();
+        assertThat(WildcardMatcher.isLiteral(" junit")).isFalse();
+        assertThat(WildcardMatcher.isLiteral(null)).isFalse();
+    }
+
+    private static boolean matchesAsRegularExpression(String pattern, String input) {
+        return Pattern.matches(pattern.trim().replaceAll("\\.", "\\\\.").replaceAll("\\*", ".*?"), input);
+    }
+}
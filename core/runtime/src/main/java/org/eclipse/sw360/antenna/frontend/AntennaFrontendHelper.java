@@ -18,6 +18,7 @@ import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
 import org.eclipse.sw360.antenna.configuration.MultipleConfigsResolver;
 import org.eclipse.sw360.antenna.core.AntennaCore;
 import org.eclipse.sw360.antenna.report.Reporter;
+import org.eclipse.sw360.antenna.util.JarInspector;
 
 public class AntennaFrontendHelper {
     private final IProject project;
@@ -40,6 +41,9 @@ public class AntennaFrontendHelper {
 
     public AntennaContext buildAntennaContext() {
         IProcessingReporter reporter = new Reporter(toolConfig.getAntennaTargetDirectory(), toolConfig.getEncoding());
+        if (!contextExtension.get(JarInspector.class).isPresent()) {
+            contextExtension.put(JarInspector.forTargetDirectory(toolConfig.getAntennaTargetDirectory()));
+        }
 
         AntennaContext.ContextBuilder contextBuilder = new AntennaContext.ContextBuilder()
                 .setProject(project)
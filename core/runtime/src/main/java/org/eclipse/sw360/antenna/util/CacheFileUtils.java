@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * <p>
+ * Helper methods for files that are kept in on-disk caches.
+ * </p>
+ * <p>
+ * Such caches may be shared by concurrent builds, so files are always written
+ * to a temporary file in the target directory first and then moved to their
+ * final name. Readers thus see either the old or the new content, but never a
+ * partially written file.
+ * </p>
+ */
+public final class CacheFileUtils {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheFileUtils.class);
+
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private CacheFileUtils() {
+    }
+
+    /**
+     * Moves a file, replacing an existing target. The move is atomic if the
+     * file system supports this.
+     *
+     * @param source the file to be moved
+     * @param target the new location of the file
+     * @throws IOException if the file cannot be moved
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            LOGGER.debug("Atomic move to {} not supported.", target, e);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copies a file via a temporary file next to the target, so that the
+     * target never has partial content. Missing parent directories of the
+     * target are created.
+     *
+     * @param source the file to be copied
+     * @param target the location of the copy
+     * @throws IOException if the file cannot be copied
+     */
+    public static void copyAtomically(Path source, Path target) throws IOException {
+        Path tempFile = createTempFile(target);
+        try {
+            Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Stores properties in UTF-8 via a temporary file next to the target.
+     * Missing parent directories of the target are created.
+     *
+     * @param file       the file to be written
+     * @param properties the properties to be stored
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeProperties(Path file, Properties properties) throws IOException {
+        Path tempFile = createTempFile(file);
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * @return a new {@code MessageDigest} for SHA-256
+     */
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This cannot happen as every implementation of the Java platform must support this algorithm
+            throw new AssertionError("SHA-256 algorithm not supported", e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the UTF-8 bytes of the given text as hex
+     * string. This is useful to derive file names for cache entries.
+     *
+     * @param text the text to be hashed
+     * @return the hash of the text as lower-case hex string
+     */
+    public static String sha256Hex(String text) {
+        return toHex(newSha256Digest().digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param bytes the bytes to be converted
+     * @return the bytes as lower-case hex string
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[bytes[i] >> 4 & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static Path createTempFile(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, target.getFileName().toString(), TEMP_EXTENSION);
+    }
+}
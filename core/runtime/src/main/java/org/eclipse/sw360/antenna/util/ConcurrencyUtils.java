@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2020.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A helper class for waiting on the results of tasks that have been passed
+ * to an executor.
+ * </p>
+ * <p>
+ * The methods of this class block until the task is done and unwrap the
+ * exception a task may have failed with, so that callers see the same
+ * exceptions as if the task had been executed directly.
+ * </p>
+ */
+public final class ConcurrencyUtils {
+    private ConcurrencyUtils() {
+    }
+
+    /**
+     * Waits for the given future and returns its result. If the task
+     * failed with a runtime exception, this exception is rethrown; other
+     * failures and interruptions are reported as {@code ExecutionException}
+     * with a message derived from the given operation description.
+     *
+     * @param future    the future to wait for
+     * @param operation a description of the operation used in error messages
+     * @param <R>       the result type of the future
+     * @return the result of the future
+     * @throws ExecutionException if the task failed or waiting was interrupted
+     */
+    public static <R> R awaitResult(Future<R> future, String operation) {
+        return awaitResult(future, operation, RuntimeException.class);
+    }
+
+    /**
+     * Waits for the given future and returns its result. Works like
+     * {@link #awaitResult(Future, String)}, but additionally rethrows a
+     * failure of the task that is of the given checked exception type.
+     *
+     * @param future        the future to wait for
+     * @param operation     a description of the operation used in error messages
+     * @param exceptionType the type of checked exceptions to rethrow
+     * @param <R>           the result type of the future
+     * @param <X>           the type of checked exceptions to rethrow
+     * @return the result of the future
+     * @throws X                  if the task failed with such an exception
+     * @throws ExecutionException if the task failed otherwise or waiting was interrupted
+     */
+    public static <R, X extends Exception> R awaitResult(Future<R> future, String operation, Class<X> exceptionType)
+            throws X {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(operation + " was interrupted", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ExecutionException(operation + " failed: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.eclipse.sw360.antenna.http.HttpClient;
+import org.eclipse.sw360.antenna.http.Response;
+import org.eclipse.sw360.antenna.http.utils.HttpConstants;
+import org.eclipse.sw360.antenna.http.utils.HttpUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * A class that downloads files over HTTP using a persistent cache.
+ * </p>
+ * <p>
+ * The content of downloaded files is stored in the cache directory under the
+ * SHA-256 checksum of the content. An index, keyed by the hash of the URL,
+ * records the checksum of the content of a URL together with the validators
+ * sent by the server (the {@code ETag} and {@code Last-Modified} headers).
+ * When a URL is downloaded again, a conditional request is sent, so that
+ * unchanged files are not transferred again. Files are always written to a
+ * temporary location first and then moved to their final location, so that
+ * neither the cache nor the target directory contain incomplete files.
+ * </p>
+ * <p>
+ * A download that is interrupted, because a run was terminated or the
+ * connection broke, is kept together with the validator of its content and
+ * resumed with a range request by the next attempt, if the server supports
+ * this. A partial download is discarded when it cannot be resumed: the
+ * server did not send a validator, rejected the request with a client error,
+ * or answered the range request with another range. If the content has
+ * changed in the meantime, the server sends it completely, and the partial
+ * download is replaced. Partial downloads that were not touched for
+ * {@value #STALE_PARTIAL_DOWNLOAD_DAYS} days are removed.
+ * </p>
+ * <p>
+ * The cache directory can be shared between multiple runs, also concurrent
+ * ones.
+ * </p>
+ */
+public class DownloadManager {
+    /**
+     * The default number of files that are downloaded in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_DOWNLOADS = 4;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadManager.class);
+
+    private static final int STALE_PARTIAL_DOWNLOAD_DAYS = 7;
+
+    private static final String BLOBS_DIRECTORY = "blobs";
+    private static final String INDEX_DIRECTORY = "index";
+    private static final String PARTIAL_DIRECTORY = "partial";
+    private static final String INDEX_EXTENSION = ".properties";
+    private static final String PARTIAL_EXTENSION = ".part";
+
+    private static final String PROPERTY_URL = "url";
+    private static final String PROPERTY_ETAG = "etag";
+    private static final String PROPERTY_LAST_MODIFIED = "lastModified";
+    private static final String PROPERTY_CHECKSUM = "sha256";
+
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String HEADER_RANGE = "Range";
+    private static final String HEADER_IF_RANGE = "If-Range";
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+
+    private static final int STATUS_PARTIAL_CONTENT = 206;
+    private static final int STATUS_NOT_MODIFIED = 304;
+    private static final int STATUS_CLIENT_ERROR = 400;
+    private static final int STATUS_SERVER_ERROR = 500;
+
+    private final HttpClient httpClient;
+    private final Path cacheDirectory;
+    private final int parallelDownloads;
+    private final AtomicBoolean stalePartialDownloadsRemoved = new AtomicBoolean();
+
+    /**
+     * Creates a new instance of {@code DownloadManager}.
+     *
+     * @param httpClient        the {@code HttpClient} to be used
+     * @param cacheDirectory    the directory for cached downloads; it is
+     *                          created if it does not exist
+     * @param parallelDownloads the maximum number of files downloaded in
+     *                          parallel
+     */
+    public DownloadManager(HttpClient httpClient, Path cacheDirectory, int parallelDownloads) {
+        Validate.isTrue(parallelDownloads > 0, "The number of parallel downloads must be positive");
+        this.httpClient = httpClient;
+        this.cacheDirectory = cacheDirectory;
+        this.parallelDownloads = parallelDownloads;
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public int getParallelDownloads() {
+        return parallelDownloads;
+    }
+
+    /**
+     * Downloads the file at the given URL into the target directory. The name
+     * of the file is the last segment of the URL.
+     *
+     * @param url             the URL of the file
+     * @param targetDirectory the directory to store the file in
+     * @return the downloaded file
+     * @throws IOException if the download fails
+     */
+    public File download(String url, Path targetDirectory) throws IOException {
+        String filename = url.substring(url.lastIndexOf('/') + 1);  // We don't want to have the last slash in the name
+        return download(url, targetDirectory, filename);
+    }
+
+    /**
+     * Downloads the file at the given URL into the target directory using the
+     * given file name.
+     *
+     * @param url             the URL of the file
+     * @param targetDirectory the directory to store the file in
+     * @param filename        the name of the file in the target directory
+     * @return the downloaded file
+     * @throws IOException if the download fails
+     */
+    public File download(String url, Path targetDirectory, String filename) throws IOException {
+        LOGGER.debug("Downloading from URL {} to file {} in {}.", url, filename, targetDirectory);
+        Path blob = fetchIntoCache(url);
+        Path targetFile = targetDirectory.resolve(filename);
+        CacheFileUtils.copyAtomically(blob, targetFile);
+        return targetFile.toFile();
+    }
+
+    /**
+     * Downloads all the given URLs into the target directory, using the
+     * configured number of parallel downloads. Every URL is downloaded only
+     * once. Downloads that fail are logged and are missing in the result.
+     *
+     * @param urls            the URLs to download
+     * @param targetDirectory the directory to store the files in
+     * @return a map with the downloaded files for the URLs in their original
+     * order
+     */
+    public Map<String, File> downloadAll(Collection<String> urls, Path targetDirectory) {
+        Set<String> distinctUrls = new LinkedHashSet<>(urls);
+        Map<String, File> result = new LinkedHashMap<>();
+        if (distinctUrls.isEmpty()) {
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelDownloads, distinctUrls.size()));
+        try {
+            List<Future<File>> downloads = new ArrayList<>(distinctUrls.size());
+            for (String url : distinctUrls) {
+                downloads.add(executor.submit(() -> download(url, targetDirectory)));
+            }
+
+            int index = 0;
+            for (String url : distinctUrls) {
+                try {
+                    result.put(url, HttpUtils.waitFor(downloads.get(index++)));
+                } catch (IOException e) {
+                    LOGGER.warn("Issue during download of {}", url, e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * Makes sure that the cache contains the current content of the given URL
+     * and returns the file with this content.
+     */
+    private Path fetchIntoCache(String url) throws IOException {
+        String urlHash = CacheFileUtils.sha256Hex(url);
+        Path indexFile = cacheDirectory.resolve(INDEX_DIRECTORY).resolve(urlHash + INDEX_EXTENSION);
+        Properties index = readIndex(indexFile, url);
+        Path cachedBlob = index == null ? null : blobFile(index.getProperty(PROPERTY_CHECKSUM));
+
+        Path partialDirectory = cacheDirectory.resolve(PARTIAL_DIRECTORY);
+        Files.createDirectories(partialDirectory);
+        if (stalePartialDownloadsRemoved.compareAndSet(false, true)) {
+            removeStalePartialDownloads(partialDirectory);
+        }
+        Path partialFile = partialDirectory.resolve(urlHash + PARTIAL_EXTENSION);
+        boolean ownsPartialFile = false;
+        boolean keepPartialFile = false;
+        try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            if (lock == null) {
+                // another run is downloading this URL; download to a private file instead
+                Path privateFile = Files.createTempFile(partialDirectory, urlHash, PARTIAL_EXTENSION);
+                try (FileChannel privateChannel = FileChannel.open(privateFile, StandardOpenOption.WRITE)) {
+                    return transfer(url, indexFile, index, cachedBlob, privateFile, privateChannel);
+                } finally {
+                    deletePartialDownload(privateFile);
+                }
+            }
+            ownsPartialFile = true;
+            return transfer(url, indexFile, index, cachedBlob, partialFile, channel);
+        } catch (IOException | RuntimeException e) {
+            keepPartialFile = ownsPartialFile && isResumable(partialFile, url);
+            throw e;
+        } finally {
+            if (ownsPartialFile && !keepPartialFile) {
+                deletePartialDownload(partialFile);
+            }
+        }
+    }
+
+    private Path transfer(String url, Path indexFile, Properties index, Path cachedBlob, Path partialFile,
+                          FileChannel channel) throws IOException {
+        Properties partialIndex = readIndex(partialIndexFile(partialFile), url);
+        long resumeOffset = partialIndex != null ? channel.size() : 0;
+        String resumeValidator = partialIndex == null ? null :
+                StringUtils.defaultIfEmpty(partialIndex.getProperty(PROPERTY_ETAG),
+                        partialIndex.getProperty(PROPERTY_LAST_MODIFIED));
+
+        return HttpUtils.waitFor(httpClient.execute(builder -> {
+            builder.uri(url);
+            if (index != null && cachedBlob != null && Files.isRegularFile(cachedBlob)) {
+                addHeaderIfDefined(builder::header, HEADER_IF_NONE_MATCH, index.getProperty(PROPERTY_ETAG));
+                addHeaderIfDefined(builder::header, HEADER_IF_MODIFIED_SINCE, index.getProperty(PROPERTY_LAST_MODIFIED));
+            }
+            if (resumeOffset > 0 && StringUtils.isNotEmpty(resumeValidator)) {
+                builder.header(HEADER_RANGE, "bytes=" + resumeOffset + "-");
+                builder.header(HEADER_IF_RANGE, resumeValidator);
+            }
+        }, response -> {
+            if (response.statusCode() == STATUS_NOT_MODIFIED && cachedBlob != null) {
+                LOGGER.debug("Using cached content for {}.", url);
+                return cachedBlob;
+            }
+            if (response.statusCode() == STATUS_PARTIAL_CONTENT && isExpectedRange(response, resumeOffset)) {
+                LOGGER.debug("Resuming download of {} at offset {}.", url, resumeOffset);
+                return completeTransfer(response, indexFile, partialFile, channel, resumeOffset, partialIndex);
+            }
+            if (response.statusCode() == HttpConstants.STATUS_OK) {
+                return completeTransfer(response, indexFile, partialFile, channel, 0, validators(url, response));
+            }
+            if (response.statusCode() == STATUS_PARTIAL_CONTENT || isClientError(response.statusCode())) {
+                // the server sent an unexpected range or rejected the request; start from scratch next time
+                Files.deleteIfExists(partialIndexFile(partialFile));
+            }
+            throw HttpUtils.createExceptionForResponse(response, "download");
+        }));
+    }
+
+    /**
+     * Writes the body of a response to the partial file, starting at the
+     * given offset, and moves the complete file into the cache.
+     */
+    private Path completeTransfer(Response response, Path indexFile, Path partialFile,
+                                  FileChannel channel, long offset, Properties validators) throws IOException {
+        channel.truncate(offset);
+        channel.position(offset);
+        if (offset == 0) {
+            CacheFileUtils.writeProperties(partialIndexFile(partialFile), validators);
+        }
+        try (InputStream body = response.bodyStream()) {
+            OutputStream out = Channels.newOutputStream(channel);
+            byte[] buffer = new byte[64 * 1024];
+            for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+        channel.force(false);
+
+        String checksum = checksum(partialFile);
+        Path blob = blobFile(checksum);
+        if (!Files.exists(blob)) {
+            CacheFileUtils.copyAtomically(partialFile, blob);
+        }
+
+        Properties index = new Properties();
+        index.putAll(validators);
+        index.setProperty(PROPERTY_CHECKSUM, checksum);
+        CacheFileUtils.writeProperties(indexFile, index);
+
+        Files.deleteIfExists(partialIndexFile(partialFile));
+        return blob;
+    }
+
+    private static Properties validators(String url, Response response) {
+        Properties validators = new Properties();
+        validators.setProperty(PROPERTY_URL, url);
+        validators.setProperty(PROPERTY_ETAG, StringUtils.defaultString(response.header(HEADER_ETAG)));
+        validators.setProperty(PROPERTY_LAST_MODIFIED, StringUtils.defaultString(response.header(HEADER_LAST_MODIFIED)));
+        return validators;
+    }
+
+    private static boolean isExpectedRange(Response response, long offset) {
+        String contentRange = response.header(HEADER_CONTENT_RANGE);
+        return offset > 0 && contentRange != null && contentRange.trim().startsWith("bytes " + offset + "-");
+    }
+
+    private static boolean isClientError(int status) {
+        return status >= STATUS_CLIENT_ERROR && status < STATUS_SERVER_ERROR;
+    }
+
+    /**
+     * Checks whether a failed download can be resumed by the next attempt.
+     * This requires some content and a validator of this content.
+     */
+    private static boolean isResumable(Path partialFile, String url) {
+        Properties partialIndex = readIndex(partialIndexFile(partialFile), url);
+        try {
+            return partialIndex != null && Files.size(partialFile) > 0
+                    && (StringUtils.isNotEmpty(partialIndex.getProperty(PROPERTY_ETAG))
+                    || StringUtils.isNotEmpty(partialIndex.getProperty(PROPERTY_LAST_MODIFIED)));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes the partial downloads in the given directory that were not
+     * modified for a while and are not locked by another run.
+     */
+    private static void removeStalePartialDownloads(Path partialDirectory) {
+        long staleTime = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(STALE_PARTIAL_DOWNLOAD_DAYS);
+        try (DirectoryStream<Path> partialFiles =
+                     Files.newDirectoryStream(partialDirectory, "*" + PARTIAL_EXTENSION)) {
+            for (Path partialFile : partialFiles) {
+                if (Files.getLastModifiedTime(partialFile).toMillis() < staleTime && !isLocked(partialFile)) {
+                    LOGGER.debug("Removing stale partial download {}.", partialFile);
+                    deletePartialDownload(partialFile);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove stale partial downloads in {}.", partialDirectory, e);
+        }
+    }
+
+    private static boolean isLocked(Path partialFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            return lock == null;
+        }
+    }
+
+    private static void addHeaderIfDefined(HeaderSetter setter, String header, String value) {
+        if (StringUtils.isNotEmpty(value)) {
+            setter.header(header, value);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads an index file. Returns <strong>null</strong> if it does not exist,
+     * cannot be read, or belongs to a different URL.
+     */
+    private static Properties readIndex(Path indexFile, String url) {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable download cache entry {}.", indexFile, e);
+            return null;
+        }
+        return url.equals(properties.getProperty(PROPERTY_URL)) ? properties : null;
+    }
+
+    private Path blobFile(String checksum) {
+        return StringUtils.isEmpty(checksum) ? null : cacheDirectory.resolve(BLOBS_DIRECTORY).resolve(checksum);
+    }
+
+    private static void deletePartialDownload(Path partialFile) {
+        try {
+            Files.deleteIfExists(partialIndexFile(partialFile));
+            Files.deleteIfExists(partialFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the partial download {}.", partialFile, e);
+        }
+    }
+
+    private static Path partialIndexFile(Path partialFile) {
+        return partialFile.resolveSibling(partialFile.getFileName() + INDEX_EXTENSION);
+    }
+
+    private static String checksum(Path file) throws IOException {
+        MessageDigest digest = CacheFileUtils.newSha256Digest();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[64 * 1024];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return CacheFileUtils.toHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    private interface HeaderSetter {
+        void header(String name, String value);
+    }
+}
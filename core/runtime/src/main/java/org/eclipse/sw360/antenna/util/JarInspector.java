@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * <p>
+ * Collects the metadata of jar files in a single pass: the manifest and the
+ * entry names are read from the central directory of the file.
+ * </p>
+ * <p>
+ * Results are kept in memory and, if a cache directory is given, on disk.
+ * A cached result is used as long as size and modification time of the jar
+ * file are unchanged, so unchanged jars are only inspected once, even across
+ * workflow steps and builds.
+ * </p>
+ */
+public class JarInspector {
+    /**
+     * The name of the directory below the Antenna target directory in which
+     * the shared inspector stores its results.
+     */
+    public static final String CACHE_DIRECTORY_NAME = "jar-metadata-cache";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JarInspector.class);
+
+    private static final String CACHE_EXTENSION = ".properties";
+    private static final String PROPERTY_PATH = "path";
+    private static final String PROPERTY_SIZE = "size";
+    private static final String PROPERTY_LAST_MODIFIED = "lastModified";
+    private static final String PROPERTY_ENTRIES = "entries";
+    private static final String PREFIX_MANIFEST = "manifest.";
+    private static final String ENTRY_SEPARATOR = "\n";
+
+    private final Path cacheDirectory;
+    private final Map<Path, JarMetadata> inspectedJars = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an inspector that only keeps its results in memory.
+     */
+    public JarInspector() {
+        this(null);
+    }
+
+    /**
+     * @param cacheDirectory the directory in which the results are stored
+     */
+    public JarInspector(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Creates the inspector to be shared by all workflow steps of a run. It
+     * stores its results below the given Antenna target directory.
+     *
+     * @param targetDirectory the Antenna target directory, may be
+     *                        <strong>null</strong>
+     * @return the new inspector
+     */
+    public static JarInspector forTargetDirectory(Path targetDirectory) {
+        return targetDirectory != null
+                ? new JarInspector(targetDirectory.resolve(CACHE_DIRECTORY_NAME))
+                : new JarInspector();
+    }
+
+    /**
+     * Returns the inspector shared via the given context. The frontends
+     * register it as context extension; if it is missing, for instance in a
+     * context created by a test, an inspector that only keeps its results in
+     * memory is returned.
+     *
+     * @param context the Antenna context
+     * @return the inspector to be used in this context
+     */
+    public static JarInspector fromContext(AntennaContext context) {
+        return context.<JarInspector>getGeneric(JarInspector.class).orElseGet(JarInspector::new);
+    }
+
+    /**
+     * Returns the metadata of the given jar file, inspecting it only if no
+     * up-to-date result is cached.
+     *
+     * @param jar the jar file
+     * @return the metadata of the jar file
+     * @throws IOException if the jar file cannot be read
+     */
+    public JarMetadata inspect(Path jar) throws IOException {
+        Path file = jar.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        JarMetadata metadata = inspectedJars.get(file);
+        if (metadata == null || !isUpToDate(metadata, size, lastModified)) {
+            metadata = readCached(file, size, lastModified);
+            if (metadata == null) {
+                LOGGER.debug("Inspecting {}", file);
+                metadata = scan(file, size, lastModified);
+                writeCached(file, metadata);
+            }
+            inspectedJars.put(file, metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Inspects the given jar files in parallel, so that subsequent calls of
+     * {@link #inspect(Path)} are answered from the cache. Jar files that
+     * cannot be read are skipped here; the error is reported when
+     * {@code inspect} is called for them.
+     *
+     * @param jars the jar files to be inspected
+     */
+    public void inspectAll(Collection<Path> jars) {
+        Set<Path> distinctJars = new LinkedHashSet<>(jars);
+        if (distinctJars.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(Runtime.getRuntime().availableProcessors(), distinctJars.size()));
+        try {
+            List<Future<?>> inspections = new ArrayList<>(distinctJars.size());
+            for (Path jar : distinctJars) {
+                inspections.add(executor.submit(() -> {
+                    try {
+                        return inspect(jar);
+                    } catch (IOException e) {
+                        LOGGER.debug("Unable to inspect {}", jar, e);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> inspection : inspections) {
+                ConcurrencyUtils.awaitResult(inspection, "Inspection of jar files");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isUpToDate(JarMetadata metadata, long size, long lastModified) {
+        return metadata.getSize() == size && metadata.getLastModified() == lastModified;
+    }
+
+    private static JarMetadata scan(Path file, long size, long lastModified) throws IOException {
+        Map<String, String> manifestAttributes = new HashMap<>();
+        Set<String> entryNames = new LinkedHashSet<>();
+        try (JarFile jarFile = new JarFile(file.toFile(), false)) {
+            Manifest manifest = jarFile.getManifest();
+            if (manifest != null) {
+                for (Map.Entry<Object, Object> attribute : manifest.getMainAttributes().entrySet()) {
+                    manifestAttributes.put(attribute.getKey().toString(), String.valueOf(attribute.getValue()));
+                }
+            }
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                entryNames.add(entries.nextElement().getName());
+            }
+        }
+        return new JarMetadata(size, lastModified, manifestAttributes, entryNames);
+    }
+
+    private Path cacheFile(Path file) {
+        return cacheDirectory.resolve(CacheFileUtils.sha256Hex(file.toString()) + CACHE_EXTENSION);
+    }
+
+    /**
+     * Reads the result for the given file from the cache directory. Returns
+     * <strong>null</strong> if there is no cache directory or no up-to-date
+     * result for this file.
+     */
+    private JarMetadata readCached(Path file, long size, long lastModified) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        Path cacheFile = cacheFile(file);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            if (!file.toString().equals(properties.getProperty(PROPERTY_PATH)) ||
+                    size != Long.parseLong(properties.getProperty(PROPERTY_SIZE)) ||
+                    lastModified != Long.parseLong(properties.getProperty(PROPERTY_LAST_MODIFIED))) {
+                return null;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable jar metadata cache entry {}.", cacheFile, e);
+            return null;
+        }
+
+        Map<String, String> manifestAttributes = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(PREFIX_MANIFEST)) {
+                manifestAttributes.put(key.substring(PREFIX_MANIFEST.length()), properties.getProperty(key));
+            }
+        }
+        String entries = properties.getProperty(PROPERTY_ENTRIES, "");
+        Set<String> entryNames = entries.isEmpty()
+                ? Collections.emptySet()
+                : new LinkedHashSet<>(Arrays.asList(entries.split(ENTRY_SEPARATOR)));
+        return new JarMetadata(size, lastModified, manifestAttributes, entryNames);
+    }
+
+    private void writeCached(Path file, JarMetadata metadata) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty(PROPERTY_PATH, file.toString());
+        properties.setProperty(PROPERTY_SIZE, String.valueOf(metadata.getSize()));
+        properties.setProperty(PROPERTY_LAST_MODIFIED, String.valueOf(metadata.getLastModified()));
+        metadata.getManifestAttributes()
+                .forEach((name, value) -> properties.setProperty(PREFIX_MANIFEST + name, value));
+        properties.setProperty(PROPERTY_ENTRIES, String.join(ENTRY_SEPARATOR, metadata.getEntryNames()));
+
+        Path cacheFile = cacheFile(file);
+        try {
+            CacheFileUtils.writeProperties(cacheFile, properties);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write jar metadata cache entry {}.", cacheFile, e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The information about a jar file collected by {@link JarInspector}: the
+ * main attributes of its manifest and the names of its entries.
+ */
+public class JarMetadata {
+    private final long size;
+    private final long lastModified;
+    private final Map<String, String> manifestAttributes;
+    private final Set<String> entryNames;
+
+    public JarMetadata(long size, long lastModified, Map<String, String> manifestAttributes,
+                       Set<String> entryNames) {
+        this.size = size;
+        this.lastModified = lastModified;
+        Map<String, String> attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        attributes.putAll(manifestAttributes);
+        this.manifestAttributes = Collections.unmodifiableMap(attributes);
+        this.entryNames = Collections.unmodifiableSet(new LinkedHashSet<>(entryNames));
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the main attributes of the manifest; the names are compared
+     * case-insensitively, as in {@link java.util.jar.Attributes}
+     */
+    public Map<String, String> getManifestAttributes() {
+        return manifestAttributes;
+    }
+
+    public Optional<String> getManifestAttribute(String name) {
+        return Optional.ofNullable(manifestAttributes.get(name));
+    }
+
+    public Set<String> getEntryNames() {
+        return entryNames;
+    }
+
+    public boolean containsEntry(String name) {
+        return entryNames.contains(name);
+    }
+}
@@ -15,10 +15,17 @@ import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.*;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
+import org.eclipse.sw360.antenna.util.ConcurrencyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,6 +37,7 @@ public class AntennaWorkflow {
     private final Collection<AbstractProcessor> processors;
     private final Collection<AbstractGenerator> generators;
     private final List<AbstractOutputHandler> postSinksHooks;
+    private final boolean parallelExecution;
 
     public AntennaWorkflow(AntennaWorkflowConfiguration antennaWFConfig) {
         LOGGER.debug("Initializing workflow ...");
@@ -37,6 +45,7 @@ public class AntennaWorkflow {
         processors = antennaWFConfig.getProcessors();
         generators = antennaWFConfig.getGenerators();
         postSinksHooks = antennaWFConfig.getOutputHandlers();
+        parallelExecution = antennaWFConfig.isParallelExecution();
         LOGGER.debug("Initializing workflow done\n");
     }
 
@@ -46,7 +55,7 @@ public class AntennaWorkflow {
             LOGGER.debug("Start collecting dependencies from");
             Collection<WorkflowStepResult> sourcesResults = getArtifactsFromAnalyzers();
             ProcessingState processingState = new ProcessingState(sourcesResults);
-            if (processingState.getArtifacts().isEmpty()) {
+            if (processingState.getArtifactsView().isEmpty()) {
                 throwOnFailCausingResult(processingState);
                 LOGGER.warn("No analyzer yielded artifacts, skip all other workflow steps");
                 return processingState.getAttachables();
@@ -105,6 +114,13 @@ public class AntennaWorkflow {
 
     private Collection<WorkflowStepResult> getArtifactsFromAnalyzers() {
         Collection<WorkflowStepResult> results = new HashSet<>();
+        if (parallelExecution) {
+            results.addAll(runConcurrently(analyzers, source -> () -> {
+                LOGGER.info("Run {}", source.getWorkflowItemName());
+                return source.yield();
+            }));
+            return results;
+        }
         for(AbstractAnalyzer source : analyzers){
             LOGGER.info("Run {}", source.getWorkflowItemName());
             results.add(source.yield());
@@ -113,12 +129,93 @@ public class AntennaWorkflow {
     }
 
     private void applyProcessors(ProcessingState processingState) {
+        if (parallelExecution) {
+            groupIndependentProcessors().forEach(group -> applyProcessorGroup(processingState, group));
+            return;
+        }
         for (AbstractProcessor processor : processors) {
             LOGGER.info("Run {}", processor.getWorkflowItemName());
             processingState.applyWorkflowStepResult(processor.process(processingState));
         }
     }
 
+    private void applyProcessorGroup(ProcessingState processingState, List<AbstractProcessor> group) {
+        if (group.size() == 1) {
+            AbstractProcessor processor = group.get(0);
+            LOGGER.info("Run {}", processor.getWorkflowItemName());
+            processingState.applyWorkflowStepResult(processor.process(processingState));
+            return;
+        }
+        LOGGER.debug("Run {} independent processors concurrently", group.size());
+        runConcurrently(group, processor -> () -> {
+            LOGGER.info("Run {}", processor.getWorkflowItemName());
+            return processor.process(processingState);
+        }).forEach(processingState::applyWorkflowStepResult);
+    }
+
+    /*
+     * Splits the ordered processors into groups of consecutive processors which can be executed concurrently.
+     * The order of the processors is kept, a processor with unknown facts always forms a group of its own.
+     */
+    private List<List<AbstractProcessor>> groupIndependentProcessors() {
+        List<List<AbstractProcessor>> groups = new ArrayList<>();
+        List<AbstractProcessor> currentGroup = new ArrayList<>();
+        for (AbstractProcessor processor : processors) {
+            if (!currentGroup.isEmpty() &&
+                    !currentGroup.stream().allMatch(member -> areIndependent(member, processor))) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+            }
+            currentGroup.add(processor);
+        }
+        if (!currentGroup.isEmpty()) {
+            groups.add(currentGroup);
+        }
+        return groups;
+    }
+
+    private static boolean areIndependent(AbstractProcessor first, AbstractProcessor second) {
+        if (!declaresFacts(first) || !declaresFacts(second)) {
+            return false;
+        }
+        return !writesAnyOf(first, second.getReadFacts().get()) && !writesAnyOf(first, second.getWrittenFacts().get()) &&
+                !writesAnyOf(second, first.getReadFacts().get()) && !writesAnyOf(second, first.getWrittenFacts().get());
+    }
+
+    private static boolean declaresFacts(AbstractProcessor processor) {
+        return processor.getReadFacts().isPresent() && processor.getWrittenFacts().isPresent();
+    }
+
+    private static boolean writesAnyOf(AbstractProcessor processor, Set<Class<? extends ArtifactFact>> facts) {
+        return processor.getWrittenFacts().get().stream()
+                .anyMatch(written -> facts.stream()
+                        .anyMatch(fact -> written.isAssignableFrom(fact) || fact.isAssignableFrom(written)));
+    }
+
+    /*
+     * Executes a task for each of the given workflow items and returns the results in the order of the items.
+     * Workflow steps are few and mostly wait for files or remote systems, so each of them gets its own thread.
+     */
+    private <T extends ConfigurableWorkflowItem, R> List<R> runConcurrently(Collection<T> items, Function<T, Callable<R>> taskFactory) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(items.size());
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(executor.submit(taskFactory.apply(item)));
+            }
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(ConcurrencyUtils.awaitResult(future, "Workflow execution"));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void warnIfKeysCollide(AbstractGenerator sink, Map<String, IAttachable> generatedOutput, Map<String, IAttachable> oneGeneratedOutput) {
         Set<String> collidingKeys = generatedOutput.keySet().stream()
                 .filter(oneGeneratedOutput.keySet()::contains)
@@ -131,15 +228,29 @@ public class AntennaWorkflow {
 
     private Map<String, IAttachable> generateOutputViaGenerators(ProcessingState processingState) {
         Map<String, IAttachable> generatedOutput = new HashMap<>();
+        if (parallelExecution) {
+            List<Map<String, IAttachable>> outputs = runConcurrently(generators, sink -> () -> {
+                LOGGER.info("Run {}", sink.getWorkflowItemName());
+                return sink.produce(processingState);
+            });
+            Iterator<Map<String, IAttachable>> outputIterator = outputs.iterator();
+            for (AbstractGenerator sink : generators) {
+                addGeneratedOutput(sink, generatedOutput, outputIterator.next());
+            }
+            return generatedOutput;
+        }
         for (AbstractGenerator sink : generators) {
             LOGGER.info("Run {}", sink.getWorkflowItemName());
-            Map<String, IAttachable> oneGeneratedOutput = sink.produce(processingState);
-            warnIfKeysCollide(sink, generatedOutput, oneGeneratedOutput);
-            generatedOutput.putAll(oneGeneratedOutput);
+            addGeneratedOutput(sink, generatedOutput, sink.produce(processingState));
         }
         return generatedOutput;
     }
 
+    private void addGeneratedOutput(AbstractGenerator sink, Map<String, IAttachable> generatedOutput, Map<String, IAttachable> oneGeneratedOutput) {
+        warnIfKeysCollide(sink, generatedOutput, oneGeneratedOutput);
+        generatedOutput.putAll(oneGeneratedOutput);
+    }
+
     private void applyOutputPostHandler(Map<String, IAttachable> generatedOutput) {
         for (AbstractOutputHandler postSinksHook: postSinksHooks) {
             postSinksHook.handle(generatedOutput);
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public class AntennaWorkflowConfiguration {
 
@@ -28,6 +29,7 @@ public class AntennaWorkflowConfiguration {
     private final List<AbstractProcessor> processors;
     private final List<AbstractGenerator> generators;
     private final List<AbstractOutputHandler> outputHandlers;
+    private final boolean parallelExecution;
 
     public AntennaWorkflowConfiguration(AntennaContext context) {
         LOGGER.debug("Initializing workflow configuration ...");
@@ -58,6 +60,11 @@ public class AntennaWorkflowConfiguration {
 
         outputHandlers = OutputHandlerFactory.getOutputHandlers(workflow, context);
 
+        parallelExecution = Optional.ofNullable(workflow.isParallelExecution()).orElse(false);
+        if (parallelExecution) {
+            LOGGER.debug("Analyzers, generators and independent processors will be executed in parallel");
+        }
+
         LOGGER.debug("Initializing workflow configuration done");
     }
 
@@ -77,6 +84,10 @@ public class AntennaWorkflowConfiguration {
         return outputHandlers;
     }
 
+    public boolean isParallelExecution() {
+        return parallelExecution;
+    }
+
     private void debugLogAndWarnOnDuplicateOrders(String nameOfSteps, List<? extends ConfigurableWorkflowItem> items) {
         LOGGER.debug("The calculated order of " + nameOfSteps + " is:");
         for (int i = 0; i < items.size() ; i++) {
@@ -80,6 +80,9 @@ public class WorkflowFileLoader {
             }
             overrideWorkflowItems(workflowFromClasspath, workflowFromOverride, w -> w.getOutputHandlers().getStep());
         }
+        if (workflowFromOverride.isParallelExecution() != null) {
+            workflowFromClasspath.setParallelExecution(workflowFromOverride.isParallelExecution());
+        }
     }
 
     private static <T> void overrideWorkflowItems(Workflow workflowFromClasspath,
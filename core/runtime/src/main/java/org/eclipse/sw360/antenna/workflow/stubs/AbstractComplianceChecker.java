@@ -17,6 +17,7 @@ import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.api.workflow.WorkflowStepResult;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,19 @@ public abstract class AbstractComplianceChecker extends AbstractProcessor {
         return artifacts;
     }
 
+    /**
+     * Compliance checkers only evaluate the artifacts, so they may read any fact but never write one.
+     */
+    @Override
+    public Optional<Set<Class<? extends ArtifactFact>>> getReadFacts() {
+        return Optional.of(Collections.singleton(ArtifactFact.class));
+    }
+
+    @Override
+    public Optional<Set<Class<? extends ArtifactFact>>> getWrittenFacts() {
+        return Optional.of(Collections.emptySet());
+    }
+
     @Override
     public WorkflowStepResult postProcessResult(WorkflowStepResult result) {
         WorkflowStepResult pResult = super.postProcessResult(result);
@@ -17,11 +17,12 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public class DefaultPolicyEvaluation implements IPolicyEvaluation {
 
-    private final Set<IEvaluationResult> evaluationResults = new HashSet<>();
+    private final Set<IEvaluationResult> evaluationResults = new LinkedHashSet<>();
 
     public void addEvaluationResult(String ruleId, String description, IEvaluationResult.Severity severity, Artifact failedArtifact) {
         addEvaluationResult(new DefaultEvaluationResult(ruleId, description, severity, failedArtifact));
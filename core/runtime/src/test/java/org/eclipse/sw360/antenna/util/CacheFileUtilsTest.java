@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheFileUtilsTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void toHexConvertsAllBytes() {
+        assertThat(CacheFileUtils.toHex(new byte[]{0, 15, (byte) 0xab, -1})).isEqualTo("000fabff");
+    }
+
+    @Test
+    public void sha256HexHashesTheText() {
+        assertThat(CacheFileUtils.sha256Hex("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    public void writePropertiesCreatesDirectoriesAndLeavesNoTempFiles() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("sub");
+        Path file = directory.resolve("test.properties");
+        Properties properties = new Properties();
+        properties.setProperty("key", "value ä");
+
+        CacheFileUtils.writeProperties(file, properties);
+
+        Properties written = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            written.load(reader);
+        }
+        assertThat(written).isEqualTo(properties);
+        assertThat(directory.toFile().list()).containsExactly("test.properties");
+    }
+
+    @Test
+    public void copyAtomicallyReplacesAnExistingTarget() throws IOException {
+        Path source = temporaryFolder.newFile("source").toPath();
+        Path target = temporaryFolder.newFile("target").toPath();
+        Files.write(source, "new".getBytes(StandardCharsets.UTF_8));
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+
+        CacheFileUtils.copyAtomically(source, target);
+
+        assertThat(target).hasContent("new");
+        assertThat(source).hasContent("new");
+        assertThat(temporaryFolder.getRoot().list()).containsExactlyInAnyOrder("source", "target");
+    }
+}
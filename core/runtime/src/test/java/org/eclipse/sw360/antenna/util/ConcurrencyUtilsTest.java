@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2020.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrencyUtilsTest {
+    private static final String OPERATION = "Test operation";
+
+    private static <R> CompletableFuture<R> failedFuture(Throwable cause) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    @Test
+    public void awaitResultReturnsTheResultOfTheFuture() {
+        assertThat(ConcurrencyUtils.awaitResult(CompletableFuture.completedFuture("result"), OPERATION))
+                .isEqualTo("result");
+    }
+
+    @Test
+    public void awaitResultRethrowsRuntimeExceptions() {
+        IllegalStateException cause = new IllegalStateException("failure");
+
+        assertThatThrownBy(() -> ConcurrencyUtils.awaitResult(failedFuture(cause), OPERATION))
+                .isSameAs(cause);
+    }
+
+    @Test
+    public void awaitResultWrapsCheckedExceptions() {
+        IOException cause = new IOException("failure");
+
+        assertThatThrownBy(() -> ConcurrencyUtils.awaitResult(failedFuture(cause), OPERATION))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessage("Test operation failed: failure")
+                .hasCause(cause);
+    }
+
+    @Test
+    public void awaitResultRethrowsCheckedExceptionsOfTheGivenType() {
+        IOException cause = new IOException("failure");
+
+        assertThatThrownBy(() -> ConcurrencyUtils.awaitResult(failedFuture(cause), OPERATION, IOException.class))
+                .isSameAs(cause);
+    }
+
+    @Test
+    public void awaitResultHandlesInterruption() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> ConcurrencyUtils.awaitResult(new CompletableFuture<String>(), OPERATION))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasMessage("Test operation was interrupted");
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
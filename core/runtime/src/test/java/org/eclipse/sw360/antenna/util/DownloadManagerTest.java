@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.sw360.antenna.http.HttpClientFactoryImpl;
+import org.eclipse.sw360.antenna.http.config.HttpClientConfig;
+import org.eclipse.sw360.antenna.http.utils.HttpConstants;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DownloadManagerTest {
+    private static final String TEST_CONTENT = "Content of the test file to be downloaded.";
+    private static final String FILE_NAME = "archive.zip";
+    private static final String FILE_REQUEST = "/test/downloads/" + FILE_NAME;
+    private static final String ETAG = "\"v1\"";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort());
+
+    private Path cacheDirectory;
+
+    private Path targetDirectory;
+
+    private DownloadManager downloadManager;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+        targetDirectory = temporaryFolder.newFolder("target").toPath();
+        downloadManager = new DownloadManager(new HttpClientFactoryImpl().newHttpClient(HttpClientConfig.basicConfig()),
+                cacheDirectory, 2);
+    }
+
+    private static void checkDownloadedFile(File file, String expectedContent) throws IOException {
+        assertThat(file.getName()).isEqualTo(FILE_NAME);
+        assertThat(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)).isEqualTo(expectedContent);
+    }
+
+    @Test
+    public void downloadWritesTheFileToDiskAndIntoTheCache() throws IOException {
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withBody(TEST_CONTENT)));
+
+        File file = downloadManager.download(wireMockRule.url(FILE_REQUEST), targetDirectory);
+
+        checkDownloadedFile(file, TEST_CONTENT);
+        assertThat(file.toPath().getParent()).isEqualTo(targetDirectory);
+        assertThat(cacheDirectory.resolve("blobs").resolve(DigestUtils.sha256Hex(TEST_CONTENT))).exists();
+        assertThat(targetDirectory.toFile().list()).containsOnly(FILE_NAME);
+    }
+
+    @Test
+    public void unchangedFileIsTakenFromTheCache() throws IOException {
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("If-None-Match", absent())
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withHeader("ETag", ETAG)
+                        .withBody(TEST_CONTENT)));
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("If-None-Match", equalTo(ETAG))
+                .willReturn(aResponse().withStatus(304)));
+        downloadManager.download(wireMockRule.url(FILE_REQUEST), targetDirectory);
+        Path otherTargetDirectory = temporaryFolder.newFolder("other").toPath();
+
+        File file = downloadManager.download(wireMockRule.url(FILE_REQUEST), otherTargetDirectory);
+
+        checkDownloadedFile(file, TEST_CONTENT);
+        wireMockRule.verify(1, getRequestedFor(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("If-None-Match", equalTo(ETAG)));
+    }
+
+    @Test
+    public void interruptedDownloadIsResumed() throws IOException {
+        String url = wireMockRule.url(FILE_REQUEST);
+        int offset = 10;
+        Path partialDirectory = Files.createDirectories(cacheDirectory.resolve("partial"));
+        String urlHash = DigestUtils.sha256Hex(url);
+        Files.write(partialDirectory.resolve(urlHash + ".part"),
+                TEST_CONTENT.substring(0, offset).getBytes(StandardCharsets.UTF_8));
+        Files.write(partialDirectory.resolve(urlHash + ".part.properties"),
+                Arrays.asList("url=" + url.replace(":", "\\:"), "etag=" + ETAG, "lastModified="));
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("Range", equalTo("bytes=" + offset + "-"))
+                .withHeader("If-Range", equalTo(ETAG))
+                .willReturn(aResponse().withStatus(206)
+                        .withHeader("Content-Range", "bytes " + offset + "-" + (TEST_CONTENT.length() - 1) + "/" +
+                                TEST_CONTENT.length())
+                        .withBody(TEST_CONTENT.substring(offset))));
+
+        File file = downloadManager.download(url, targetDirectory);
+
+        checkDownloadedFile(file, TEST_CONTENT);
+        assertThat(partialDirectory.toFile().list()).isEmpty();
+    }
+
+    private Path writePartialDownload(String url, int length, String etag) throws IOException {
+        Path partialDirectory = Files.createDirectories(cacheDirectory.resolve("partial"));
+        String urlHash = DigestUtils.sha256Hex(url);
+        Path partialFile = partialDirectory.resolve(urlHash + ".part");
+        Files.write(partialFile, TEST_CONTENT.substring(0, length).getBytes(StandardCharsets.UTF_8));
+        Files.write(partialDirectory.resolve(urlHash + ".part.properties"),
+                Arrays.asList("url=" + url.replace(":", "\\:"), "etag=" + etag, "lastModified="));
+        return partialFile;
+    }
+
+    @Test
+    public void downloadWithBrokenResponseLeavesNoPartialFiles() {
+        String url = wireMockRule.url(FILE_REQUEST);
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withHeader("ETag", ETAG)
+                        .withHeader("Content-Length", String.valueOf(TEST_CONTENT.length()))
+                        .withFault(Fault.RANDOM_DATA_THEN_CLOSE)));
+
+        assertThatThrownBy(() -> downloadManager.download(url, targetDirectory))
+                .isInstanceOf(IOException.class);
+
+        assertThat(cacheDirectory.resolve("partial").toFile().list()).isEmpty();
+        assertThat(targetDirectory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void interruptedTransferIsKeptAndResumed() throws IOException {
+        String url = wireMockRule.url(FILE_REQUEST);
+        int offset = 10;
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("Range", absent())
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withHeader("ETag", ETAG)
+                        .withHeader("Content-Length", String.valueOf(TEST_CONTENT.length()))
+                        .withBody(TEST_CONTENT.substring(0, offset))));
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("Range", equalTo("bytes=" + offset + "-"))
+                .withHeader("If-Range", equalTo(ETAG))
+                .willReturn(aResponse().withStatus(206)
+                        .withHeader("Content-Range", "bytes " + offset + "-" + (TEST_CONTENT.length() - 1) + "/" +
+                                TEST_CONTENT.length())
+                        .withBody(TEST_CONTENT.substring(offset))));
+        assertThatThrownBy(() -> downloadManager.download(url, targetDirectory))
+                .isInstanceOf(IOException.class);
+
+        File file = downloadManager.download(url, targetDirectory);
+
+        checkDownloadedFile(file, TEST_CONTENT);
+        wireMockRule.verify(1, getRequestedFor(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("Range", equalTo("bytes=" + offset + "-")));
+        assertThat(cacheDirectory.resolve("partial").toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void downloadWithServerErrorKeepsThePartialDownload() throws IOException {
+        String url = wireMockRule.url(FILE_REQUEST);
+        Path partialFile = writePartialDownload(url, 10, ETAG);
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(503)));
+
+        assertThatThrownBy(() -> downloadManager.download(url, targetDirectory))
+                .isInstanceOf(IOException.class);
+
+        assertThat(partialFile).hasContent(TEST_CONTENT.substring(0, 10));
+        assertThat(partialFile.resolveSibling(partialFile.getFileName() + ".properties")).exists();
+    }
+
+    @Test
+    public void downloadWithClientErrorDiscardsThePartialDownload() throws IOException {
+        String url = wireMockRule.url(FILE_REQUEST);
+        writePartialDownload(url, 10, ETAG);
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_ERR_NOT_FOUND)));
+
+        assertThatThrownBy(() -> downloadManager.download(url, targetDirectory))
+                .isInstanceOf(IOException.class);
+
+        assertThat(cacheDirectory.resolve("partial").toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void partialDownloadIsReplacedIfTheContentHasChanged() throws IOException {
+        String url = wireMockRule.url(FILE_REQUEST);
+        writePartialDownload(url, 10, "\"v0\"");
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .withHeader("If-Range", equalTo("\"v0\""))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withHeader("ETag", ETAG)
+                        .withBody(TEST_CONTENT)));
+
+        File file = downloadManager.download(url, targetDirectory);
+
+        checkDownloadedFile(file, TEST_CONTENT);
+        assertThat(cacheDirectory.resolve("partial").toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void stalePartialDownloadsAreRemoved() throws IOException {
+        Path stalePartialFile = writePartialDownload(wireMockRule.url("/other.zip"), 10, ETAG);
+        Files.setLastModifiedTime(stalePartialFile,
+                FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8)));
+        Path recentPartialFile = writePartialDownload(wireMockRule.url("/recent.zip"), 10, ETAG);
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withBody(TEST_CONTENT)));
+
+        downloadManager.download(wireMockRule.url(FILE_REQUEST), targetDirectory);
+
+        assertThat(stalePartialFile).doesNotExist();
+        assertThat(stalePartialFile.resolveSibling(stalePartialFile.getFileName() + ".properties")).doesNotExist();
+        assertThat(recentPartialFile).exists();
+    }
+
+    @Test
+    public void downloadAllSkipsFailedDownloads() {
+        wireMockRule.stubFor(get(urlPathEqualTo(FILE_REQUEST))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_OK)
+                        .withBody(TEST_CONTENT)));
+        wireMockRule.stubFor(get(urlPathEqualTo("/missing.zip"))
+                .willReturn(aResponse().withStatus(HttpConstants.STATUS_ERR_NOT_FOUND)));
+        String url = wireMockRule.url(FILE_REQUEST);
+        String missingUrl = wireMockRule.url("/missing.zip");
+
+        Map<String, File> files = downloadManager.downloadAll(Arrays.asList(missingUrl, url, url), targetDirectory);
+
+        assertThat(files).containsOnlyKeys(url);
+        wireMockRule.verify(1, getRequestedFor(urlPathEqualTo(FILE_REQUEST)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.util;
+
+import org.eclipse.sw360.antenna.testing.util.JarCreator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JarInspectorTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private JarCreator jarCreator;
+
+    private Path cacheDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        jarCreator = new JarCreator();
+        cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+    }
+
+    @After
+    public void tearDown() {
+        jarCreator.cleanUp();
+    }
+
+    @Test
+    public void inspectReturnsManifestAndEntries() throws IOException {
+        Path jar = jarCreator.createJarWithManifest();
+
+        JarMetadata metadata = new JarInspector(cacheDirectory).inspect(jar);
+
+        assertThat(metadata.getManifestAttribute("bundle-symbolicname").get()).startsWith(JarCreator.testManifestSymbolicName);
+        assertThat(metadata.getManifestAttribute("Bundle-Version")).contains(JarCreator.testManifestVersion);
+        assertThat(metadata.getEntryNames()).contains("META-INF/MANIFEST.MF");
+        assertThat(metadata.getSize()).isEqualTo(Files.size(jar));
+    }
+
+    @Test
+    public void unchangedJarIsTakenFromTheCacheDirectory() throws IOException {
+        Path jar = jarCreator.createJarWithManifest();
+        new JarInspector(cacheDirectory).inspect(jar);
+        File[] cacheFiles = cacheDirectory.toFile().listFiles();
+        assertThat(cacheFiles).hasSize(1);
+        List<String> cacheEntry = Files.readAllLines(cacheFiles[0].toPath(), StandardCharsets.UTF_8).stream()
+                .map(line -> line.startsWith("entries=") ? "entries=cached" : line)
+                .collect(Collectors.toList());
+        Files.write(cacheFiles[0].toPath(), cacheEntry, StandardCharsets.UTF_8);
+
+        JarMetadata metadata = new JarInspector(cacheDirectory).inspect(jar);
+
+        assertThat(metadata.getEntryNames()).containsExactly("cached");
+        assertThat(metadata.getManifestAttribute("Bundle-SymbolicName").get()).startsWith(JarCreator.testManifestSymbolicName);
+    }
+
+    @Test
+    public void changedJarIsInspectedAgain() throws IOException {
+        Path jar = jarCreator.createJarWithManifest();
+        JarInspector inspector = new JarInspector(cacheDirectory);
+        long originalSize = inspector.inspect(jar).getSize();
+        Files.write(jar, new byte[]{0}, StandardOpenOption.APPEND);
+
+        JarMetadata metadata = inspector.inspect(jar);
+
+        assertThat(metadata.getSize()).isNotEqualTo(originalSize).isEqualTo(Files.size(jar));
+        assertThat(metadata.getEntryNames()).contains("META-INF/MANIFEST.MF");
+    }
+
+    @Test
+    public void forTargetDirectoryStoresResultsInTheCacheDirectory() throws IOException {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        Path jar = jarCreator.createJarWithManifest();
+
+        JarInspector.forTargetDirectory(targetDirectory).inspect(jar);
+
+        assertThat(targetDirectory.resolve(JarInspector.CACHE_DIRECTORY_NAME).toFile().list()).hasSize(1);
+    }
+
+    @Test
+    public void inspectAllSkipsUnreadableFiles() throws IOException {
+        Path jar = jarCreator.createJarWithoutManifest();
+        Path noJar = temporaryFolder.newFile("no.jar").toPath();
+        Files.write(noJar, "no jar".getBytes(StandardCharsets.UTF_8));
+        JarInspector inspector = new JarInspector();
+
+        inspector.inspectAll(Arrays.asList(jar, noJar));
+
+        assertThat(inspector.inspect(jar).getManifestAttributes()).isEmpty();
+    }
+}
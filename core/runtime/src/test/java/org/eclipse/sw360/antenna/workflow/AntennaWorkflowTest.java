@@ -10,12 +10,19 @@
  */
 package org.eclipse.sw360.antenna.workflow;
 
+import org.eclipse.sw360.antenna.api.Attachable;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractAnalyzer;
+import org.eclipse.sw360.antenna.api.workflow.AbstractGenerator;
+import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.api.workflow.WorkflowStepResult;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactHomepage;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceUrl;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 /*
  * Copyright (c) Bosch.IO GmbH 2021.
@@ -30,8 +37,16 @@ import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.eclipse.sw360.antenna.workflow.stubs.DefaultPolicyEvaluation;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -45,7 +60,7 @@ public class AntennaWorkflowTest extends AntennaTestWithMockedContext {
      * Creates a mock of an {@code AntennaWFConfig} with all workflow steps.
      * @param analyzer Analyzer to be returned by the getAnalyzers method
      */
-    private void createAntennaWFConfigMock(DummyAnalyzer analyzer) {
+    private void createAntennaWFConfigMock(AbstractAnalyzer analyzer) {
         antennaWFConfigMock = mock(AntennaWorkflowConfiguration.class);
         when(antennaWFConfigMock.getAnalyzers()).thenReturn(Collections.singleton(analyzer));
         when(antennaWFConfigMock.getProcessors()).thenReturn(Collections.emptySet());
@@ -82,6 +97,137 @@ public class AntennaWorkflowTest extends AntennaTestWithMockedContext {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    public void parallelExecutionRunsAllAnalyzersAndGenerators() {
+        Artifact artifact1 = new Artifact("first").addFact(new ArtifactFilename("first.jar"));
+        Artifact artifact2 = new Artifact("second").addFact(new ArtifactFilename("second.jar"));
+        CountDownLatch analyzersStarted = new CountDownLatch(2);
+        antennaWFConfigMock = mock(AntennaWorkflowConfiguration.class);
+        when(antennaWFConfigMock.isParallelExecution()).thenReturn(true);
+        when(antennaWFConfigMock.getAnalyzers()).thenReturn(Arrays.asList(
+                new BlockingAnalyzer(analyzersStarted, artifact1), new BlockingAnalyzer(analyzersStarted, artifact2)));
+        when(antennaWFConfigMock.getProcessors()).thenReturn(Collections.emptySet());
+        when(antennaWFConfigMock.getGenerators()).thenReturn(Arrays.asList(
+                new CountingGenerator("first"), new CountingGenerator("second")));
+        when(antennaWFConfigMock.getOutputHandlers()).thenReturn(Collections.emptyList());
+
+        Map<String, IAttachable> result = new AntennaWorkflow(antennaWFConfigMock).execute();
+
+        assertThat(result).containsOnlyKeys("first", "second");
+        assertThat(result.get("first").getFile().getName()).isEqualTo("2");
+    }
+
+    @Test
+    public void parallelExecutionRunsIndependentProcessorsConcurrently() {
+        Artifact artifact = new Artifact("test").addFact(new ArtifactFilename("test.jar"));
+        CountDownLatch processorsStarted = new CountDownLatch(2);
+        FactWritingProcessor homepageProcessor = new FactWritingProcessor(processorsStarted, ArtifactHomepage.class,
+                new ArtifactHomepage("https://www.eclipse.org"));
+        FactWritingProcessor sourceUrlProcessor = new FactWritingProcessor(processorsStarted, ArtifactSourceUrl.class,
+                new ArtifactSourceUrl("https://www.eclipse.org/sources.zip"));
+        createAntennaWFConfigMock(new FixedAnalyzer(artifact));
+        when(antennaWFConfigMock.isParallelExecution()).thenReturn(true);
+        when(antennaWFConfigMock.getProcessors()).thenReturn(Arrays.asList(homepageProcessor, sourceUrlProcessor));
+
+        new AntennaWorkflow(antennaWFConfigMock).execute();
+
+        assertThat(artifact.askFor(ArtifactHomepage.class)).isPresent();
+        assertThat(artifact.askFor(ArtifactSourceUrl.class)).isPresent();
+    }
+
+    /**
+     * Analyzer that only yields its artifact after all analyzers sharing the
+     * latch have been started, so it fails if analyzers run sequentially.
+     */
+    private static class BlockingAnalyzer extends FixedAnalyzer {
+        private final CountDownLatch started;
+
+        BlockingAnalyzer(CountDownLatch started, Artifact artifact) {
+            super(artifact);
+            this.started = started;
+        }
+
+        @Override
+        public WorkflowStepResult yield() {
+            awaitOthers(started);
+            return super.yield();
+        }
+    }
+
+    private static class FixedAnalyzer extends AbstractAnalyzer {
+        private final Artifact artifact;
+
+        FixedAnalyzer(Artifact artifact) {
+            this.artifact = artifact;
+        }
+
+        @Override
+        public String getName() {
+            return "Fixed";
+        }
+
+        @Override
+        public WorkflowStepResult yield() {
+            return new WorkflowStepResult(Collections.singleton(artifact), true);
+        }
+    }
+
+    private static class CountingGenerator extends AbstractGenerator {
+        private final String key;
+
+        CountingGenerator(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Map<String, IAttachable> produce(Collection<Artifact> intermediates) {
+            Map<String, IAttachable> result = new HashMap<>();
+            result.put(key, new Attachable("txt", key, new File(String.valueOf(intermediates.size()))));
+            return result;
+        }
+    }
+
+    private static class FactWritingProcessor extends AbstractProcessor {
+        private final CountDownLatch started;
+        private final Class<? extends ArtifactFact> factClass;
+        private final ArtifactFact fact;
+
+        FactWritingProcessor(CountDownLatch started, Class<? extends ArtifactFact> factClass, ArtifactFact fact) {
+            this.started = started;
+            this.factClass = factClass;
+            this.fact = fact;
+        }
+
+        @Override
+        public Collection<Artifact> process(Collection<Artifact> intermediates) {
+            awaitOthers(started);
+            intermediates.forEach(artifact -> artifact.addFact(fact));
+            return intermediates;
+        }
+
+        @Override
+        public Optional<Set<Class<? extends ArtifactFact>>> getReadFacts() {
+            return Optional.of(Collections.emptySet());
+        }
+
+        @Override
+        public Optional<Set<Class<? extends ArtifactFact>>> getWrittenFacts() {
+            return Optional.of(Collections.singleton(factClass));
+        }
+    }
+
+    private static void awaitOthers(CountDownLatch started) {
+        started.countDown();
+        try {
+            if (!started.await(10, TimeUnit.SECONDS)) {
+                throw new ExecutionException("Workflow steps were not executed in parallel");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Interrupted", e);
+        }
+    }
+
     /**
      * Dummy class to create a dummy analyzer usable
      * for mocking purposes.
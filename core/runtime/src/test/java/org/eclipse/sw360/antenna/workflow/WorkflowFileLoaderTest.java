@@ -159,6 +159,18 @@ public class WorkflowFileLoaderTest {
 
             assertTrue(workflow.getGenerators() == null || workflow.getGenerators().getStep().size() == 0);
         }
+
+        @Test
+        public void testOverrideOfParallelExecution() {
+            Workflow workflow = WorkflowFileLoader.loadRenderedWorkflow(TestWorkflowGenerator.wrapWorkflow(""));
+            Workflow override = WorkflowFileLoader.loadRenderedWorkflow(
+                    TestWorkflowGenerator.wrapWorkflow("<parallelExecution>true</parallelExecution>\n"));
+
+            assertNull(workflow.isParallelExecution());
+            WorkflowFileLoader.overrideWorkflow(workflow, override);
+
+            assertTrue(workflow.isParallelExecution());
+        }
     }
 
     @RunWith(Parameterized.class)
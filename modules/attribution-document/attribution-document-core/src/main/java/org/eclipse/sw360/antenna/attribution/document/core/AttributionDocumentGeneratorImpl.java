@@ -17,6 +17,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.multipdf.Overlay;
@@ -26,13 +29,19 @@ import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.PDPageContentStream.AppendMode;
 import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionGoTo;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionURI;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationLink;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageXYZDestination;
 
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.attribution.document.core.model.ArtifactAndLicense;
 import org.eclipse.sw360.antenna.attribution.document.core.model.LicenseInfo;
 import org.eclipse.sw360.antenna.attribution.document.utils.PDFWriterUtils;
 import org.eclipse.sw360.antenna.attribution.document.utils.TemplateLoaderUtil;
-import rst.pdfbox.layout.elements.ControlElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import rst.pdfbox.layout.elements.Document;
 import rst.pdfbox.layout.elements.Paragraph;
 import rst.pdfbox.layout.text.Alignment;
@@ -41,8 +50,21 @@ import rst.pdfbox.layout.text.TextFlow;
 
 /**
  * Generates a attribution document based on provided templates and values.
+ * <p>
+ * The title, copyright and back pages as well as the content pages are rendered into intermediate files, which are
+ * then merged and stamped with the footers in a single pass. The content pages are rendered in independent chunks on a
+ * bounded pool: the list of artifacts in ranges of {@value #ARTIFACTS_PER_CHUNK} artifacts and the text of every
+ * license on its own. How much main memory PDFBox may use before it falls back to scratch files is given by a
+ * {@link MemoryUsageSetting}; documents that are open at the same time share this limit.
  */
 public class AttributionDocumentGeneratorImpl {
+    private static final Logger LOG = LoggerFactory.getLogger(AttributionDocumentGeneratorImpl.class);
+    private static final int ARTIFACTS_PER_CHUNK = 100;
+    /*
+     * The links from the artifacts to the license texts point to another chunk, which pdfbox-layout cannot resolve.
+     * They are written as URI links with this prefix and turned into links to the license pages while merging.
+     */
+    private static final String LICENSE_LINK_PREFIX = "antenna-license:";
     private static final String PARAGRAPH_TEXT = "The %s utilizes third-party software components. " +
             "This attribution document lists these software components and their licenses.";
     private static final String PARAGRAPH_MARKUP = "Components are identified by " +
@@ -52,6 +74,7 @@ public class AttributionDocumentGeneratorImpl {
     private final File workingDir;
     private final String templateKey;
     private final DocumentValues values;
+    private final MemoryUsageSetting memoryUsageSetting;
 
     /**
      * @param documentName  (non-blank) the name of the attribution document name
@@ -60,10 +83,23 @@ public class AttributionDocumentGeneratorImpl {
      * @param values        (non-null)
      */
     public AttributionDocumentGeneratorImpl(String documentName, File workingDir, String templateKey, DocumentValues values) {
+        this(documentName, workingDir, templateKey, values, MemoryUsageSetting.setupMainMemoryOnly());
+    }
+
+    /**
+     * @param documentName       (non-blank) the name of the attribution document name
+     * @param workingDir         (non-null) a writable directory to store intermediate and resulting files
+     * @param templateKey        (non-blank) the key identifying the {@link TemplateBundle}.
+     * @param values             (non-null)
+     * @param memoryUsageSetting (non-null) the memory PDFBox may use for the documents it loads or creates
+     */
+    public AttributionDocumentGeneratorImpl(String documentName, File workingDir, String templateKey, DocumentValues values,
+                                            MemoryUsageSetting memoryUsageSetting) {
         this.documentName = documentName;
         this.workingDir = workingDir;
         this.templateKey = templateKey;
         this.values = values;
+        this.memoryUsageSetting = memoryUsageSetting;
     }
 
     /**
@@ -102,18 +138,124 @@ public class AttributionDocumentGeneratorImpl {
         }
     }
 
+    /*
+     * Every chunk of the content pages is rendered into its own copy of the content template, so the chunks do not
+     * share any PDFBox state. The copies are created on this thread, as a template must not be read concurrently.
+     * Each chunk closes its copy when it is done; the remaining copies are closed if the generation fails.
+     */
     private File generate(List<ArtifactAndLicense> artifacts, Templates templates) {
-        File title = writeTitle(templates);
-        File copyright = writeCopyright(templates);
-        File backPage = writeBackPage(templates.getBackPage());
-        File artifactPages = writeArtifacts(templates, artifacts, templates.getContent());
-        File intermediateDoc = mergePages(title, copyright, artifactPages, backPage);
+        List<List<ArtifactAndLicense>> artifactChunks = splitIntoChunks(artifacts);
+        List<LicenseInfo> licenses = sortByTitle(extractUniqueLicenses(artifacts));
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), artifactChunks.size() + licenses.size());
+        MemoryUsageSetting chunkSetting = memoryUsageSetting.getPartitionedCopy(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<PDDocument> contentTemplates = new ArrayList<>();
+        try {
+            List<Future<File>> artifactPages = new ArrayList<>();
+            for (int i = 0; i < artifactChunks.size(); i++) {
+                PDDocument template = copyContentTemplate(templates, contentTemplates);
+                List<ArtifactAndLicense> chunk = artifactChunks.get(i);
+                boolean first = i == 0;
+                String fileName = "artifacts-" + i + ".pdf";
+                artifactPages.add(executor.submit(() ->
+                        writeArtifacts(templates, chunk, first, template, fileName, chunkSetting)));
+            }
+            List<Future<File>> licensePages = new ArrayList<>();
+            for (int i = 0; i < licenses.size(); i++) {
+                PDDocument template = copyContentTemplate(templates, contentTemplates);
+                LicenseInfo license = licenses.get(i);
+                String fileName = "license-" + i + ".pdf";
+                licensePages.add(executor.submit(() ->
+                        writeLicenseText(templates, license, template, fileName, chunkSetting)));
+            }
+
+            List<File> parts = new ArrayList<>();
+            parts.add(writeTitle(templates));
+            parts.add(writeCopyright(templates));
+            File backPage = writeBackPage(templates.getBackPage());
+            for (Future<File> artifactPage : artifactPages) {
+                parts.add(awaitResult(artifactPage));
+            }
+            Map<File, String> licenseKeys = new HashMap<>();
+            for (int i = 0; i < licenses.size(); i++) {
+                File licensePage = awaitResult(licensePages.get(i));
+                licenseKeys.put(licensePage, licenses.get(i).getKey());
+                parts.add(licensePage);
+            }
+            parts.add(backPage);
+
+            return mergeAndPostProcess(templates, documentName, parts, licenseKeys);
+        } finally {
+            executor.shutdownNow();
+            contentTemplates.forEach(AttributionDocumentGeneratorImpl::close);
+        }
+    }
+
+    private static List<List<ArtifactAndLicense>> splitIntoChunks(List<ArtifactAndLicense> artifacts) {
+        List<List<ArtifactAndLicense>> chunks = new ArrayList<>();
+        for (int start = 0; start < artifacts.size(); start += ARTIFACTS_PER_CHUNK) {
+            chunks.add(artifacts.subList(start, Math.min(start + ARTIFACTS_PER_CHUNK, artifacts.size())));
+        }
+        if (chunks.isEmpty()) {
+            chunks.add(Collections.emptyList());
+        }
+        return chunks;
+    }
+
+    private static PDDocument copyContentTemplate(Templates templates, List<PDDocument> copies) {
+        try {
+            PDDocument copy = PDFWriterUtils.copy(templates.getContent());
+            copies.add(copy);
+            return copy;
+        } catch (IOException e) {
+            throw new ExecutionException("Unable to copy the content template", e);
+        }
+    }
+
+    private static File awaitResult(Future<File> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Rendering of the attribution document was interrupted", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ExecutionException("Rendering of the attribution document failed: " + e.getCause().getMessage(),
+                    e.getCause());
+        }
+    }
 
-        return postProcess(templates, intermediateDoc, documentName);
+    private static void close(PDDocument document) {
+        try {
+            document.close();
+        } catch (IOException e) {
+            LOG.debug("Failed to close PDDocument.", e);
+        }
     }
 
-    private File postProcess(Templates templates, File intermediateDoc, String fileName) {
-        try (PDDocument pdDocument = PDDocument.load(intermediateDoc)) {
+    /*
+     * Merges the pages into a new document and adds the footers to it before it is saved, so the merged document is
+     * written only once and does not have to be loaded again. The links to the license texts are resolved in the
+     * same pass. The sources and the merged document are open at the same time, so they share the memory limit, as
+     * in PDFMergerUtility.mergeDocuments.
+     */
+    private File mergeAndPostProcess(Templates templates, String fileName, List<File> mergeFiles,
+                                     Map<File, String> licenseKeys) {
+        MemoryUsageSetting partitionedSetting = memoryUsageSetting.getPartitionedCopy(mergeFiles.size() + 1);
+        List<PDDocument> sources = new ArrayList<>();
+        try (PDDocument pdDocument = new PDDocument(partitionedSetting)) {
+            PDFMergerUtility merger = new PDFMergerUtility();
+            Map<String, Integer> licenseFirstPages = new HashMap<>();
+            for (File f : mergeFiles) {
+                PDDocument source = PDDocument.load(f, partitionedSetting);
+                sources.add(source);
+                if (licenseKeys.containsKey(f)) {
+                    licenseFirstPages.put(licenseKeys.get(f), pdDocument.getNumberOfPages());
+                }
+                merger.appendDocument(pdDocument, source);
+            }
 
             int allPages = pdDocument.getPages().getCount();
             PDFont font = templates.loadSansFont(pdDocument);
@@ -121,6 +263,7 @@ public class AttributionDocumentGeneratorImpl {
             for (int i = 1; i < allPages; i++) {
                 PDPage page = pdDocument.getPage(i);
                 float pageWidth = page.getMediaBox().getWidth();
+                linkToLicenses(pdDocument, page, licenseFirstPages);
                 try (PDPageContentStream contents = new PDPageContentStream(pdDocument, page, AppendMode.APPEND, false)) {
                     writeCopyRightFooter(font, pageWidth, contents);
                     writePageNumber(font, pageWidth, contents, (i + 1) + "/" + allPages);
@@ -131,11 +274,44 @@ public class AttributionDocumentGeneratorImpl {
             pdDocument.save(out);
             return out;
         } catch (IOException e) {
-            throw new ExecutionException("Post process failed", e);
+            throw new ExecutionException("Merging and post processing of the pages failed.", e);
+        } finally {
+            // the merged document refers to the sources, so they must only be closed after it has been saved
+            sources.forEach(AttributionDocumentGeneratorImpl::close);
+        }
+    }
+
+    /*
+     * Replaces the links to license texts on the given page by links to the first pages of these texts.
+     */
+    private static void linkToLicenses(PDDocument document, PDPage page, Map<String, Integer> licenseFirstPages)
+            throws IOException {
+        for (PDAnnotation annotation : page.getAnnotations()) {
+            if (!(annotation instanceof PDAnnotationLink)
+                    || !(((PDAnnotationLink) annotation).getAction() instanceof PDActionURI)) {
+                continue;
+            }
+            PDAnnotationLink link = (PDAnnotationLink) annotation;
+            String uri = ((PDActionURI) link.getAction()).getURI();
+            if (uri == null || !uri.startsWith(LICENSE_LINK_PREFIX)) {
+                continue;
+            }
+            Integer firstPage = licenseFirstPages.get(uri.substring(LICENSE_LINK_PREFIX.length()));
+            if (firstPage == null) {
+                continue;
+            }
+            PDPage licensePage = document.getPage(firstPage);
+            PDPageXYZDestination destination = new PDPageXYZDestination();
+            destination.setPage(licensePage);
+            destination.setTop((int) licensePage.getMediaBox().getUpperRightY());
+            PDActionGoTo goTo = new PDActionGoTo();
+            goTo.setDestination(destination);
+            link.setAction(goTo);
         }
     }
 
-    private File writeArtifacts(Templates templates, List<ArtifactAndLicense> artifacts, PDDocument template) {
+    private File writeArtifacts(Templates templates, List<ArtifactAndLicense> artifacts, boolean withIntroduction,
+                                PDDocument template, String fileName, MemoryUsageSetting setting) {
         PDFont sansFont = templates.loadSansFont(template);
         PDFont italicFont = templates.loadSansItalicFont(template);
         PDFont boldFont = templates.loadSansBoldFont(template);
@@ -143,50 +319,57 @@ public class AttributionDocumentGeneratorImpl {
 
         try {
             Document document = new Document(40, 60, 80, 80);
-            document.add(createParagraph(String.format(PARAGRAPH_TEXT + "%n", values.getProductName()),
-                    String.format(PARAGRAPH_MARKUP + "%n%n"),
-                    10,
-                    sansFont,
-                    boldFont,
-                    italicFont,
-                    boldItalicFont));
+            if (withIntroduction) {
+                document.add(createParagraph(String.format(PARAGRAPH_TEXT + "%n", values.getProductName()),
+                        String.format(PARAGRAPH_MARKUP + "%n%n"),
+                        10,
+                        sansFont,
+                        boldFont,
+                        italicFont,
+                        boldItalicFont));
+            }
 
             for (ArtifactAndLicense artifact : artifacts) {
                 document.add(createParagraph(artifact, 10, sansFont, boldFont, italicFont, boldItalicFont));
             }
-            writeLicenseText(document, artifacts, 15, sansFont, boldFont, italicFont, boldItalicFont);
 
-            File file = new File(workingDir, "intermediate.artifacts.pdf");
+            File file = new File(workingDir, "intermediate." + fileName);
             doSave(document, file);
-            return doOverlay(file, template, "artifacts.pdf");
+            return doOverlay(file, template, fileName, setting);
         } catch (IOException e) {
             throw new ExecutionException("Failed to write artifact and licenses", e);
+        } finally {
+            close(template);
         }
     }
 
-    private Document writeLicenseText(Document document, List<ArtifactAndLicense> artifacts, int size, PDFont sansFont,
-                                  PDFont boldFont,
-                                  PDFont italicFont,
-                                  PDFont boldItalicFont) throws IOException {
-        Map<String, LicenseInfo> licenses = extractUniqueLicenses(artifacts);
-        List<LicenseInfo> sortedLicenses = sortByTitle(licenses);
-
-        for (LicenseInfo license : sortedLicenses) {
-            document.add(ControlElement.NEWPAGE);
+    private File writeLicenseText(Templates templates, LicenseInfo license, PDDocument template, String fileName,
+                                  MemoryUsageSetting setting) {
+        PDFont sansFont = templates.loadSansFont(template);
+        PDFont italicFont = templates.loadSansItalicFont(template);
+        PDFont boldFont = templates.loadSansBoldFont(template);
+        PDFont boldItalicFont = templates.loadBoldItalicFont(template);
 
+        try {
+            Document document = new Document(40, 60, 80, 80);
             Paragraph p = new Paragraph();
-            p.addMarkup(String.format("{anchor:%s}*%s*{anchor} %n%n", license.getKey(), license.getTitle()),
-                    size,
+            p.addMarkup(String.format("*%s* %n%n", license.getTitle()),
+                    15,
                     sansFont,
                     boldFont,
                     italicFont,
                     boldItalicFont);
             p.addText(license.getText(), 10, sansFont);
-
             document.add(p);
-        }
 
-        return document;
+            File file = new File(workingDir, "intermediate." + fileName);
+            doSave(document, file);
+            return doOverlay(file, template, fileName, setting);
+        } catch (IOException e) {
+            throw new ExecutionException("Failed to write license text of " + license.getKey(), e);
+        } finally {
+            close(template);
+        }
     }
 
     private Paragraph createParagraph(ArtifactAndLicense artifact, int size, PDFont sansFont, PDFont boldFont,
@@ -218,8 +401,8 @@ public class AttributionDocumentGeneratorImpl {
         }
         p.addMarkup("*Licenses:*", size, sansFont, boldFont, italicFont, boldItalicFont);
         for (LicenseInfo license : artifact.getLicenses()){
-            p.addMarkup(String.format("%n- {color:#0000EE}{link[#%s]}%s{link}{color:#000000}",
-                                        license.getKey(), license.getShortName()),
+            p.addMarkup(String.format("%n- {color:#0000EE}{link[%s%s]}%s{link}{color:#000000}",
+                                        LICENSE_LINK_PREFIX, license.getKey(), license.getShortName()),
                     size,
                     sansFont,
                     boldFont,
@@ -258,26 +441,6 @@ public class AttributionDocumentGeneratorImpl {
         return map;
     }
 
-    private File mergePages(File... mergeFiles) {
-        PDFMergerUtility merger = new PDFMergerUtility();
-
-        File outFile = new File(workingDir, "merged.attribute-doc.pdf");
-
-        try (FileOutputStream fos = new FileOutputStream(outFile)) {
-            merger.setDestinationStream(fos);
-            merger.setDestinationFileName(outFile.getPath());
-
-            for (File f : mergeFiles) {
-                merger.addSource(f);
-            }
-
-            merger.mergeDocuments(MemoryUsageSetting.setupMainMemoryOnly());
-            return outFile;
-        } catch (IOException e) {
-            throw new ExecutionException("Merging single pages failed.", e);
-        }
-    }
-
     private void writeCopyRightFooter(final PDFont font, float pageWidth, PDPageContentStream contents) throws IOException {
         TextFlow copyright = new TextFlow();
         copyright.setMaxWidth(pageWidth - 50);
@@ -334,9 +497,9 @@ public class AttributionDocumentGeneratorImpl {
         }
     }
 
-    private File doOverlay(File file, PDDocument template, String newFileName) {
+    private File doOverlay(File file, PDDocument template, String newFileName, MemoryUsageSetting setting) {
         File overlayed = new File(workingDir, newFileName);
-        try (PDDocument content = PDDocument.load(file);
+        try (PDDocument content = PDDocument.load(file, setting);
              Overlay overlay = new Overlay();
              FileOutputStream fos = new FileOutputStream(overlayed))  {
             overlay.setInputPDF(content);
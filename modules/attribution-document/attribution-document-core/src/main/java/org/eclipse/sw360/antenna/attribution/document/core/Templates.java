@@ -11,7 +11,8 @@
  */
 package org.eclipse.sw360.antenna.attribution.document.core;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.font.PDType0Font;
@@ -24,7 +25,6 @@ import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Optional;
 
 public class Templates implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(AttributionDocumentGeneratorImpl.class);
@@ -70,38 +70,31 @@ public class Templates implements Closeable {
         this.content = content;
     }
 
-    public void loadFontDataForTemplate(TemplateBundle bundle) {
-        fontDataSansBold = loadFontData(bundle.loadSansBoldFont());
-        fontDataBoldItalic = loadFontData(bundle.loadSansBoldItalicFont());
-        fontDataSans = loadFontData(bundle.loadSansFont());
-        fontDataSansItalic = loadFontData(bundle.loadSansItalicFont());
+    /**
+     * Sets the data of the fonts, an empty array selects the default font. The arrays are not copied, as they are
+     * shared by all templates loaded from the same bundle, and must not be modified.
+     */
+    public void setFontData(byte[] sans, byte[] sansBold, byte[] sansItalic, byte[] sansBoldItalic) {
+        fontDataSans = sans;
+        fontDataSansBold = sansBold;
+        fontDataSansItalic = sansItalic;
+        fontDataBoldItalic = sansBoldItalic;
     }
 
     public PDFont loadSansFont(PDDocument doc) {
-        return fontDataSans.length > 0 ? loadFont(doc, fontDataSans) : PDType1Font.TIMES_ROMAN;
+        return fontDataSans.length > 0 ? loadFont(doc, fontDataSans) : loadStandardFont(PDType1Font.TIMES_ROMAN);
     }
 
     public PDFont loadSansBoldFont(PDDocument doc) {
-        return fontDataSansBold.length > 0 ? loadFont(doc, fontDataSansBold) : PDType1Font.TIMES_BOLD;
+        return fontDataSansBold.length > 0 ? loadFont(doc, fontDataSansBold) : loadStandardFont(PDType1Font.TIMES_BOLD);
     }
 
     public PDFont loadSansItalicFont(PDDocument doc) {
-        return fontDataSansItalic.length > 0 ? loadFont(doc, fontDataSansItalic) : PDType1Font.TIMES_ITALIC;
+        return fontDataSansItalic.length > 0 ? loadFont(doc, fontDataSansItalic) : loadStandardFont(PDType1Font.TIMES_ITALIC);
     }
 
     public PDFont loadBoldItalicFont(PDDocument doc) {
-        return fontDataBoldItalic.length > 0 ? loadFont(doc, fontDataBoldItalic) : PDType1Font.TIMES_BOLD_ITALIC;
-    }
-
-    private static byte[] loadFontData(Optional<InputStream> fontData) {
-        if (fontData.isPresent()) {
-            try (InputStream i = fontData.get()) {
-                return IOUtils.toByteArray(i);
-            } catch (IOException e) {
-                throw new ExecutionException("Unable to load font.", e);
-            }
-        }
-        return new byte[0];
+        return fontDataBoldItalic.length > 0 ? loadFont(doc, fontDataBoldItalic) : loadStandardFont(PDType1Font.TIMES_BOLD_ITALIC);
     }
 
     private static PDFont loadFont(PDDocument doc, byte[] data) {
@@ -112,6 +105,23 @@ public class Templates implements Closeable {
         }
     }
 
+    /*
+     * Creates a new instance of the given standard font. The shared constants of PDType1Font cache glyph widths in
+     * unsynchronized maps, so they must not be used by documents that are rendered in parallel.
+     */
+    private static PDFont loadStandardFont(PDType1Font font) {
+        COSDictionary fontDictionary = new COSDictionary();
+        fontDictionary.setItem(COSName.TYPE, COSName.FONT);
+        fontDictionary.setItem(COSName.SUBTYPE, COSName.TYPE1);
+        fontDictionary.setName(COSName.BASE_FONT, font.getBaseFont());
+        fontDictionary.setItem(COSName.ENCODING, COSName.WIN_ANSI_ENCODING);
+        try {
+            return new PDType1Font(fontDictionary);
+        } catch (IOException e) {
+            throw new ExecutionException("Could not load font.", e);
+        }
+    }
+
     @Override
     public void close() {
         try {
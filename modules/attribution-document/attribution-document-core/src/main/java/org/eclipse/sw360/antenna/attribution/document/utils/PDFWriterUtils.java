@@ -10,6 +10,8 @@
  */
 package org.eclipse.sw360.antenna.attribution.document.utils;
 
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.multipdf.PDFCloneUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -36,4 +38,30 @@ public class PDFWriterUtils {
             throw new ExecutionException("Writing text failed.", e);
         }
     }
+
+    /**
+     * Creates an independent copy of a document. The whole catalog is copied, so that also attributes the pages
+     * inherit from the page tree are kept. The copy can be used by another thread than the original, but the
+     * original must not be used by other threads while it is copied.
+     *
+     * @param document (non-null) the document to copy
+     * @return (non-null) the copy, which must be closed by the caller
+     * @throws IOException if the document cannot be read
+     */
+    public static PDDocument copy(PDDocument document) throws IOException {
+        PDDocument copy = new PDDocument();
+        try {
+            copy.getDocument().getTrailer().setItem(COSName.ROOT,
+                    new PDFCloneUtility(copy).cloneForNewDocument(document.getDocumentCatalog()));
+            copy.setVersion(document.getVersion());
+            return copy;
+        } catch (IOException | RuntimeException e) {
+            try {
+                copy.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) Bosch.IO GmbH 2021.
+ * <p>
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * <p>
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.attribution.document.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.eclipse.sw360.antenna.attribution.document.core.TemplateBundle;
+import org.eclipse.sw360.antenna.attribution.document.core.Templates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The parsed template PDFs and the raw font data of a {@link TemplateBundle}. The parsed templates are never
+ * modified; every call of {@link #toTemplates()} creates independent copies of them, as the copies are modified
+ * while a document is generated. Copying the object tree of a template is much cheaper than parsing it again.
+ * Instances can be shared between threads, they must be closed when they are no longer used.
+ */
+final class TemplateData implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(TemplateData.class);
+    private static final byte[] NO_FONT = new byte[0];
+
+    private final PDDocument title;
+    private final PDDocument copyright;
+    private final PDDocument content;
+    private final PDDocument backPage;
+    private final byte[] sansFont;
+    private final byte[] sansBoldFont;
+    private final byte[] sansItalicFont;
+    private final byte[] sansBoldItalicFont;
+
+    private TemplateData(PDDocument title, PDDocument copyright, PDDocument content, PDDocument backPage,
+                         TemplateBundle bundle) {
+        this.title = title;
+        this.copyright = copyright;
+        this.content = content;
+        this.backPage = backPage;
+        sansFont = readFont(bundle.loadSansFont());
+        sansBoldFont = readFont(bundle.loadSansBoldFont());
+        sansItalicFont = readFont(bundle.loadSansItalicFont());
+        sansBoldItalicFont = readFont(bundle.loadSansBoldItalicFont());
+    }
+
+    static TemplateData read(TemplateBundle bundle) {
+        PDDocument title = readTemplate(bundle::loadTitleTemplate);
+        PDDocument copyright = null;
+        PDDocument content = null;
+        PDDocument backPage = null;
+        try {
+            copyright = readTemplate(bundle::loadCopyrightTemplate);
+            content = readTemplate(bundle::loadContentTemplate);
+            backPage = readTemplate(bundle::loadBackPageTemplate);
+            return new TemplateData(title, copyright, content, backPage, bundle);
+        } catch (RuntimeException e) {
+            closeAll(title, copyright, content, backPage);
+            throw e;
+        }
+    }
+
+    synchronized Templates toTemplates() {
+        Templates templates = new Templates();
+        templates.setTitle(copyTemplate(title));
+        templates.setCopyright(copyTemplate(copyright));
+        templates.setBackPage(copyTemplate(backPage));
+        templates.setContent(copyTemplate(content));
+        templates.setFontData(sansFont, sansBoldFont, sansItalicFont, sansBoldItalicFont);
+        return templates;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeAll(title, copyright, content, backPage);
+    }
+
+    private static PDDocument readTemplate(Supplier<InputStream> fileLoader) {
+        try (InputStream is = fileLoader.get()) {
+            return PDDocument.load(is);
+        } catch (Exception e) {
+            throw new ExecutionException("Unable to load template", e);
+        }
+    }
+
+    private static byte[] readFont(Optional<InputStream> fontData) {
+        if (!fontData.isPresent()) {
+            return NO_FONT;
+        }
+        try (InputStream is = fontData.get()) {
+            return IOUtils.toByteArray(is);
+        } catch (IOException e) {
+            throw new ExecutionException("Unable to load font.", e);
+        }
+    }
+
+    private static PDDocument copyTemplate(PDDocument template) {
+        try {
+            return PDFWriterUtils.copy(template);
+        } catch (IOException e) {
+            throw new ExecutionException("Unable to copy template", e);
+        }
+    }
+
+    private static void closeAll(PDDocument... templates) {
+        for (PDDocument template : templates) {
+            if (template == null) {
+                continue;
+            }
+            try {
+                template.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close a template PDDocument.");
+                LOG.debug("Stacktrace: ", e);
+            }
+        }
+    }
+}
@@ -12,12 +12,18 @@
 package org.eclipse.sw360.antenna.attribution.document.utils;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.attribution.document.core.TemplateBundle;
 import org.eclipse.sw360.antenna.attribution.document.core.Templates;
@@ -26,16 +32,37 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Utility to load {@link TemplateBundle} instances via {@link ServiceLoader}
+ * <p>
+ * The parsed templates and the fonts are cached for the lifetime of the JVM, keyed by the bundle key or by the
+ * paths of the template files. So when several documents are generated in one process, e.g. in a Maven reactor
+ * build, the bundles are only looked up and parsed once, and every load only copies the parsed templates. Template
+ * files are read again when their size or modification time changes, and only the most recently used sets of
+ * template files are kept.
  */
 public final class TemplateLoaderUtil {
     private static final Logger LOG = LoggerFactory.getLogger(TemplateLoaderUtil.class);
+    private static final int MAX_CACHED_TEMPLATE_FILES = 16;
+    private static final Map<String, TemplateData> BUNDLE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, CachedTemplateFiles> FILE_CACHE =
+            new LinkedHashMap<String, CachedTemplateFiles>(MAX_CACHED_TEMPLATE_FILES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedTemplateFiles> eldest) {
+                    if (size() > MAX_CACHED_TEMPLATE_FILES) {
+                        eldest.getValue().data.close();
+                        return true;
+                    }
+                    return false;
+                }
+            };
 
     private TemplateLoaderUtil() {
         // only utils
     }
 
     public static Templates load(String key) {
-        return load(getLoader(key));
+        return BUNDLE_CACHE.computeIfAbsent(key.toLowerCase(Locale.ENGLISH),
+                cacheKey -> TemplateData.read(getLoader(key)))
+                .toTemplates();
     }
 
     public static Templates load(File cover, File copyright, File content, File back) {
@@ -45,7 +72,33 @@ public final class TemplateLoaderUtil {
 
     public static Templates load(File cover, File copyright, File content, File back, Optional<File> regular,
                                  Optional<File> bold, Optional<File> boldItalic, Optional<File> italic) {
-        return load(new TemplateBundle() {
+        List<Optional<File>> files = Arrays.asList(Optional.of(cover), Optional.of(copyright), Optional.of(content),
+                Optional.of(back), regular, bold, boldItalic, italic);
+        String cacheKey = files.stream()
+                .map(file -> file.map(File::getAbsolutePath).orElse(""))
+                .collect(Collectors.joining("|"));
+        String version = files.stream()
+                .map(file -> file.map(f -> f.length() + ":" + f.lastModified()).orElse(""))
+                .collect(Collectors.joining("|"));
+
+        synchronized (FILE_CACHE) {
+            CachedTemplateFiles cached = FILE_CACHE.get(cacheKey);
+            if (cached == null || !cached.version.equals(version)) {
+                if (cached != null) {
+                    cached.data.close();
+                }
+                cached = new CachedTemplateFiles(version, TemplateData.read(
+                        fileBundle(cover, copyright, content, back, regular, bold, boldItalic, italic)));
+                FILE_CACHE.put(cacheKey, cached);
+            }
+            return cached.data.toTemplates();
+        }
+    }
+
+    private static TemplateBundle fileBundle(File cover, File copyright, File content, File back,
+                                             Optional<File> regular, Optional<File> bold,
+                                             Optional<File> boldItalic, Optional<File> italic) {
+        return new TemplateBundle() {
             @Override
             public String key() {
                 return "";
@@ -142,18 +195,26 @@ public final class TemplateLoaderUtil {
                     throw new ExecutionException("Could not load bold italic font", e);
                 }
             }
-        });
+        };
     }
 
     public static Templates load(TemplateBundle bundle) {
-        Templates templates = new Templates();
-        templates.setTitle(loadTemplate(bundle::loadTitleTemplate));
-        templates.setCopyright(loadTemplate(bundle::loadCopyrightTemplate));
-        templates.setBackPage(loadTemplate(bundle::loadBackPageTemplate));
-        templates.setContent(loadTemplate(bundle::loadContentTemplate));
-        templates.loadFontDataForTemplate(bundle);
-
-        return templates;
+        try (TemplateData data = TemplateData.read(bundle)) {
+            return data.toTemplates();
+        }
+    }
+
+    /**
+     * Drops all cached templates, so that they are read again on the next load. Must not be called while templates
+     * are loaded by other threads.
+     */
+    public static void clearCache() {
+        new ArrayList<>(BUNDLE_CACHE.keySet()).forEach(key ->
+                Optional.ofNullable(BUNDLE_CACHE.remove(key)).ifPresent(TemplateData::close));
+        synchronized (FILE_CACHE) {
+            FILE_CACHE.values().forEach(cached -> cached.data.close());
+            FILE_CACHE.clear();
+        }
     }
 
     private static TemplateBundle getLoader(String templateKey) {
@@ -168,11 +229,16 @@ public final class TemplateLoaderUtil {
                 "Please check your classpath or configuration.");
     }
 
-    private static PDDocument loadTemplate(Supplier<InputStream> fileLoader) {
-        try (InputStream is = fileLoader.get()) {
-            return PDDocument.load(is);
-        } catch (Exception e) {
-            throw new ExecutionException("Unable to load template", e);
+    /**
+     * The templates read from files, with the sizes and modification times of the files when they were read.
+     */
+    private static final class CachedTemplateFiles {
+        private final String version;
+        private final TemplateData data;
+
+        CachedTemplateFiles(String version, TemplateData data) {
+            this.version = version;
+            this.data = data;
         }
     }
 }
@@ -14,11 +14,13 @@ import org.eclipse.sw360.antenna.attribution.document.core.TemplateBundle;
 import org.eclipse.sw360.antenna.attribution.document.utils.TemplateLoaderUtil;
 
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Used to test the service locater in {@link TemplateLoaderUtil}.
  */
 public class MockTemplateBundle implements TemplateBundle {
+   static final AtomicInteger TITLE_LOADS = new AtomicInteger();
 
    @Override
    public String key() {
@@ -27,6 +29,7 @@ public class MockTemplateBundle implements TemplateBundle {
 
    @Override
    public InputStream loadTitleTemplate() {
+      TITLE_LOADS.incrementAndGet();
       return testTemplate();
    }
 
@@ -12,8 +12,14 @@
 package org.eclipse.sw360.antenna.attribution.document.core;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -44,6 +50,54 @@ class TemplateLoaderUtilTest {
       assertThat( templates.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
    }
 
+   @Test
+   void loadBundleIsCached() throws Exception {
+      TemplateLoaderUtil.clearCache();
+      int loadsBefore = MockTemplateBundle.TITLE_LOADS.get();
+
+      try (Templates first = TemplateLoaderUtil.load( "mock-bundle" );
+           Templates second = TemplateLoaderUtil.load( "MOCK-BUNDLE" )) {
+         assertThat( MockTemplateBundle.TITLE_LOADS.get() - loadsBefore ).isEqualTo( 1 );
+         assertThat( first.getTitle() ).isNotSameAs( second.getTitle() );
+         assertThat( second.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
+      }
+   }
+
+   @Test
+   void loadedTemplatesAreIndependentCopies() throws Exception {
+      try (Templates first = TemplateLoaderUtil.load( "mock-bundle" )) {
+         first.getTitle().addPage( new PDPage() );
+      }
+
+      try (Templates second = TemplateLoaderUtil.load( "mock-bundle" )) {
+         assertThat( second.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
+      }
+   }
+
+   @Test
+   void loadBundleFromFilesReadsChangedFilesAgain( @TempDir Path directory ) throws Exception {
+      File template = directory.resolve( "template.pdf" ).toFile();
+      try (InputStream testTemplate = getClass().getResourceAsStream( "/templates/test.pdf" )) {
+         Files.copy( testTemplate, template.toPath() );
+      }
+      File cover = directory.resolve( "cover.pdf" ).toFile();
+      Files.copy( template.toPath(), cover.toPath() );
+      try (Templates templates = TemplateLoaderUtil.load( cover, template, template, template )) {
+         assertThat( templates.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
+      }
+
+      try (PDDocument twoPages = new PDDocument()) {
+         twoPages.addPage( new PDPage() );
+         twoPages.addPage( new PDPage() );
+         twoPages.save( cover );
+      }
+      assertThat( cover.setLastModified( cover.lastModified() + 2000 ) ).isTrue();
+
+      try (Templates templates = TemplateLoaderUtil.load( cover, template, template, template )) {
+         assertThat( templates.getTitle().getNumberOfPages() ).isEqualByComparingTo( 2 );
+      }
+   }
+
    @Test
    void loadMissingBundleFails() throws Exception {
 
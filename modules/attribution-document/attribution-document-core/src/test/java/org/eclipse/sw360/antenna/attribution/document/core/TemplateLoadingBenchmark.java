@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.attribution.document.core;
+
+import org.eclipse.sw360.antenna.attribution.document.utils.TemplateLoaderUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading the templates of a bundle from the cache of {@link TemplateLoaderUtil}, which copies the parsed
+ * templates, with reading and parsing them on every load.
+ *
+ * Not part of the test suite, run it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TemplateLoadingBenchmark {
+    private static final String BUNDLE_KEY = "mock-bundle";
+
+    private final TemplateBundle bundle = new MockTemplateBundle();
+
+    @Setup
+    public void setUp() {
+        TemplateLoaderUtil.clearCache();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TemplateLoaderUtil.clearCache();
+    }
+
+    @Benchmark
+    public int loadCached() {
+        try (Templates templates = TemplateLoaderUtil.load(BUNDLE_KEY)) {
+            return templates.getTitle().getNumberOfPages();
+        }
+    }
+
+    @Benchmark
+    public int loadUncached() {
+        try (Templates templates = TemplateLoaderUtil.load(bundle)) {
+            return templates.getTitle().getNumberOfPages();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TemplateLoadingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
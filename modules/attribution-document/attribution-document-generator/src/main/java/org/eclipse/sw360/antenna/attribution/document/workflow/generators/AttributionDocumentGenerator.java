@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.eclipse.sw360.antenna.api.Attachable;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.workflow.AbstractGenerator;
@@ -52,11 +53,15 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
    private static final String CONFIG_PRODUCT_NAME = "attribution.doc.productName";
    private static final String CONFIG_PRODUCT_VERSION = "attribution.doc.productVersion";
    private static final String CONFIG_COPYRIGHT_HOLDER = "attribution.doc.copyrightHolder";
+   private static final String CONFIG_MAX_MAIN_MEMORY = "attribution.doc.maxMainMemory";
+   private static final long UNLIMITED_MAIN_MEMORY = -1;
+   private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
    private static final String WORKING_DIR_NAME = "doc-gen";
 
    private DocumentValues values;
    private String templateKey;
    private String docName;
+   private long maxMainMemoryBytes = UNLIMITED_MAIN_MEMORY;
 
    private File docGenDir;
 
@@ -77,7 +82,8 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
       Path antennaDir = context.getToolConfiguration().getAntennaTargetDirectory();
       docGenDir = createWorkDir(antennaDir);
 
-      AttributionDocumentGeneratorImpl disDoc = new AttributionDocumentGeneratorImpl(docName, docGenDir, templateKey, values);
+      AttributionDocumentGeneratorImpl disDoc = new AttributionDocumentGeneratorImpl(docName, docGenDir, templateKey, values,
+            createMemoryUsageSetting(docGenDir));
 
       File attributionDoc = disDoc.generate(convertAndSort(artifacts));
       long duration = System.currentTimeMillis() - start;
@@ -86,6 +92,13 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
       return Collections.singletonMap(IDENTIFIER, new Attachable(TYPE, CLASSIFIER, attributionDoc));
    }
 
+   private MemoryUsageSetting createMemoryUsageSetting(File workDir) {
+      if (maxMainMemoryBytes == UNLIMITED_MAIN_MEMORY) {
+         return MemoryUsageSetting.setupMainMemoryOnly();
+      }
+      return MemoryUsageSetting.setupMixed(maxMainMemoryBytes).setTempDir(workDir);
+   }
+
    private List<ArtifactAndLicense> convertAndSort(Collection<Artifact> artifacts) {
       List<ArtifactAndLicense> list = artifacts.stream()
             .filter(artifact -> !artifact.isProprietary())
@@ -104,6 +117,11 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
       templateKey = getConfigValue(CONFIG_TEMPLATE_KEY, configMap, DEFAULT_TEMPLATE_KEY);
 
       values = new DocumentValues(confProductName, confProductVersion, confCopyrightHolder);
+
+      final String confMaxMainMemory = getConfigValue(CONFIG_MAX_MAIN_MEMORY, configMap, "");
+      maxMainMemoryBytes = confMaxMainMemory.trim().isEmpty()
+            ? UNLIMITED_MAIN_MEMORY
+            : getIntConfigValue(CONFIG_MAX_MAIN_MEMORY, configMap, 0, 0, Integer.MAX_VALUE) * BYTES_PER_MEGABYTE;
    }
 
    private File createWorkDir(Path antennaDir) {
@@ -32,11 +32,8 @@ public class ArtifactRequesterFactory {
                                                           HttpClient httpClient,
                                                           boolean isMavenInstalled,
                                                           URL sourcesRepositoryUrl) {
-        if (isMavenInstalled) {
-            return useMavenIfRunning(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, Optional.of(sourcesRepositoryUrl))
-                    .orElse(new MavenInvokerRequester(basedir, sourcesRepositoryUrl));
-        }
-        return new HttpRequester(httpClient, sourcesRepositoryUrl);
+        return getArtifactRequester(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, basedir,
+                httpClient, isMavenInstalled, Optional.of(sourcesRepositoryUrl), HttpRequester.DEFAULT_CONCURRENT_REQUESTS);
     }
 
     public static IArtifactRequester getArtifactRequester(Optional<RepositorySystem> optionalRepositorySystem,
@@ -45,11 +42,31 @@ public class ArtifactRequesterFactory {
                                                           File basedir,
                                                           HttpClient httpClient,
                                                           boolean isMavenInstalled) {
+        return getArtifactRequester(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, basedir,
+                httpClient, isMavenInstalled, Optional.empty(), HttpRequester.DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Returns a requester that uses Maven if it is installed and plain HTTP
+     * requests otherwise; the HTTP requester issues at most the given number
+     * of concurrent requests.
+     */
+    public static IArtifactRequester getArtifactRequester(Optional<RepositorySystem> optionalRepositorySystem,
+                                                          Optional<MavenProject> optionalMavenProject,
+                                                          Optional<LegacySupport> optionalLegacySupport,
+                                                          File basedir,
+                                                          HttpClient httpClient,
+                                                          boolean isMavenInstalled,
+                                                          Optional<URL> sourcesRepositoryUrl,
+                                                          int concurrentRequests) {
         if (isMavenInstalled) {
-            return useMavenIfRunning(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, Optional.empty())
-                    .orElse(new MavenInvokerRequester(basedir));
+            return useMavenIfRunning(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, sourcesRepositoryUrl)
+                    .orElseGet(() -> sourcesRepositoryUrl
+                            .map(url -> new MavenInvokerRequester(basedir, url))
+                            .orElseGet(() -> new MavenInvokerRequester(basedir)));
         }
-        return new HttpRequester(httpClient);
+        return new HttpRequester(httpClient, sourcesRepositoryUrl, HttpRequester.getDefaultLocalRepository(),
+                concurrentRequests);
     }
 
     /*
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.maven;
+
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+
+import java.util.Objects;
+
+/**
+ * A request for a single jar file of an artifact, as used by
+ * {@link IArtifactRequester#requestFiles}.
+ */
+public class FileRequest {
+    public final Coordinate mavenCoordinate;
+    public final ClassifierInformation classifierInformation;
+
+    public FileRequest(Coordinate mavenCoordinate, ClassifierInformation classifierInformation) {
+        this.mavenCoordinate = mavenCoordinate;
+        this.classifierInformation = classifierInformation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileRequest that = (FileRequest) o;
+        return Objects.equals(mavenCoordinate, that.mavenCoordinate) &&
+                classifierInformation.isSource == that.classifierInformation.isSource &&
+                Objects.equals(classifierInformation.classifier, that.classifierInformation.classifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mavenCoordinate, classifierInformation.classifier, classifierInformation.isSource);
+    }
+
+    @Override
+    public String toString() {
+        return mavenCoordinate + (classifierInformation.classifier.isEmpty() ? "" : " (" + classifierInformation.classifier + ")");
+    }
+}
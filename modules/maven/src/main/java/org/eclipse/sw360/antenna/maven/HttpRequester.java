@@ -12,7 +12,10 @@
 package org.eclipse.sw360.antenna.maven;
 
 import org.eclipse.sw360.antenna.http.HttpClient;
+import org.eclipse.sw360.antenna.http.utils.FailedRequestException;
+import org.eclipse.sw360.antenna.http.utils.HttpConstants;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.util.ConcurrencyUtils;
 import org.eclipse.sw360.antenna.util.HttpHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +23,31 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Requests jar files for artifacts by making HTTP requests.
+ * Requests jar files for artifacts by making HTTP requests. Files available
+ * in the local Maven repository are copied from there, and files that the
+ * repositories reported as missing are not requested again for some time.
+ * The URLs of missing files are remembered in the target directory of the
+ * jars, so the local Maven repository is never written to.
  */
 public class HttpRequester extends IArtifactRequester {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpRequester.class);
@@ -33,23 +56,125 @@ public class HttpRequester extends IArtifactRequester {
     private static final String VERSION_PLACEHOLDER = "{version}";
     private static final String MAVEN_CENTRAL_URL = "https://repo.maven.apache.org/maven2/" + GROUP_ID_PLACEHOLDER + "/" + ARTIFACT_ID_PLACEHOLDER + "/" + VERSION_PLACEHOLDER + "/";
 
+    private static final String LOCAL_REPOSITORY_PROPERTY = "maven.repo.local";
+    private static final String MISSING_FILE_CACHE_NAME = ".antenna-missing-files.properties";
+
+    /**
+     * The number of files that are requested concurrently by default.
+     */
+    public static final int DEFAULT_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * The time after which a file reported as missing is requested again.
+     */
+    public static final long MISSING_FILE_TIME_TO_LIVE = TimeUnit.HOURS.toMillis(24);
+
     private HttpHelper httpHelper;
     private Optional<URL> sourceRepositoryUrl;
+    private final Path localRepository;
+    private final Map<Path, MissingFileCache> missingFileCaches = new ConcurrentHashMap<>();
+    private final int concurrentRequests;
 
     public HttpRequester(HttpClient httpClient, URL sourceRepositoryUrl) {
-        super();
-        httpHelper = new HttpHelper(httpClient);
-        this.sourceRepositoryUrl = Optional.of(sourceRepositoryUrl);
+        this(httpClient, Optional.of(sourceRepositoryUrl), getDefaultLocalRepository(), DEFAULT_CONCURRENT_REQUESTS);
     }
 
     public HttpRequester(HttpClient httpClient) {
+        this(httpClient, Optional.empty(), getDefaultLocalRepository(), DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * @param httpClient          the client for the HTTP requests
+     * @param sourceRepositoryUrl an optional repository to be tried before
+     *                            Maven Central
+     * @param localRepository     the local Maven repository, from which
+     *                            available files are copied
+     * @param concurrentRequests  the maximum number of files that are
+     *                            requested concurrently
+     */
+    public HttpRequester(HttpClient httpClient, Optional<URL> sourceRepositoryUrl, Path localRepository,
+                         int concurrentRequests) {
         super();
+        if (concurrentRequests < 1) {
+            throw new IllegalArgumentException("The number of concurrent requests must be positive: " + concurrentRequests);
+        }
         httpHelper = new HttpHelper(httpClient);
-        this.sourceRepositoryUrl = Optional.empty();
+        this.sourceRepositoryUrl = sourceRepositoryUrl;
+        this.localRepository = localRepository;
+        this.concurrentRequests = concurrentRequests;
+    }
+
+    /**
+     * Returns the local Maven repository, honouring the
+     * {@code maven.repo.local} system property.
+     */
+    public static Path getDefaultLocalRepository() {
+        String localRepository = System.getProperty(LOCAL_REPOSITORY_PROPERTY);
+        return localRepository != null
+                ? Paths.get(localRepository)
+                : Paths.get(System.getProperty("user.home"), ".m2", "repository");
     }
 
     @Override
     public Optional<File> requestFile(Coordinate mavenCoordinate, Path targetDirectory, ClassifierInformation classifierInformation) {
+        try {
+            return resolveFile(mavenCoordinate, targetDirectory, classifierInformation);
+        } finally {
+            saveMissingFileCaches();
+        }
+    }
+
+    /**
+     * Requests the files concurrently, using at most the configured number
+     * of concurrent requests. Requests for the same target file, i.e. for
+     * artifacts that only differ in their group ID, are handled one after
+     * the other, so that they do not write the same file concurrently.
+     */
+    @Override
+    public Map<FileRequest, File> requestFiles(Collection<FileRequest> requests, Path targetDirectory) {
+        Set<FileRequest> distinctRequests = new LinkedHashSet<>(requests);
+        Map<String, List<FileRequest>> requestsByFileName = new LinkedHashMap<>();
+        for (FileRequest request : distinctRequests) {
+            requestsByFileName.computeIfAbsent(
+                    getExpectedJarBaseName(request.mavenCoordinate, request.classifierInformation),
+                    fileName -> new ArrayList<>()).add(request);
+        }
+        Map<FileRequest, File> result = new LinkedHashMap<>();
+        if (requestsByFileName.isEmpty()) {
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrentRequests, requestsByFileName.size()));
+        try {
+            List<Future<Map<FileRequest, File>>> files = new ArrayList<>(requestsByFileName.size());
+            for (List<FileRequest> sameFileRequests : requestsByFileName.values()) {
+                files.add(executor.submit(() -> resolveFiles(sameFileRequests, targetDirectory)));
+            }
+
+            Map<FileRequest, File> resolvedFiles = new HashMap<>();
+            for (Future<Map<FileRequest, File>> file : files) {
+                resolvedFiles.putAll(ConcurrencyUtils.awaitResult(file, "Requesting jar files"));
+            }
+            for (FileRequest request : distinctRequests) {
+                Optional.ofNullable(resolvedFiles.get(request)).ifPresent(file -> result.put(request, file));
+            }
+        } finally {
+            executor.shutdownNow();
+            saveMissingFileCaches();
+        }
+        return result;
+    }
+
+    private Map<FileRequest, File> resolveFiles(List<FileRequest> requests, Path targetDirectory) {
+        Map<FileRequest, File> result = new LinkedHashMap<>();
+        for (FileRequest request : requests) {
+            resolveFile(request.mavenCoordinate, targetDirectory, request.classifierInformation)
+                    .ifPresent(file -> result.put(request, file));
+        }
+        return result;
+    }
+
+    private Optional<File> resolveFile(Coordinate mavenCoordinate, Path targetDirectory, ClassifierInformation classifierInformation) {
         String jarBaseName = getExpectedJarBaseName(mavenCoordinate, classifierInformation);
         File localJarFile = targetDirectory.resolve(jarBaseName).toFile();
 
@@ -58,6 +183,11 @@ public class HttpRequester extends IArtifactRequester {
             return Optional.of(localJarFile);
         }
 
+        Optional<File> copiedFile = copyFileFromLocalRepository(mavenCoordinate, targetDirectory, jarBaseName);
+        if (copiedFile.isPresent()) {
+            return copiedFile;
+        }
+
         Optional<File> downloadedFile = downloadFileFromUserUrl(mavenCoordinate, targetDirectory, jarBaseName);
 
         if (!downloadedFile.isPresent()) {
@@ -67,6 +197,28 @@ public class HttpRequester extends IArtifactRequester {
         return downloadedFile;
     }
 
+    private Optional<File> copyFileFromLocalRepository(Coordinate mavenCoordinate, Path targetDirectory, String jarBaseName) {
+        Path repositoryFile = localRepository
+                .resolve(mavenCoordinate.getNamespace().replace('.', '/'))
+                .resolve(mavenCoordinate.getName())
+                .resolve(mavenCoordinate.getVersion())
+                .resolve(jarBaseName);
+        if (!Files.isRegularFile(repositoryFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            LOGGER.debug("HttpRequester copying " + repositoryFile + " from the local repository");
+            Files.createDirectories(targetDirectory);
+            Path targetFile = targetDirectory.resolve(jarBaseName);
+            Files.copy(repositoryFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            return Optional.of(targetFile.toFile());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to copy jar from the local repository: ", e);
+            return Optional.empty();
+        }
+    }
+
     private Optional<File> downloadFileFromUserUrl(Coordinate mavenCoordinate, Path targetDirectory, String jarBaseName) {
         if (sourceRepositoryUrl.isPresent()) {
             String jarUrl = convertToJarUrlTemplate(mavenCoordinate, jarBaseName, sourceRepositoryUrl.get().toString());
@@ -83,15 +235,35 @@ public class HttpRequester extends IArtifactRequester {
     }
 
     private Optional<File> tryFileDownload(String jarUrl, Path targetDirectory, String jarBaseName) {
+        MissingFileCache missingFileCache = getMissingFileCache(targetDirectory);
+        if (missingFileCache.isKnownMissing(jarUrl)) {
+            LOGGER.debug("Skipping " + jarUrl + ", which was recently reported as missing");
+            return Optional.empty();
+        }
         try {
             LOGGER.debug("HttpRequester with download path " + jarUrl);
             return Optional.ofNullable(httpHelper.downloadFile(jarUrl, targetDirectory, jarBaseName));
+        } catch (FailedRequestException e) {
+            if (e.getStatusCode() == HttpConstants.STATUS_ERR_NOT_FOUND) {
+                missingFileCache.markMissing(jarUrl);
+            }
+            LOGGER.warn("Failed to find jar: ", e);
+            return Optional.empty();
         } catch (IOException e) {
             LOGGER.warn("Failed to find jar: ", e);
             return Optional.empty();
         }
     }
 
+    private MissingFileCache getMissingFileCache(Path targetDirectory) {
+        return missingFileCaches.computeIfAbsent(targetDirectory.toAbsolutePath().normalize(),
+                directory -> new MissingFileCache(directory.resolve(MISSING_FILE_CACHE_NAME), MISSING_FILE_TIME_TO_LIVE));
+    }
+
+    private void saveMissingFileCaches() {
+        missingFileCaches.values().forEach(MissingFileCache::save);
+    }
+
     private String getJarUrl(Coordinate mavenCoordinate, String remoteFileName, String repoTemplate) {
         // Construct URL (substitute in groupID, artifactID and version
         // NOTE: There should be no dots in the groupID. Dots delimit
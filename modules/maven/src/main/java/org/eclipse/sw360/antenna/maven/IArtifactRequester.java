@@ -14,6 +14,10 @@ import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -34,6 +38,24 @@ public abstract class IArtifactRequester {
      */
     public abstract Optional<File> requestFile(Coordinate mavenCoordinate, Path targetDirectory, ClassifierInformation classifierInformation);
 
+    /**
+     * Requests multiple jar files from a repository. The default
+     * implementation requests the files one by one; subclasses can resolve
+     * them in a single batch.
+     *
+     * @param requests        The jar files to be requested.
+     * @param targetDirectory Where the jar files will be stored.
+     * @return The jar files that could be obtained, in the order of the requests.
+     */
+    public Map<FileRequest, File> requestFiles(Collection<FileRequest> requests, Path targetDirectory) {
+        Map<FileRequest, File> result = new LinkedHashMap<>();
+        for (FileRequest request : new LinkedHashSet<>(requests)) {
+            requestFile(request.mavenCoordinate, targetDirectory, request.classifierInformation)
+                    .ifPresent(file -> result.put(request, file));
+        }
+        return result;
+    }
+
     String getExpectedJarBaseName(Coordinate mavenCoordinate, ClassifierInformation classifierInformation) {
         return mavenCoordinate.getName() + "-" + mavenCoordinate.getVersion()
                 + (classifierInformation.classifier.isEmpty() ? JAR_EXTENSION : "-" + classifierInformation.classifier + JAR_EXTENSION);
@@ -10,6 +10,7 @@
  */
 package org.eclipse.sw360.antenna.maven;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
 import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationRequest;
@@ -20,16 +21,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Requests jar files for artifacts by using Maven Invoker. Use of this class
  * requires Maven to be installed locally.
  * See http://maven.apache.org/shared/maven-invoker/usage.html
+ * <p>
+ * Multiple files requested via {@link #requestFiles(Collection, Path)} are
+ * resolved by a single Maven invocation: a generated multi-module project
+ * contains one module per requested file, which binds {@code dependency:copy}
+ * for this file to the {@code validate} phase. The modules are built in
+ * parallel, and failing modules do not stop the others. Thus, Maven is started only once,
+ * and repository metadata and connections are shared between the requests.
  */
 public class MavenInvokerRequester extends IArtifactRequester {
 
@@ -43,6 +59,12 @@ public class MavenInvokerRequester extends IArtifactRequester {
     private static final String MVN_ARG_CLASSIFIER = "\"-Dclassifier=%s\"";
     private static final String MVN_ARG_REPOS = "\"-DremoteRepositories=%s\"";
     private static final String MVN_DOWNLOAD_CMD = "dependency:get --quiet";
+    private static final String MVN_ARG_OUTPUT_DIRECTORY = "\"-DoutputDirectory=%s\"";
+    private static final String MVN_BATCH_CMD = "validate --quiet";
+    private static final String MVN_BATCH_THREADS = "1C";
+    private static final String DEPENDENCY_PLUGIN_VERSION = "3.1.1";
+    private static final String BATCH_GROUP_ID = "org.eclipse.sw360.antenna.generated";
+    private static final String BATCH_ARTIFACT_ID = "batch-request";
     private final File basedir;
 
     private DefaultInvoker defaultInvoker;
@@ -91,6 +113,161 @@ public class MavenInvokerRequester extends IArtifactRequester {
         return Optional.of(getExpectedJarFile(mavenCoordinate, targetDirectory, classifierInformation));
     }
 
+    @Override
+    public Map<FileRequest, File> requestFiles(Collection<FileRequest> requests, Path targetDirectory) {
+        Map<FileRequest, File> result = new LinkedHashMap<>();
+        Set<FileRequest> missingFiles = new LinkedHashSet<>();
+        for (FileRequest request : requests) {
+            File expectedJarFile = getExpectedJarFile(request.mavenCoordinate, targetDirectory, request.classifierInformation);
+            if (expectedJarFile.exists()) {
+                LOGGER.debug("The file " + expectedJarFile + " already exists and won't be downloaded again");
+                result.put(request, expectedJarFile);
+            } else if (!result.containsKey(request)) {
+                missingFiles.add(request);
+            }
+        }
+        if (missingFiles.size() <= 1) {
+            missingFiles.forEach(request -> requestFile(request.mavenCoordinate, targetDirectory, request.classifierInformation)
+                    .ifPresent(file -> result.put(request, file)));
+            return result;
+        }
+
+        LOGGER.debug("Requesting " + missingFiles.size() + " files in a single Maven invocation");
+        callMavenInvokerForBatch(new ArrayList<>(missingFiles), targetDirectory);
+
+        for (FileRequest request : missingFiles) {
+            File expectedJarFile = getExpectedJarFile(request.mavenCoordinate, targetDirectory, request.classifierInformation);
+            if (expectedJarFile.exists()) {
+                result.put(request, expectedJarFile);
+            } else {
+                String jarType = request.classifierInformation.isSource ? "sources jar" : request.classifierInformation.classifier + " jar";
+                LOGGER.warn("Failed to find " + jarType + ": Artifact " + request.mavenCoordinate.toString() + " not found in repo.");
+            }
+        }
+        return result;
+    }
+
+    private void callMavenInvokerForBatch(List<FileRequest> requests, Path targetDirectory) {
+        Path projectDirectory = null;
+        try {
+            projectDirectory = Files.createTempDirectory(BATCH_ARTIFACT_ID);
+            writeBatchProject(projectDirectory, requests);
+
+            List<String> mvnCopyCmd = new ArrayList<>();
+            mvnCopyCmd.add(String.format(MVN_ARG_OUTPUT_DIRECTORY, targetDirectory));
+            mvnCopyCmd.add(MVN_BATCH_CMD);
+
+            InvocationRequest request = buildInvocationRequest(mvnCopyCmd);
+            request.setPomFile(projectDirectory.resolve(POM_FILENAME).toFile());
+            request.setReactorFailureBehavior(InvocationRequest.ReactorFailureBehavior.FailAtEnd);
+            request.setThreads(MVN_BATCH_THREADS);
+            if (!callMavenInvocationRequest(request)) {
+                LOGGER.debug("Maven reported failures for some of the requested files");
+            }
+        } catch (IOException e) {
+            throw new ExecutionException("Error when generating the project for requesting jars: " + e.getMessage(), e);
+        } finally {
+            if (projectDirectory != null) {
+                FileUtils.deleteQuietly(projectDirectory.toFile());
+            }
+        }
+    }
+
+    /**
+     * Writes a multi-module project with one module per request. Each module
+     * copies the requested file when the {@code validate} phase is executed.
+     */
+    private void writeBatchProject(Path projectDirectory, List<FileRequest> requests) throws IOException {
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < requests.size(); i++) {
+            String module = "request-" + i;
+            modules.append("    <module>").append(module).append("</module>\n");
+            Path moduleDirectory = Files.createDirectories(projectDirectory.resolve(module));
+            writePom(moduleDirectory, "  <parent>\n" +
+                    "    <groupId>" + BATCH_GROUP_ID + "</groupId>\n" +
+                    "    <artifactId>" + BATCH_ARTIFACT_ID + "</artifactId>\n" +
+                    "    <version>1</version>\n" +
+                    "  </parent>\n" +
+                    "  <artifactId>" + module + "</artifactId>\n" +
+                    "  <packaging>pom</packaging>\n" +
+                    "  <build>\n" +
+                    "    <plugins>\n" +
+                    "      <plugin>\n" +
+                    "        <groupId>org.apache.maven.plugins</groupId>\n" +
+                    "        <artifactId>maven-dependency-plugin</artifactId>\n" +
+                    "        <executions>\n" +
+                    "          <execution>\n" +
+                    "            <id>request</id>\n" +
+                    "            <phase>validate</phase>\n" +
+                    "            <goals>\n" +
+                    "              <goal>copy</goal>\n" +
+                    "            </goals>\n" +
+                    "            <configuration>\n" +
+                    "              <artifactItems>\n" +
+                    toArtifactItem(requests.get(i)) +
+                    "              </artifactItems>\n" +
+                    "            </configuration>\n" +
+                    "          </execution>\n" +
+                    "        </executions>\n" +
+                    "      </plugin>\n" +
+                    "    </plugins>\n" +
+                    "  </build>\n");
+        }
+
+        StringBuilder repositories = new StringBuilder();
+        sourceRepositoryUrl.ifPresent(url -> repositories.append("  <repositories>\n" +
+                "    <repository>\n" +
+                "      <id>userRepo</id>\n" +
+                "      <url>").append(escapeXml(url.toString())).append("</url>\n" +
+                "    </repository>\n" +
+                "  </repositories>\n"));
+
+        writePom(projectDirectory, "  <groupId>" + BATCH_GROUP_ID + "</groupId>\n" +
+                "  <artifactId>" + BATCH_ARTIFACT_ID + "</artifactId>\n" +
+                "  <version>1</version>\n" +
+                "  <packaging>pom</packaging>\n" +
+                "  <modules>\n" + modules + "  </modules>\n" +
+                repositories +
+                "  <build>\n" +
+                "    <pluginManagement>\n" +
+                "      <plugins>\n" +
+                "        <plugin>\n" +
+                "          <groupId>org.apache.maven.plugins</groupId>\n" +
+                "          <artifactId>maven-dependency-plugin</artifactId>\n" +
+                "          <version>" + DEPENDENCY_PLUGIN_VERSION + "</version>\n" +
+                "        </plugin>\n" +
+                "      </plugins>\n" +
+                "    </pluginManagement>\n" +
+                "  </build>\n");
+    }
+
+    private static void writePom(Path directory, String content) throws IOException {
+        String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+                "  <modelVersion>4.0.0</modelVersion>\n" +
+                content +
+                "</project>\n";
+        Files.write(directory.resolve(POM_FILENAME), pom.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toArtifactItem(FileRequest request) {
+        Coordinate coordinate = request.mavenCoordinate;
+        String classifier = request.classifierInformation.classifier;
+        return "                <artifactItem>\n" +
+                "                  <groupId>" + escapeXml(coordinate.getNamespace()) + "</groupId>\n" +
+                "                  <artifactId>" + escapeXml(coordinate.getName()) + "</artifactId>\n" +
+                "                  <version>" + escapeXml(coordinate.getVersion()) + "</version>\n" +
+                "                  <type>jar</type>\n" +
+                (classifier.isEmpty() ? "" : "                  <classifier>" + escapeXml(classifier) + "</classifier>\n") +
+                "                </artifactItem>\n";
+    }
+
+    private static String escapeXml(String value) {
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;");
+    }
+
     private boolean callMavenInvoker(Coordinate mavenCoordinate, Path targetDirectory, String classifier) {
         final List<String> mvnDownloadCmd = buildBasicMvnDownloadCmd(mavenCoordinate, targetDirectory);
         sourceRepositoryUrl
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.maven;
+
+import org.eclipse.sw360.antenna.util.CacheFileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the URLs for which a repository answered that the requested
+ * file does not exist, so that they are not requested again on every build.
+ * Entries expire after a configurable time, and the cache is persisted to a
+ * properties file mapping the URLs to the time they were found missing.
+ */
+class MissingFileCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MissingFileCache.class);
+
+    private final Path cacheFile;
+    private final long timeToLiveMillis;
+    private final Map<String, Long> missingSince = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    MissingFileCache(Path cacheFile, long timeToLiveMillis) {
+        this.cacheFile = cacheFile;
+        this.timeToLiveMillis = timeToLiveMillis;
+        missingSince.putAll(read(cacheFile));
+    }
+
+    boolean isKnownMissing(String url) {
+        Long timestamp = missingSince.get(url);
+        return timestamp != null && !isExpired(timestamp, System.currentTimeMillis());
+    }
+
+    void markMissing(String url) {
+        missingSince.put(url, System.currentTimeMillis());
+        modified = true;
+    }
+
+    /**
+     * Writes the cache back to its file if entries have been added. Entries
+     * written by other builds in the meantime are kept, expired ones dropped.
+     */
+    synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Long> entries = read(cacheFile);
+        missingSince.forEach((url, timestamp) -> entries.merge(url, timestamp, Math::max));
+        Properties properties = new Properties();
+        entries.forEach((url, timestamp) -> {
+            if (!isExpired(timestamp, now)) {
+                properties.setProperty(url, String.valueOf(timestamp));
+            }
+        });
+
+        try {
+            CacheFileUtils.writeProperties(cacheFile, properties);
+            modified = false;
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the cache of missing files to {}.", cacheFile, e);
+        }
+    }
+
+    private boolean isExpired(long timestamp, long now) {
+        return now - timestamp >= timeToLiveMillis;
+    }
+
+    private static Map<String, Long> read(Path cacheFile) {
+        Map<String, Long> entries = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(cacheFile)) {
+            return entries;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable cache of missing files {}.", cacheFile, e);
+            return entries;
+        }
+        for (String url : properties.stringPropertyNames()) {
+            try {
+                entries.put(url, Long.parseLong(properties.getProperty(url)));
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Ignoring invalid entry for {} in {}.", url, cacheFile, e);
+            }
+        }
+        return entries;
+    }
+}
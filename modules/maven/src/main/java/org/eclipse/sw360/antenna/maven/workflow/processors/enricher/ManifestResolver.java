@@ -17,15 +17,17 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.util.JarInspector;
+import org.eclipse.sw360.antenna.util.JarMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.jar.JarFile;
-import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 
 /**
  * Processor scans all artifacts whether they are p2 based bundles. This is done by searching
@@ -41,11 +43,13 @@ public class ManifestResolver extends AbstractProcessor {
     }
 
     private Path basePath;
+    private JarInspector jarInspector;
 
     @Override
     public void setAntennaContext(AntennaContext context) {
         super.setAntennaContext(context);
         this.basePath = context.getProject().getBasedir().toPath();
+        this.jarInspector = JarInspector.fromContext(context);
     }
 
     /**
@@ -56,19 +60,25 @@ public class ManifestResolver extends AbstractProcessor {
      * @param artifacts List of artifacts, which will be resolved
      */
     private void resolveManifest(Collection<Artifact> artifacts) {
-        for (Artifact artifact : artifacts) {
-            final Optional<Path> pathname = artifact.askForGet(ArtifactFile.class);
-            if (pathname.isPresent() && pathname.get().toFile().exists()) {
-                resolveManifest(pathname.get(), artifact);
-            }
+        List<Artifact> artifactsWithJar = artifacts.stream()
+                .filter(artifact -> artifact.askForGet(ArtifactFile.class)
+                        .filter(pathname -> pathname.toFile().exists())
+                        .isPresent())
+                .collect(Collectors.toList());
+        jarInspector.inspectAll(artifactsWithJar.stream()
+                .map(artifact -> basePath.resolve(artifact.askForGet(ArtifactFile.class).get()))
+                .collect(Collectors.toList()));
+
+        for (Artifact artifact : artifactsWithJar) {
+            resolveManifest(artifact.askForGet(ArtifactFile.class).get(), artifact);
         }
     }
 
     private void resolveManifest(Path pathname, Artifact artifact){
         LOGGER.debug("Resolving {}", pathname);
 
-        try (JarFile jarFile = new JarFile(basePath.resolve(pathname).toFile())) {
-            setBundleCoordinates(artifact, jarFile.getManifest());
+        try {
+            setBundleCoordinates(artifact, jarInspector.inspect(basePath.resolve(pathname)));
         } catch (IOException e) {
             LOGGER.error("Unable to process \"{}\" because of {}", pathname,
                     e.getMessage());
@@ -81,24 +91,22 @@ public class ManifestResolver extends AbstractProcessor {
     /**
      * Adds the result of getAttribute to the artifacts bundle values.
      */
-    private void setBundleCoordinates(Artifact artifact, Manifest manifest) {
-        final Optional<String> symbolicName = getAttribute(manifest, "Bundle-SymbolicName");
-        final Optional<String> version = getAttribute(manifest, "Bundle-Version");
+    private void setBundleCoordinates(Artifact artifact, JarMetadata jarMetadata) {
+        final Optional<String> symbolicName = getAttribute(jarMetadata, "Bundle-SymbolicName");
+        final Optional<String> version = getAttribute(jarMetadata, "Bundle-Version");
         if(symbolicName.isPresent() || version.isPresent()) {
             artifact.addCoordinate(new Coordinate(Coordinate.Types.P2, symbolicName.orElse(null), version.orElse(null)));
         }
     }
 
     /**
-     * @param manifest      JarFile of which the Manifest file shall be resolved.
+     * @param jarMetadata   Metadata of the jar whose Manifest file shall be resolved.
      * @param attributeName Name of the attribute which should be found in the Manifest
      *                      file.
      * @return Returns the value of
      */
-    private Optional<String> getAttribute(Manifest manifest, String attributeName) {
-        return Optional.ofNullable(manifest)
-                .map(Manifest::getMainAttributes)
-                .flatMap(ma -> Optional.ofNullable(ma.getValue(attributeName)))
+    private Optional<String> getAttribute(JarMetadata jarMetadata, String attributeName) {
+        return jarMetadata.getManifestAttribute(attributeName)
                 .map(av -> av.split(";"))
                 .map(av -> av[0]); // Use first value, because attributes contain further information not needed here after ';'
     }
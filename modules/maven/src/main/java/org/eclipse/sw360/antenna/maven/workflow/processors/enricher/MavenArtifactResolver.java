@@ -18,6 +18,7 @@ import org.apache.maven.repository.RepositorySystem;
 import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
 import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
+import org.eclipse.sw360.antenna.maven.HttpRequester;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
 
@@ -31,10 +32,12 @@ import java.util.Map;
 public class MavenArtifactResolver extends AbstractProcessor {
     private static final String PREFERRED_SOURCE_QUALIFIER = "preferredSourceClassifier";
     private static final String SOURCES_REPOSITORY_URL = "sourcesRepositoryUrl";
+    private static final String CONCURRENT_REQUESTS = "concurrent.requests";
     private Path dependencyTargetDirectory;
     private List<ArtifactSelector> sourceResolvingBlacklist;
     private String preferredSourceQualifier;
     private URL sourcesRepositoryUrl;
+    private int concurrentRequests;
 
     public MavenArtifactResolver() {
         this.workflowStepOrder = 300;
@@ -55,7 +58,8 @@ public class MavenArtifactResolver extends AbstractProcessor {
                 sourcesRepositoryUrl,
                 context.getProcessingReporter(),
                 toolConfig.isMavenInstalled(),
-                context.getProject().getBasedir())
+                context.getProject().getBasedir(),
+                concurrentRequests)
                 .process(artifacts);
     }
 
@@ -72,5 +76,7 @@ public class MavenArtifactResolver extends AbstractProcessor {
             }
         }
         preferredSourceQualifier = configMap.get(PREFERRED_SOURCE_QUALIFIER);
+        concurrentRequests = getIntConfigValue(CONCURRENT_REQUESTS, configMap,
+                HttpRequester.DEFAULT_CONCURRENT_REQUESTS, 1, Integer.MAX_VALUE);
     }
 }
\ No newline at end of file
@@ -19,8 +19,11 @@ import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.http.HttpClient;
 import org.eclipse.sw360.antenna.maven.ArtifactRequesterFactory;
 import org.eclipse.sw360.antenna.maven.ClassifierInformation;
+import org.eclipse.sw360.antenna.maven.FileRequest;
+import org.eclipse.sw360.antenna.maven.HttpRequester;
 import org.eclipse.sw360.antenna.maven.IArtifactRequester;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
 import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactJar;
 import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactSourceJar;
@@ -36,7 +39,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -54,6 +59,7 @@ public class MavenArtifactResolverImpl {
     private final Optional<LegacySupport> optionalLegacySupport;
     private final boolean isMavenInstalled;
     private final File basedir;
+    private final int concurrentRequests;
 
     public MavenArtifactResolverImpl(HttpClient httpClient,
                                      Optional<RepositorySystem> optionalRepositorySystem,
@@ -66,6 +72,23 @@ public class MavenArtifactResolverImpl {
                                      IProcessingReporter processingReporter,
                                      boolean isMavenInstalled,
                                      File basedir) {
+        this(httpClient, optionalRepositorySystem, optionalMavenProject, optionalLegacySupport,
+                dependencyTargetDirectory, sourceResolvingBlacklist, preferredSourceQualifier, sourcesRepositoryUrl,
+                processingReporter, isMavenInstalled, basedir, HttpRequester.DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    public MavenArtifactResolverImpl(HttpClient httpClient,
+                                     Optional<RepositorySystem> optionalRepositorySystem,
+                                     Optional<MavenProject> optionalMavenProject,
+                                     Optional<LegacySupport> optionalLegacySupport,
+                                     Path dependencyTargetDirectory,
+                                     List<ArtifactSelector> sourceResolvingBlacklist,
+                                     String preferredSourceQualifier,
+                                     URL sourcesRepositoryUrl,
+                                     IProcessingReporter processingReporter,
+                                     boolean isMavenInstalled,
+                                     File basedir,
+                                     int concurrentRequests) {
         this.dependencyTargetDirectory = dependencyTargetDirectory;
         this.sourceResolvingBlacklist = sourceResolvingBlacklist;
         this.sourcesRepositoryUrl = sourcesRepositoryUrl;
@@ -77,6 +100,7 @@ public class MavenArtifactResolverImpl {
         this.optionalLegacySupport = optionalLegacySupport;
         this.isMavenInstalled = isMavenInstalled;
         this.basedir = basedir;
+        this.concurrentRequests = concurrentRequests;
     }
 
     public Collection<Artifact> process(Collection<Artifact> artifacts) {
@@ -103,57 +127,80 @@ public class MavenArtifactResolverImpl {
 
         IArtifactRequester artifactRequester = getArtifactRequester();
 
-        List<Artifact> filteredArtifacts = artifacts.stream()
+        List<Artifact> mavenArtifacts = artifacts.stream()
                 .filter(getFilterPredicate())
                 .filter(artifact -> !isIgnoredForSourceResolving(artifact))
+                .filter(artifact -> getMavenCoordinate(artifact).isPresent())
                 .collect(Collectors.toList());
-        for (Artifact artifact : filteredArtifacts) {
-            resolve(artifact, artifactRequester, dependencyTargetDirectory);
-        }
+        resolve(mavenArtifacts, artifactRequester, dependencyTargetDirectory);
     }
 
-
-    private void resolve(Artifact artifact, IArtifactRequester artifactRequester, Path dependencyTargetDirectory) {
-        final Optional<Coordinate> oMavenPurl = artifact.getCoordinateForType(Coordinate.Types.MAVEN);
-        if (!oMavenPurl.isPresent()) {
-            return;
-        }
-        final Coordinate coordinate = oMavenPurl.get();
-        if (coordinate.getName() == null ||
-                coordinate.getNamespace() == null ||
-                ! (Coordinate.Types.MAVEN.equals(coordinate.getType()))) {
-            return;
-        }
-
+    /**
+     * Resolves the files of all artifacts in batches: first the sources with
+     * the preferred qualifier, then the default sources and the jars of the
+     * artifacts that are still lacking them. The requester may resolve the
+     * files of a batch concurrently, but facts and processing messages are
+     * only added on the calling thread once a batch is complete.
+     */
+    private void resolve(List<Artifact> mavenArtifacts, IArtifactRequester artifactRequester, Path dependencyTargetDirectory) {
         // Try to download source with preferred qualifier first
-        if (!artifact.getSourceFile().isPresent() && preferredSourceQualifier != null) {
-            Optional<File> sourceJar = artifactRequester.requestFile(coordinate, dependencyTargetDirectory, new ClassifierInformation(preferredSourceQualifier, true));
-            sourceJar.ifPresent(sourceJarFile -> artifact.addFact(new ArtifactSourceJar(sourceJarFile.toPath())));
+        if (preferredSourceQualifier != null) {
+            ClassifierInformation preferredSource = new ClassifierInformation(preferredSourceQualifier, true);
+            List<Artifact> withoutSources = filter(mavenArtifacts, artifact -> !artifact.getSourceFile().isPresent());
+            Map<FileRequest, File> sourceJars = artifactRequester.requestFiles(
+                    toRequests(withoutSources, preferredSource), dependencyTargetDirectory);
+            addFiles(withoutSources, preferredSource, sourceJars, ArtifactSourceJar::new);
         }
 
-        if (!artifact.getSourceFile().isPresent()) {
-            Optional<File> sourceJar = artifactRequester.requestFile(coordinate, dependencyTargetDirectory, ClassifierInformation.DEFAULT_SOURCE_JAR);
-            sourceJar.ifPresent(sourceJarFile -> artifact.addFact(new ArtifactSourceJar(sourceJarFile.toPath())));
-        }
+        List<Artifact> withoutSources = filter(mavenArtifacts, artifact -> !artifact.getSourceFile().isPresent());
+        List<Artifact> withoutJars = filter(mavenArtifacts, artifact -> !artifact.getFile().isPresent());
+        List<FileRequest> requests = toRequests(withoutSources, ClassifierInformation.DEFAULT_SOURCE_JAR);
+        requests.addAll(toRequests(withoutJars, ClassifierInformation.DEFAULT_JAR));
+        Map<FileRequest, File> files = artifactRequester.requestFiles(requests, dependencyTargetDirectory);
+        addFiles(withoutSources, ClassifierInformation.DEFAULT_SOURCE_JAR, files, ArtifactSourceJar::new);
+        addFiles(withoutJars, ClassifierInformation.DEFAULT_JAR, files, ArtifactJar::new);
+
+        mavenArtifacts.stream()
+                .filter(artifact -> !artifact.getSourceFile().isPresent() && !artifact.getFile().isPresent())
+                .forEach(artifact -> processingReporter.add(artifact, MessageType.MISSING_SOURCES,
+                        "Maven Artifact Coordinates present but non resolvable sources."));
+    }
 
-        if (!artifact.getFile().isPresent()) {
-            Optional<File> jar = artifactRequester.requestFile(coordinate, dependencyTargetDirectory, ClassifierInformation.DEFAULT_JAR);
-            jar.ifPresent(jarFile -> artifact.addFact(new ArtifactJar(jarFile.toPath())));
-        }
+    private static Optional<Coordinate> getMavenCoordinate(Artifact artifact) {
+        return artifact.getCoordinateForType(Coordinate.Types.MAVEN)
+                .filter(coordinate -> coordinate.getName() != null &&
+                        coordinate.getNamespace() != null &&
+                        Coordinate.Types.MAVEN.equals(coordinate.getType()));
+    }
+
+    private static FileRequest toRequest(Artifact artifact, ClassifierInformation classifierInformation) {
+        return new FileRequest(getMavenCoordinate(artifact).get(), classifierInformation);
+    }
+
+    private static List<Artifact> filter(List<Artifact> artifacts, Predicate<Artifact> filter) {
+        return artifacts.stream()
+                .filter(filter)
+                .collect(Collectors.toList());
+    }
 
-        if (!artifact.getSourceFile().isPresent() && !artifact.getFile().isPresent()) {
-            processingReporter.add(artifact, MessageType.MISSING_SOURCES, "Maven Artifact Coordinates present but non resolvable sources.");
+    private static List<FileRequest> toRequests(List<Artifact> artifacts, ClassifierInformation classifierInformation) {
+        return artifacts.stream()
+                .map(artifact -> toRequest(artifact, classifierInformation))
+                .collect(Collectors.toList());
+    }
+
+    private static void addFiles(List<Artifact> artifacts, ClassifierInformation classifierInformation,
+                                 Map<FileRequest, File> files, Function<Path, ? extends ArtifactFact> factCreator) {
+        for (Artifact artifact : artifacts) {
+            Optional.ofNullable(files.get(toRequest(artifact, classifierInformation)))
+                    .ifPresent(file -> artifact.addFact(factCreator.apply(file.toPath())));
         }
     }
 
     IArtifactRequester getArtifactRequester(){
-        return sourcesRepositoryUrl != null
-                ? ArtifactRequesterFactory.getArtifactRequester(
-                optionalRepositorySystem, optionalMavenProject, optionalLegacySupport,
-                basedir, httpClient, isMavenInstalled, sourcesRepositoryUrl)
-                : ArtifactRequesterFactory.getArtifactRequester(
+        return ArtifactRequesterFactory.getArtifactRequester(
                 optionalRepositorySystem, optionalMavenProject, optionalLegacySupport,
-                basedir, httpClient, isMavenInstalled);
+                basedir, httpClient, isMavenInstalled, Optional.ofNullable(sourcesRepositoryUrl), concurrentRequests);
     }
 
 
@@ -12,6 +12,8 @@
 package org.eclipse.sw360.antenna.maven;
 
 import org.eclipse.sw360.antenna.http.HttpClient;
+import org.eclipse.sw360.antenna.http.utils.FailedRequestException;
+import org.eclipse.sw360.antenna.http.utils.HttpConstants;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.eclipse.sw360.antenna.util.HttpHelper;
@@ -25,17 +27,23 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.sw360.antenna.testing.util.AntennaTestingUtils.setVariableValueInObject;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +53,7 @@ public class HttpRequesterTest extends AntennaTestWithMockedContext {
     private HttpRequester hr;
     private Coordinate mavenCoordinate;
     private ClassifierInformation classifierInformation;
+    private Path localRepository;
 
     @Parameterized.Parameters(name = "{index}: isSource={0}")
     public static Collection<Object[]> data() {
@@ -60,8 +69,19 @@ public class HttpRequesterTest extends AntennaTestWithMockedContext {
         this.baseBefore();
         mavenCoordinate = new Coordinate(Coordinate.Types.MAVEN, "groupId", "artifactId", "version");
 
-        hr = new HttpRequester(mock(HttpClient.class), new URL("http://test.repo"));
-        setVariableValueInObject(hr, "httpHelper", httpHelperMock);
+        localRepository = temporaryFolder.newFolder("repository").toPath();
+        hr = newRequester();
+    }
+
+    private HttpRequester newRequester() throws Exception {
+        HttpRequester requester = new HttpRequester(mock(HttpClient.class), Optional.of(new URL("http://test.repo")),
+                localRepository, 2);
+        setVariableValueInObject(requester, "httpHelper", httpHelperMock);
+        return requester;
+    }
+
+    private String getFilename() {
+        return "artifactId-version" + (classifierInformation.isSource ? "-sources" : "") + ".jar";
     }
 
     @Test
@@ -95,4 +115,81 @@ public class HttpRequesterTest extends AntennaTestWithMockedContext {
 
         verify(httpHelperMock, never()).downloadFile(anyString(), eq(targetDirectory), anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void requestFileCopiesFileFromLocalRepository() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        Path repositoryDirectory = Files.createDirectories(localRepository.resolve("groupId/artifactId/version"));
+        Files.write(repositoryDirectory.resolve(getFilename()), "jar".getBytes(StandardCharsets.UTF_8));
+
+        Optional<File> file = hr.requestFile(mavenCoordinate, targetDirectory, classifierInformation);
+
+        assertThat(file).contains(targetDirectory.resolve(getFilename()).toFile());
+        assertThat(file.get()).hasContent("jar");
+        verify(httpHelperMock, never()).downloadFile(anyString(), eq(targetDirectory), anyString());
+    }
+
+    @Test
+    public void requestFileDoesNotRequestFilesReportedAsMissingAgain() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        when(httpHelperMock.downloadFile(anyString(), eq(targetDirectory), anyString()))
+                .thenThrow(new FailedRequestException("download", HttpConstants.STATUS_ERR_NOT_FOUND));
+        hr.requestFile(mavenCoordinate, targetDirectory, classifierInformation);
+
+        Optional<File> file = newRequester().requestFile(mavenCoordinate, targetDirectory, classifierInformation);
+
+        assertThat(file).isEmpty();
+        verify(httpHelperMock, times(1))
+                .downloadFile("http://test.repo/groupId/artifactId/version/" + getFilename(), targetDirectory, getFilename());
+    }
+
+    @Test
+    public void requestFileStoresTheMissingFilesInTheTargetDirectory() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        when(httpHelperMock.downloadFile(anyString(), eq(targetDirectory), anyString()))
+                .thenThrow(new FailedRequestException("download", HttpConstants.STATUS_ERR_NOT_FOUND));
+
+        hr.requestFile(mavenCoordinate, targetDirectory, classifierInformation);
+
+        assertThat(targetDirectory.resolve(".antenna-missing-files.properties")).exists();
+        assertThat(localRepository.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void requestFilesDoesNotRequestTheSameFileConcurrently() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        Coordinate otherCoordinate = new Coordinate(Coordinate.Types.MAVEN, "otherGroupId", "artifactId", "version");
+        AtomicInteger activeDownloads = new AtomicInteger();
+        AtomicInteger maxActiveDownloads = new AtomicInteger();
+        when(httpHelperMock.downloadFile(anyString(), eq(targetDirectory), eq(getFilename()))).thenAnswer(invocation -> {
+            maxActiveDownloads.accumulateAndGet(activeDownloads.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            activeDownloads.decrementAndGet();
+            return targetDirectory.resolve(getFilename()).toFile();
+        });
+        FileRequest request = new FileRequest(mavenCoordinate, classifierInformation);
+        FileRequest otherRequest = new FileRequest(otherCoordinate, classifierInformation);
+
+        Map<FileRequest, File> files = hr.requestFiles(Arrays.asList(request, otherRequest), targetDirectory);
+
+        assertThat(files).containsOnlyKeys(request, otherRequest);
+        assertThat(maxActiveDownloads).hasValue(1);
+    }
+
+    @Test
+    public void requestFilesRequestsAllFiles() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        Coordinate otherCoordinate = new Coordinate(Coordinate.Types.MAVEN, "groupId", "other", "version");
+        String otherFilename = "other-version" + (classifierInformation.isSource ? "-sources" : "") + ".jar";
+        File file = targetDirectory.resolve(getFilename()).toFile();
+        File otherFile = targetDirectory.resolve(otherFilename).toFile();
+        when(httpHelperMock.downloadFile(anyString(), eq(targetDirectory), eq(getFilename()))).thenReturn(file);
+        when(httpHelperMock.downloadFile(anyString(), eq(targetDirectory), eq(otherFilename))).thenReturn(otherFile);
+        FileRequest request = new FileRequest(mavenCoordinate, classifierInformation);
+        FileRequest otherRequest = new FileRequest(otherCoordinate, classifierInformation);
+
+        Map<FileRequest, File> files = hr.requestFiles(Arrays.asList(request, otherRequest, request), targetDirectory);
+
+        assertThat(files).containsExactly(entry(request, file), entry(otherRequest, otherFile));
+    }
+}
@@ -27,8 +27,14 @@ import org.mockito.stubbing.Answer;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,4 +143,48 @@ public class MavenInvokerRequesterTest extends AntennaTestWithMockedContext {
         Optional<File> requestResult = mir.requestFile(mavenCoordinate, targetDirectory, ClassifierInformation.DEFAULT_JAR);
         assertThat(requestResult).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void requestFilesResolvesAllMissingFilesInOneInvocation() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        Coordinate otherCoordinate = new Coordinate(Coordinate.Types.MAVEN, "otherGroupId", "otherArtifactId", "1.0");
+        FileRequest existingJar = new FileRequest(mavenCoordinate, ClassifierInformation.DEFAULT_JAR);
+        FileRequest sourcesJar = new FileRequest(mavenCoordinate, ClassifierInformation.DEFAULT_SOURCE_JAR);
+        FileRequest otherJar = new FileRequest(otherCoordinate, ClassifierInformation.DEFAULT_JAR);
+        FileRequest missingJar = new FileRequest(otherCoordinate, ClassifierInformation.DEFAULT_SOURCE_JAR);
+        File existingJarFile = new File(targetDirectory.toFile(), mir.getExpectedJarBaseName(mavenCoordinate, ClassifierInformation.DEFAULT_JAR));
+        new FileOutputStream(existingJarFile).close();
+        File sourcesJarFile = new File(targetDirectory.toFile(), mir.getExpectedJarBaseName(mavenCoordinate, ClassifierInformation.DEFAULT_SOURCE_JAR));
+        File otherJarFile = new File(targetDirectory.toFile(), mir.getExpectedJarBaseName(otherCoordinate, ClassifierInformation.DEFAULT_JAR));
+        List<String> generatedPoms = new ArrayList<>();
+
+        Mockito.when(defaultInvokerMock.execute(ArgumentMatchers.any(InvocationRequest.class)))
+                .then((Answer<InvocationResult>) invocationOnMock -> {
+                    InvocationRequest request = invocationOnMock.getArgument(0);
+                    Path projectDirectory = request.getPomFile().toPath().getParent();
+                    for (int i = 0; i < 3; i++) {
+                        Path modulePom = projectDirectory.resolve("request-" + i).resolve(MavenInvokerRequester.POM_FILENAME);
+                        if (Files.exists(modulePom)) {
+                            generatedPoms.add(new String(Files.readAllBytes(modulePom), StandardCharsets.UTF_8));
+                        }
+                    }
+                    new FileOutputStream(sourcesJarFile).close();
+                    new FileOutputStream(otherJarFile).close();
+                    return getDummyInvocationResult(1);
+                });
+
+        Map<FileRequest, File> result = mir.requestFiles(Arrays.asList(existingJar, sourcesJar, otherJar, missingJar, otherJar),
+                targetDirectory);
+
+        Mockito.verify(defaultInvokerMock).execute(captor.capture());
+        assertThat(captor.getValue().getReactorFailureBehavior()).isEqualTo(InvocationRequest.ReactorFailureBehavior.FailAtEnd);
+        assertThat(captor.getValue().getGoals()).filteredOn(s -> s.contains(targetDirectory.toString())).hasSize(1);
+        assertThat(generatedPoms).hasSize(3);
+        assertThat(generatedPoms.get(0)).contains("<artifactId>artifactId</artifactId>", "<classifier>sources</classifier>");
+        assertThat(generatedPoms.get(1)).contains("<artifactId>otherArtifactId</artifactId>", "<version>1.0</version>")
+                .doesNotContain("<classifier>");
+        assertThat(generatedPoms.get(2)).contains("<artifactId>otherArtifactId</artifactId>", "<classifier>sources</classifier>");
+        assertThat(result).containsOnlyKeys(existingJar, sourcesJar, otherJar);
+        assertThat(result.get(otherJar)).isEqualTo(otherJarFile);
+    }
+}
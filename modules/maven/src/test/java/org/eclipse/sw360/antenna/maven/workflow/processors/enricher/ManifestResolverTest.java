@@ -18,6 +18,7 @@ import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.eclipse.sw360.antenna.testing.util.JarCreator;
+import org.eclipse.sw360.antenna.util.JarInspector;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -52,6 +53,7 @@ public class ManifestResolverTest extends AntennaTestWithMockedContext {
     public void tearDown() {
         this.jarCreator.cleanUp();
         verify(antennaContextMock, atLeast(0)).getProject();
+        verify(antennaContextMock, atLeast(0)).getGeneric(JarInspector.class);
     }
 
     private List<Artifact> makeArtifacts(Path path) {
@@ -29,7 +29,6 @@ import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mock;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -39,6 +38,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
@@ -50,8 +50,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.atLeast;
 
 public class MavenArtifactResolverImplTest extends AntennaTestWithMockedContext {
-    @Mock
-    private IArtifactRequester requester = mock(IArtifactRequester.class);
+    private IArtifactRequester requester = mock(IArtifactRequester.class, CALLS_REAL_METHODS);
 
     private IProject project;
     private MavenArtifactResolverImpl mavenArtifactResolverImpl;
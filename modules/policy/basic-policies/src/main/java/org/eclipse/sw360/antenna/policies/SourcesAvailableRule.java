@@ -16,11 +16,6 @@ import org.eclipse.sw360.antenna.policy.engine.Ruleset;
 import org.eclipse.sw360.antenna.policy.engine.SingleArtifactRule;
 import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
 
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Optional;
 
 import static org.eclipse.sw360.antenna.policy.engine.RuleUtils.artifactAppliesToRule;
@@ -39,25 +34,13 @@ public class SourcesAvailableRule implements SingleArtifactRule {
             return artifactAppliesToRule(this, thirdPartyArtifact);
         }
 
-        if (thirdPartyArtifact.getSourceFileOrLink()
-                .filter(url -> url.getProtocol().equals("file"))
-                .map(this::urlToPath)
-                .filter(Files::exists)
-                .isPresent()) {
+        if (thirdPartyArtifact.hasLocalSourceFile()) {
             return artifactAppliesToRule(this, thirdPartyArtifact);
         }
 
         return artifactRaisesPolicyViolation(this, thirdPartyArtifact);
     }
 
-    private Path urlToPath(URL url) {
-        try {
-            return Paths.get(url.toURI());
-        } catch (URISyntaxException e) {
-            return null;
-        }
-    }
-
     @Override
     public String getId() {
         return "SourcesAvailable";
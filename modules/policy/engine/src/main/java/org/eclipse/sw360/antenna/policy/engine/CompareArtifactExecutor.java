@@ -12,12 +12,20 @@ package org.eclipse.sw360.antenna.policy.engine;
 
 import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Implementation of the {@link RuleExecutor} for getRules of type {@link CompareArtifactRule}.
+ * Implementation of the {@link RuleExecutor} for getRules of type {@link CompareArtifactRule}. The artifacts are
+ * grouped by the keys of each rule, see {@link CompareArtifactRule#getGroupingKeys(ThirdPartyArtifact)}. The
+ * comparisons of each artifact with the rest of its group are evaluated in parallel on the common fork-join pool,
+ * so that also a single large group, e.g. of a rule without grouping keys, is spread over the pool.
  */
 class CompareArtifactExecutor implements RuleExecutor {
     private final Collection<CompareArtifactRule> rules;
@@ -28,30 +36,46 @@ class CompareArtifactExecutor implements RuleExecutor {
 
     @Override
     public Collection<PolicyViolation> executeRules(final Collection<ThirdPartyArtifact> thirdPartyArtifacts) {
-        return rules.parallelStream()
-                .map(rule -> executeRuleOnArtifacts(rule, thirdPartyArtifacts))
-                .flatMap(Collection::stream)
+        List<Comparison> comparisons = rules.stream()
+                .flatMap(rule -> groupArtifacts(rule, thirdPartyArtifacts))
+                .flatMap(ArtifactGroup::comparisons)
+                .collect(Collectors.toList());
+        List<Collection<PolicyViolation>> violations = comparisons.parallelStream()
+                .map(Comparison::findViolations)
                 .collect(Collectors.toList());
-    }
-
-    private Collection<PolicyViolation> executeRuleOnArtifacts(final CompareArtifactRule rule,
-            final Collection<ThirdPartyArtifact> thirdPartyArtifacts) {
 
-        return thirdPartyArtifacts.stream()
-                .map(artifact -> findViolationsForLeftHandSide(rule, artifact, thirdPartyArtifacts))
+        return rules.stream()
+                .map(rule -> collectViolationsOfRule(rule, comparisons, violations))
                 .flatMap(Collection::stream)
-                .distinct()
                 .collect(Collectors.toList());
     }
 
-    private Collection<PolicyViolation> findViolationsForLeftHandSide(final CompareArtifactRule rule,
-            final ThirdPartyArtifact leftHandSide, final Collection<ThirdPartyArtifact> rightHandSides) {
+    private static Stream<ArtifactGroup> groupArtifacts(final CompareArtifactRule rule,
+            final Collection<ThirdPartyArtifact> thirdPartyArtifacts) {
+        Map<String, List<ThirdPartyArtifact>> artifactsByKey = new LinkedHashMap<>();
+        for (ThirdPartyArtifact artifact : thirdPartyArtifacts) {
+            rule.getGroupingKeys(artifact).stream()
+                    .distinct()
+                    .forEach(key -> artifactsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(artifact));
+        }
+        return artifactsByKey.values().stream()
+                .filter(artifacts -> artifacts.size() > 1)
+                .map(artifacts -> new ArtifactGroup(rule, artifacts));
+    }
 
-        return rightHandSides.stream()
-                .filter(rightHandSide -> !rightHandSide.equals(leftHandSide))
-                .map(rightHandSide -> rule.evaluate(leftHandSide, rightHandSide))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+    /**
+     * Artifacts sharing several keys are compared in several groups, so the violations of a rule are made distinct.
+     */
+    private static Collection<PolicyViolation> collectViolationsOfRule(final CompareArtifactRule rule,
+            final List<Comparison> comparisons, final List<Collection<PolicyViolation>> violations) {
+        List<PolicyViolation> result = new ArrayList<>();
+        for (int i = 0; i < comparisons.size(); i++) {
+            if (comparisons.get(i).group.rule == rule) {
+                result.addAll(violations.get(i));
+            }
+        }
+        return result.stream()
+                .distinct()
                 .collect(Collectors.toList());
     }
 
@@ -61,4 +85,44 @@ class CompareArtifactExecutor implements RuleExecutor {
                 .map(Rule::getRuleset)
                 .collect(Collectors.toSet());
     }
+
+    /**
+     * The artifacts that have to be compared pairwise for a rule.
+     */
+    private static class ArtifactGroup {
+        private final CompareArtifactRule rule;
+        private final List<ThirdPartyArtifact> artifacts;
+
+        ArtifactGroup(final CompareArtifactRule rule, final List<ThirdPartyArtifact> artifacts) {
+            this.rule = rule;
+            this.artifacts = artifacts;
+        }
+
+        Stream<Comparison> comparisons() {
+            return artifacts.stream()
+                    .map(leftHandSide -> new Comparison(this, leftHandSide));
+        }
+    }
+
+    /**
+     * The comparisons of one artifact of a group with all other artifacts of the group.
+     */
+    private static class Comparison {
+        private final ArtifactGroup group;
+        private final ThirdPartyArtifact leftHandSide;
+
+        Comparison(final ArtifactGroup group, final ThirdPartyArtifact leftHandSide) {
+            this.group = group;
+            this.leftHandSide = leftHandSide;
+        }
+
+        Collection<PolicyViolation> findViolations() {
+            return group.artifacts.stream()
+                    .filter(rightHandSide -> !rightHandSide.equals(leftHandSide))
+                    .map(rightHandSide -> group.rule.evaluate(leftHandSide, rightHandSide))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList());
+        }
+    }
 }
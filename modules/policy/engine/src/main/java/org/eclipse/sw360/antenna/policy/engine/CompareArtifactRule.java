@@ -12,6 +12,8 @@ package org.eclipse.sw360.antenna.policy.engine;
 
 import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 /**
@@ -19,6 +21,24 @@ import java.util.Optional;
  * of the artifact to the property of all other artifacts
  */
 public interface CompareArtifactRule extends Rule {
+    /**
+     * The grouping key shared by all artifacts, if a rule does not restrict the comparisons
+     */
+    String ALL_ARTIFACTS = "";
+
+    /**
+     * Rules that can only be violated by artifacts sharing some property, e.g., a license id, a coordinate name or
+     * a purl type, can return this property as grouping key. Only artifacts with at least one common key are
+     * compared, an artifact without any key is not compared at all. By default, all artifacts share the same key,
+     * so that every artifact is compared to every other artifact.
+     *
+     * @param artifact The {@link ThirdPartyArtifact} to be grouped
+     * @return The grouping keys of the artifact
+     */
+    default Collection<String> getGroupingKeys(ThirdPartyArtifact artifact) {
+        return Collections.singleton(ALL_ARTIFACTS);
+    }
+
     /**
      * @param leftArtifact Left side {@link ThirdPartyArtifact} of the comparison
      * @param rightArtifact Right side {@link ThirdPartyArtifact} of the comparison
@@ -12,7 +12,10 @@ package org.eclipse.sw360.antenna.policy.engine.model;
 
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -48,6 +51,24 @@ public interface ThirdPartyArtifact {
      */
     Optional<URL> getSourceFileOrLink();
 
+    /**
+     * @return True, if the sources of the artifact are available as an existing local file. Implementations may
+     * determine this once instead of accessing the file system on every call.
+     */
+    default boolean hasLocalSourceFile() {
+        return getSourceFileOrLink()
+                .filter(url -> "file".equals(url.getProtocol()))
+                .map(url -> {
+                    try {
+                        return Paths.get(url.toURI());
+                    } catch (URISyntaxException e) {
+                        return null;
+                    }
+                })
+                .filter(Files::exists)
+                .isPresent();
+    }
+
     /**
      * @return The Software Heritage Id of the artifact sources
      */
@@ -23,19 +23,55 @@ import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * The facade of the {@link ThirdPartyArtifact} used in the {@link org.eclipse.sw360.antenna.policy.engine.PolicyEngine}
- * for retrieving metadata towards the Antenna data model.
+ * for retrieving metadata towards the Antenna data model. All values are computed once on creation, so that the
+ * immutable snapshot can be shared by the rules evaluated in parallel.
  */
-class AntennaArtifact implements ThirdPartyArtifact {
+final class AntennaArtifact implements ThirdPartyArtifact {
     private final Artifact artifact;
+    private final boolean proprietary;
+    private final LicenseState licenseState;
+    private final Collection<LicenseData> licenses;
+    private final Optional<String> licenseExpression;
+    private final Optional<URL> sourceFileOrLink;
+    private final IllegalArgumentException sourceFileOrLinkException;
+    private final boolean localSourceFile;
+    private final Optional<String> swhSourceId;
+    private final Collection<Coordinate> coordinates;
 
     AntennaArtifact(Artifact artifact) {
         this.artifact = artifact;
+        this.proprietary = artifact.isProprietary();
+        this.licenseState = computeLicenseState(artifact);
+        LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+        this.licenses = Collections.unmodifiableList(finalLicenses
+                .getLicenses()
+                .stream()
+                .map(AntennaLicenseData::new)
+                .collect(Collectors.toList()));
+        this.licenseExpression = finalLicenses.isEmpty() ? Optional.empty() : Optional.of(finalLicenses.evaluate());
+
+        Optional<URL> source;
+        IllegalArgumentException sourceException = null;
+        try {
+            source = computeSourceFileOrLink(artifact);
+        } catch (IllegalArgumentException e) {
+            source = Optional.empty();
+            sourceException = e;
+        }
+        this.sourceFileOrLink = source;
+        this.sourceFileOrLinkException = sourceException;
+        this.localSourceFile = sourceException == null && ThirdPartyArtifact.super.hasLocalSourceFile();
+
+        this.swhSourceId = artifact.askForGet(ArtifactSoftwareHeritageID.class);
+        this.coordinates = Collections.unmodifiableList(new ArrayList<>(artifact.getCoordinates()));
     }
 
     Artifact getArtifact() {
@@ -44,11 +80,15 @@ class AntennaArtifact implements ThirdPartyArtifact {
 
     @Override
     public boolean isProprietary() {
-        return artifact.isProprietary();
+        return proprietary;
     }
 
     @Override
     public LicenseState getLicenseState() {
+        return licenseState;
+    }
+
+    private static LicenseState computeLicenseState(Artifact artifact) {
         if (artifact.askForGet(ConfiguredLicenseInformation.class).isPresent()) {
             return LicenseState.EXPLICITLY_SET;
         }
@@ -77,24 +117,26 @@ class AntennaArtifact implements ThirdPartyArtifact {
 
     @Override
     public Collection<LicenseData> getLicenses() {
-        return ArtifactLicenseUtils.getFinalLicenses(artifact)
-                .getLicenses()
-                .stream()
-                .map(AntennaLicenseData::new)
-                .collect(Collectors.toList());
+        return licenses;
     }
 
     @Override
     public Optional<String> getLicenseExpression() {
-        LicenseInformation licenseInformation = ArtifactLicenseUtils.getFinalLicenses(artifact);
-        if (licenseInformation.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(licenseInformation.evaluate());
+        return licenseExpression;
     }
 
+    /**
+     * @throws IllegalArgumentException if the source file or link of the artifact cannot be converted to a URL
+     */
     @Override
     public Optional<URL> getSourceFileOrLink() {
+        if (sourceFileOrLinkException != null) {
+            throw sourceFileOrLinkException;
+        }
+        return sourceFileOrLink;
+    }
+
+    private static Optional<URL> computeSourceFileOrLink(Artifact artifact) {
         Optional<Path> sourcePath = artifact.askForGet(ArtifactSourceFile.class);
         if (sourcePath.isPresent()) {
             try {
@@ -115,13 +157,18 @@ class AntennaArtifact implements ThirdPartyArtifact {
         return Optional.empty();
     }
 
+    @Override
+    public boolean hasLocalSourceFile() {
+        return localSourceFile;
+    }
+
     @Override
     public Optional<String> getSWHSourceId() {
-        return artifact.askForGet(ArtifactSoftwareHeritageID.class);
+        return swhSourceId;
     }
 
     @Override
     public Collection<Coordinate> getCoordinates() {
-        return artifact.getCoordinates();
+        return coordinates;
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.policy.engine;
+
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.policy.engine.model.LicenseData;
+import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
+import org.eclipse.sw360.antenna.policy.engine.testdata.TestArtifact;
+import org.eclipse.sw360.antenna.policy.engine.testdata.TestRuleset;
+import org.eclipse.sw360.antenna.policy.workflow.processors.testdata.EPLvsGPLRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.sw360.antenna.policy.engine.RuleUtils.artifactRaisesPolicyViolation;
+
+public class CompareArtifactExecutorTest {
+    private static final ThirdPartyArtifact FOO_MAVEN = new NamedArtifact("pkg:maven/org.test/foo@1.0");
+    private static final ThirdPartyArtifact FOO_NPM = new NamedArtifact("pkg:npm/foo@1.0");
+    private static final ThirdPartyArtifact BAR_MAVEN = new NamedArtifact("pkg:maven/org.test/bar@1.0");
+
+    private static final List<ThirdPartyArtifact> ARTIFACTS = Arrays.asList(FOO_MAVEN, FOO_NPM, BAR_MAVEN);
+
+    @Test
+    public void rulesWithoutGroupingKeysCompareAllArtifacts() {
+        PairRule rule = new PairRule(false);
+
+        Collection<PolicyViolation> violations = new CompareArtifactExecutor(Collections.singletonList(rule))
+                .executeRules(ARTIFACTS);
+
+        assertThat(rule.evaluations.get()).isEqualTo(6);
+        assertThat(violations).hasSize(3);
+    }
+
+    @Test
+    public void rulesWithGroupingKeysOnlyCompareArtifactsInTheSameGroup() {
+        PairRule rule = new PairRule(true);
+
+        Collection<PolicyViolation> violations = new CompareArtifactExecutor(Collections.singletonList(rule))
+                .executeRules(ARTIFACTS);
+
+        assertThat(rule.evaluations.get()).isEqualTo(2);
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getFailingArtifacts()).containsExactlyInAnyOrder(FOO_MAVEN, FOO_NPM);
+    }
+
+    @Test
+    public void eplVsGplRuleOnlyComparesArtifactsWithTheseLicenses() {
+        ThirdPartyArtifact epl = new LicensedArtifact("pkg:maven/org.test/epl@1.0", "EPL-1.0");
+        ThirdPartyArtifact gpl = new LicensedArtifact("pkg:maven/org.test/gpl@1.0", "GPL-2.0-or-later");
+        List<ThirdPartyArtifact> artifacts = Arrays.asList(epl, FOO_MAVEN, gpl, FOO_NPM, BAR_MAVEN,
+                new LicensedArtifact("pkg:maven/org.test/mit@1.0", "MIT"));
+        AtomicInteger evaluations = new AtomicInteger();
+        CompareArtifactRule rule = new EPLvsGPLRule(new TestRuleset()) {
+            @Override
+            public Optional<PolicyViolation> evaluate(ThirdPartyArtifact leftArtifact, ThirdPartyArtifact rightArtifact) {
+                evaluations.incrementAndGet();
+                return super.evaluate(leftArtifact, rightArtifact);
+            }
+        };
+
+        Collection<PolicyViolation> violations = new CompareArtifactExecutor(Collections.singletonList(rule))
+                .executeRules(artifacts);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getFailingArtifacts()).containsExactlyInAnyOrder(epl, gpl);
+    }
+
+    private static class NamedArtifact extends TestArtifact {
+        private final Coordinate coordinate;
+
+        NamedArtifact(String purl) {
+            coordinate = new Coordinate(purl);
+        }
+
+        @Override
+        public Collection<Coordinate> getCoordinates() {
+            return Collections.singletonList(coordinate);
+        }
+    }
+
+    private static class LicensedArtifact extends NamedArtifact {
+        private final String licenseId;
+
+        LicensedArtifact(String purl, String licenseId) {
+            super(purl);
+            this.licenseId = licenseId;
+        }
+
+        @Override
+        public Collection<LicenseData> getLicenses() {
+            return Collections.singletonList(new LicenseData() {
+                @Override
+                public String getLicenseId() {
+                    return licenseId;
+                }
+
+                @Override
+                public Optional<String> getLicenseName() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public Optional<String> getLicenseText() {
+                    return Optional.empty();
+                }
+            });
+        }
+    }
+
+    /**
+     * Rule that is violated by every pair of artifacts and optionally groups the artifacts by coordinate name.
+     */
+    private static class PairRule implements CompareArtifactRule {
+        private final boolean groupByName;
+        private final AtomicInteger evaluations = new AtomicInteger();
+
+        PairRule(boolean groupByName) {
+            this.groupByName = groupByName;
+        }
+
+        @Override
+        public Collection<String> getGroupingKeys(ThirdPartyArtifact artifact) {
+            if (!groupByName) {
+                return CompareArtifactRule.super.getGroupingKeys(artifact);
+            }
+            return artifact.getCoordinates().stream()
+                    .map(Coordinate::getName)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Optional<PolicyViolation> evaluate(ThirdPartyArtifact leftArtifact, ThirdPartyArtifact rightArtifact) {
+            evaluations.incrementAndGet();
+            return artifactRaisesPolicyViolation(this, leftArtifact, rightArtifact);
+        }
+
+        @Override
+        public String getId() {
+            return "PAIR";
+        }
+
+        @Override
+        public String getName() {
+            return "Pair rule";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Every pair of artifacts violates this rule";
+        }
+
+        @Override
+        public RuleSeverity getSeverity() {
+            return RuleSeverity.WARN;
+        }
+
+        @Override
+        public Ruleset getRuleset() {
+            return new TestRuleset();
+        }
+    }
+}
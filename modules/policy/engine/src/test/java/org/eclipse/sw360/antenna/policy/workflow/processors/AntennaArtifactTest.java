@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.policy.workflow.processors;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceUrl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AntennaArtifactTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void localSourceFileIsCheckedOnCreation() throws Exception {
+        Path sourceFile = temporaryFolder.newFile("sources.jar").toPath();
+        Artifact artifact = new Artifact("Test");
+        artifact.addFact(new ArtifactSourceFile(sourceFile));
+
+        AntennaArtifact antennaArtifact = new AntennaArtifact(artifact);
+        Files.delete(sourceFile);
+
+        assertThat(antennaArtifact.hasLocalSourceFile()).isTrue();
+        assertThat(antennaArtifact.getSourceFileOrLink()).contains(sourceFile.toUri().toURL());
+        assertThat(antennaArtifact.getLicenses()).isSameAs(antennaArtifact.getLicenses());
+    }
+
+    @Test
+    public void remoteSourcesAreNoLocalSourceFile() {
+        Artifact artifact = new Artifact("Test");
+        artifact.addFact(new ArtifactSourceUrl("https://sources.org/sources.jar"));
+
+        assertThat(new AntennaArtifact(artifact).hasLocalSourceFile()).isFalse();
+    }
+
+    @Test
+    public void invalidSourceUrlIsReportedWhenRequested() {
+        Artifact artifact = new Artifact("Test");
+        artifact.addFact(new ArtifactSourceUrl("no url"));
+
+        AntennaArtifact antennaArtifact = new AntennaArtifact(artifact);
+
+        assertThat(antennaArtifact.hasLocalSourceFile()).isFalse();
+        assertThatThrownBy(antennaArtifact::getSourceFileOrLink).isInstanceOf(IllegalArgumentException.class);
+    }
+}
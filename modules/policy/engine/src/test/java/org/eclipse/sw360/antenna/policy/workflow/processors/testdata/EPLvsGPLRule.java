@@ -17,23 +17,38 @@ import org.eclipse.sw360.antenna.policy.engine.Ruleset;
 import org.eclipse.sw360.antenna.policy.engine.model.LicenseData;
 import org.eclipse.sw360.antenna.policy.engine.model.ThirdPartyArtifact;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.eclipse.sw360.antenna.policy.engine.RuleUtils.artifactAppliesToRule;
 import static org.eclipse.sw360.antenna.policy.engine.RuleUtils.artifactRaisesPolicyViolation;
 
 public class EPLvsGPLRule implements CompareArtifactRule {
+    private static final String EPL_LICENSE = "EPL-1.0";
+    private static final String GPL_LICENSE = "GPL-2.0-or-later";
+
     private final Ruleset ruleset;
 
     public EPLvsGPLRule(final Ruleset ruleset) {
         this.ruleset = ruleset;
     }
 
+    /**
+     * Only artifacts with one of the incompatible licenses can violate this rule, so all others are not compared.
+     */
+    @Override
+    public Collection<String> getGroupingKeys(final ThirdPartyArtifact artifact) {
+        return hasLicense(artifact, EPL_LICENSE) || hasLicense(artifact, GPL_LICENSE)
+                ? Collections.singleton(EPL_LICENSE)
+                : Collections.emptySet();
+    }
+
     @Override
     public Optional<PolicyViolation> evaluate(final ThirdPartyArtifact leftArtifact,
             final ThirdPartyArtifact rightArtifact) {
-        if (hasLicense(leftArtifact, "EPL-1.0")
-                && hasLicense(rightArtifact, "GPL-2.0-or-later")) {
+        if (hasLicense(leftArtifact, EPL_LICENSE)
+                && hasLicense(rightArtifact, GPL_LICENSE)) {
             return artifactRaisesPolicyViolation(this, leftArtifact, rightArtifact);
         }
         return artifactAppliesToRule(this, leftArtifact, rightArtifact);
@@ -25,8 +25,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * The Licenses validator can check if the licenses of a list of artifacts is
@@ -49,8 +52,8 @@ public class LicenseValidator extends AbstractComplianceChecker {
     private IEvaluationResult.Severity missingLicenseInformationSeverity = IEvaluationResult.Severity.WARN;
     private IEvaluationResult.Severity missingLicenseTextSeverity = IEvaluationResult.Severity.WARN;
     private IEvaluationResult.Severity forbiddenLicenseSeverity = IEvaluationResult.Severity.FAIL;
-    private List<String> forbiddenLicenseIds;
-    private List<String> ignoredLicenseIds;
+    private Set<String> forbiddenLicenseIds;
+    private Set<String> ignoredLicenseIds;
 
     public LicenseValidator() {
         this.workflowStepOrder = VALIDATOR_BASE_ORDER + 200;
@@ -66,43 +69,50 @@ public class LicenseValidator extends AbstractComplianceChecker {
      */
     public List<IEvaluationResult> validate(Artifact artifact) {
         List<IEvaluationResult> results = new ArrayList<>();
-        if (! artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY)) {
-            LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
-            if (finalLicenses.isEmpty()) {
+        if (artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY)) {
+            return results;
+        }
+        LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+        if (finalLicenses.isEmpty()) {
+            results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
+                    "LicenseValidator::noLicense", "No License information found for the artifact.", missingLicenseInformationSeverity, artifact));
+            return results;
+        }
+        for (License license : finalLicenses.getLicenses()) {
+            String licenseId = license.getId();
+            if (ignoredLicenseIds.contains(licenseId)) {
+                LOGGER.debug("Do not validate license=[{}], since it is ignored for validation", licenseId);
+                continue;
+            }
+            if (forbiddenLicenseIds.contains(licenseId)) {
                 results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                        "LicenseValidator::noLicense", "No License information found for the artifact.", missingLicenseInformationSeverity, artifact));
-                return results;
+                        "LicenseValidator::forbiddenLicense",
+                        artifact
+                        + " is licensed under the forbidden license " + licenseId,
+                        forbiddenLicenseSeverity, artifact));
             }
-            for (License license : finalLicenses.getLicenses()) {
-                if(ignoredLicenseIds.contains(license.getId())){
-                    LOGGER.debug("Do not validate license=[{}], since it is ignored for validation", license.getId());
-                    continue;
-                }
-                if (forbiddenLicenseIds.contains(license.getId())) {
-                    results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                            "LicenseValidator::forbiddenLicense",
-                            artifact
-                            + " is licensed under the forbidden license " + license.getId(),
-                            forbiddenLicenseSeverity, artifact));
-                }
-                if (license.getText() == null || "".equals(license.getText())) {
-                    results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                            "LicenseValidator::noLicenseText",
-                            "License contains no Text", missingLicenseTextSeverity, artifact));
-                }
+            if (license.getText() == null || "".equals(license.getText())) {
+                results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
+                        "LicenseValidator::noLicenseText",
+                        "License contains no Text", missingLicenseTextSeverity, artifact));
             }
         }
         return results;
     }
 
+    /**
+     * Validates the artifacts in parallel. The results are added to the
+     * evaluation in the order of the artifacts, independent of the order in
+     * which the artifacts are validated.
+     */
     @Override
     public IPolicyEvaluation evaluate(Collection<Artifact> artifacts) {
         DefaultPolicyEvaluation policyEvaluation = new DefaultPolicyEvaluation();
 
-        artifacts.stream()
-                .filter(artifact -> !artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY))
-                .forEach(artifact -> validate(artifact)
-                        .forEach(policyEvaluation::addEvaluationResult));
+        List<List<IEvaluationResult>> results = artifacts.parallelStream()
+                .map(this::validate)
+                .collect(Collectors.toList());
+        results.forEach(artifactResults -> artifactResults.forEach(policyEvaluation::addEvaluationResult));
 
         return policyEvaluation;
     }
@@ -118,8 +128,8 @@ public class LicenseValidator extends AbstractComplianceChecker {
 
         this.reporter = context.getProcessingReporter();
 
-        forbiddenLicenseIds = getCommaSeparatedConfigValue(FORBIDDEN_LICENSES_KEY, configMap);
-        ignoredLicenseIds = getCommaSeparatedConfigValue(IGNORED_LICENSES_KEY, configMap);
+        forbiddenLicenseIds = new HashSet<>(getCommaSeparatedConfigValue(FORBIDDEN_LICENSES_KEY, configMap));
+        ignoredLicenseIds = new HashSet<>(getCommaSeparatedConfigValue(IGNORED_LICENSES_KEY, configMap));
 
         forbiddenLicenseSeverity = getSeverityFromConfig(FORBIDDEN_LICENSE_SEVERITY_KEY, configMap, forbiddenLicenseSeverity);
         missingLicenseInformationSeverity = getSeverityFromConfig(MISSING_LICENSE_INFORMATION_SEVERITY_KEY, configMap, missingLicenseInformationSeverity);
@@ -14,7 +14,7 @@ package org.eclipse.sw360.antenna.validators.workflow.processors;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
-import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIssues;
 import org.eclipse.sw360.antenna.model.xml.generated.Issue;
 import org.eclipse.sw360.antenna.model.xml.generated.Issues;
@@ -37,20 +37,18 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     static final String SECURITY_ISSUE_SEVERITY_LIMIT_KEY = "securityIssueSeverityLimit";
     private static final String IGNORE_SECURITY_ISSUE_REFERENCES_KEY = "ignoreSecurityIssueReferences";
     private IEvaluationResult.Severity forbiddenSecurityIssueStatusSeverity = IEvaluationResult.Severity.FAIL;
-    private List<SecurityIssueStatus> forbiddenSecurityIssueStatusesList;
-    private List<String> ignoreSecurityIssueReferences;
+    private Set<SecurityIssueStatus> forbiddenSecurityIssueStatuses;
+    private Set<String> ignoreSecurityIssueReferences;
     private double securityIssueSeverityLimit;
-    private Map<ArtifactSelector, Issues> configuredSecurityIssues;
-    private Map<String, Map<ArtifactSelector, GregorianCalendar>> suppressedSecurityIssues;
+    private ArtifactSelectorIndex<Issues> configuredSecurityIssues;
+    private Map<String, ArtifactSelectorIndex<GregorianCalendar>> suppressedSecurityIssues;
 
     public SecurityIssueValidator() {
         this.workflowStepOrder = VALIDATOR_BASE_ORDER + 400;
     }
 
     public List<IEvaluationResult> validate(Artifact artifact) {
-        List<Issue> configuredIssueList = configuredSecurityIssues.entrySet().stream()
-                .filter(entry -> entry.getKey().matches(artifact))
-                .map(Map.Entry::getValue)
+        List<Issue> configuredIssueList = configuredSecurityIssues.findMatching(artifact).stream()
                 .map(Issues::getIssue)
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
@@ -69,23 +67,22 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
 
     private List<IEvaluationResult> checkSecurityIssue(Artifact artifact, List<Issue> issuesList) {
         List<IEvaluationResult> results = new ArrayList<>();
+        GregorianCalendar now = new GregorianCalendar();
         for (Issue issue : issuesList) {
             if (ignoreSecurityIssueReferences.contains(issue.getReference())) {
                 LOGGER.debug("Do not validate security issue=[{}], since it is ignored for validation",
                         issue.getReference());
                 continue;
             }
-            if (suppressedSecurityIssues != null && suppressedSecurityIssues.containsKey(issue.getReference())) {
-                final Map<ArtifactSelector, GregorianCalendar> issueSuppressors = suppressedSecurityIssues.get(issue.getReference());
-                final Optional<GregorianCalendar> suppressedUntil = issueSuppressors.entrySet().stream()
-                        .filter(e -> e.getKey().matches(artifact))
-                        .map(Map.Entry::getValue)
+            final ArtifactSelectorIndex<GregorianCalendar> issueSuppressors = suppressedSecurityIssues.get(issue.getReference());
+            if (issueSuppressors != null) {
+                final Optional<GregorianCalendar> suppressedUntil = issueSuppressors.findMatching(artifact).stream()
                         .max(Comparator.naturalOrder());
-                if (suppressedUntil.isPresent() && new GregorianCalendar().compareTo(suppressedUntil.get()) < 0) {
+                if (suppressedUntil.isPresent() && now.compareTo(suppressedUntil.get()) < 0) {
                     continue;
                 }
             }
-            if (forbiddenSecurityIssueStatusesList.contains(issue.getStatus())
+            if (forbiddenSecurityIssueStatuses.contains(issue.getStatus())
                     && issue.getSeverity() >= securityIssueSeverityLimit) {
                 results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
                         "SecurityIssueValidator::forbiddenSecurityIssueStatus",
@@ -102,8 +99,11 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     public IPolicyEvaluation evaluate(Collection<Artifact> artifacts) {
         DefaultPolicyEvaluation policyEvaluation = new DefaultPolicyEvaluation();
 
-        artifacts.stream()
+        // the artifacts are validated in parallel, the results are added in the order of the artifacts
+        artifacts.parallelStream()
                 .map(this::validate)
+                .collect(Collectors.toList())
+                .stream()
                 .flatMap(Collection::stream)
                 .forEach(policyEvaluation::addEvaluationResult);
 
@@ -117,17 +117,21 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     public void configure(Map<String, String> configMap) {
         super.configure(configMap);
 
-        configuredSecurityIssues = context.getConfiguration().getSecurityIssues();
-        suppressedSecurityIssues = context.getConfiguration().getSuppressedSecurityIssues();
+        configuredSecurityIssues = ArtifactSelectorIndex.of(Optional.ofNullable(context.getConfiguration().getSecurityIssues())
+                .orElse(Collections.emptyMap()));
+        suppressedSecurityIssues = new HashMap<>();
+        Optional.ofNullable(context.getConfiguration().getSuppressedSecurityIssues())
+                .ifPresent(suppressed -> suppressed.forEach((reference, suppressors) ->
+                        suppressedSecurityIssues.put(reference, ArtifactSelectorIndex.of(suppressors))));
 
         List<String> statusStrList = getCommaSeparatedConfigValue(FORBIDDEN_SECURITY_ISSUE_STATUSES_KEY, configMap);
-        forbiddenSecurityIssueStatusesList = statusStrList.stream()
+        forbiddenSecurityIssueStatuses = statusStrList.stream()
                 .map(SecurityIssueStatus::fromValue)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(SecurityIssueStatus.class)));
 
         forbiddenSecurityIssueStatusSeverity = getSeverityFromConfig(FORBIDDEN_SECURITY_ISSUE_STATUS_SEVERITY_KEY, configMap, IEvaluationResult.Severity.FAIL);
         securityIssueSeverityLimit = Double
                 .valueOf(getConfigValue(SECURITY_ISSUE_SEVERITY_LIMIT_KEY, configMap, "0.0"));
-        ignoreSecurityIssueReferences = getCommaSeparatedConfigValue(IGNORE_SECURITY_ISSUE_REFERENCES_KEY, configMap);
+        ignoreSecurityIssueReferences = new HashSet<>(getCommaSeparatedConfigValue(IGNORE_SECURITY_ISSUE_REFERENCES_KEY, configMap));
     }
 }
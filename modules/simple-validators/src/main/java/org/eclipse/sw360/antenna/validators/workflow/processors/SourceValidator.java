@@ -18,6 +18,8 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.util.JarInspector;
+import org.eclipse.sw360.antenna.util.JarMetadata;
 import org.eclipse.sw360.antenna.workflow.stubs.AbstractComplianceChecker;
 import org.eclipse.sw360.antenna.workflow.stubs.DefaultPolicyEvaluation;
 
@@ -25,8 +27,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Validates the sources of the given artifacts. An artifact is not valid if : -
@@ -39,6 +41,7 @@ import java.util.jar.JarFile;
  */
 public class SourceValidator extends AbstractComplianceChecker {
     private IProcessingReporter reporter;
+    private JarInspector jarInspector = new JarInspector();
     private int threshold = 80;
     private Collection<ArtifactSelector> missingSourcesWhiteList = Collections.emptySet();
     private Collection<ArtifactSelector> incompleteSourcesWhiteList = Collections.emptySet();
@@ -100,37 +103,31 @@ public class SourceValidator extends AbstractComplianceChecker {
     }
 
     private List<IEvaluationResult> validateArtifactWithJars(Artifact artifact, Path artifactSourceFile, Path artifactFile) throws IOException {
-        JarFile jar = new JarFile(artifactFile.toFile());
-        return validate(artifact, jar, artifactSourceFile.toFile());
-    }
-
-
-    private List<IEvaluationResult> validate(Artifact artifact, JarFile jar, File sourceJar) throws IOException {
+        File sourceJar = artifactSourceFile.toFile();
         if (0 == sourceJar.length()) {
             return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
                     "SourceValidator::jarIsEmpty", "Source jar '" + sourceJar.getName() + "' is an empty file", missingSourcesSeverity, artifact));
         }
+        return validate(artifact, jarInspector.inspect(artifactFile), jarInspector.inspect(artifactSourceFile));
+    }
+
+
+    private List<IEvaluationResult> validate(Artifact artifact, JarMetadata jar, JarMetadata source) {
+        List<String> missingClasses = new ArrayList<>();
 
-        try (JarFile source = new JarFile(sourceJar)) {
-            List<String> missingClasses = new ArrayList<>();
-
-            int numberOfClassFiles = 0;
-            int numberOfMatchingJavaFiles = 0;
-            Enumeration<JarEntry> jarEntries = jar.entries();
-            while (jarEntries.hasMoreElements()) {
-                JarEntry entry = jarEntries.nextElement();
-                String name = entry.getName();
-                if (name.contains(".class") && !name.contains("$")) {
-                    numberOfClassFiles++;
-                    if (checkIfJavaFileExists(name, source, missingClasses)) {
-                        numberOfMatchingJavaFiles++;
-                    }
+        int numberOfClassFiles = 0;
+        int numberOfMatchingJavaFiles = 0;
+        for (String name : jar.getEntryNames()) {
+            if (name.contains(".class") && !name.contains("$")) {
+                numberOfClassFiles++;
+                if (checkIfJavaFileExists(name, source, missingClasses)) {
+                    numberOfMatchingJavaFiles++;
                 }
             }
-            if (numberOfClassFiles > 0 && numberOfMatchingJavaFiles <= (numberOfClassFiles * threshold / 100)) {
-                return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                        "SourceValidator::incompleteJar", "The sources are incomplete (only " + numberOfMatchingJavaFiles + " of " + numberOfClassFiles + " could be matched)", incompleteSourcesSeverity, artifact));
-            }
+        }
+        if (numberOfClassFiles > 0 && numberOfMatchingJavaFiles <= (numberOfClassFiles * threshold / 100)) {
+            return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
+                    "SourceValidator::incompleteJar", "The sources are incomplete (only " + numberOfMatchingJavaFiles + " of " + numberOfClassFiles + " could be matched)", incompleteSourcesSeverity, artifact));
         }
         return Collections.emptyList();
     }
@@ -143,15 +140,14 @@ public class SourceValidator extends AbstractComplianceChecker {
      *            Name of the class for which the corresponding java file will
      *            be searched.
      * @param source
-     *            Source file in which is looked after the java file.
+     *            Metadata of the source jar in which is looked after the java file.
      * @param missingClasses
      *            List of all missing Classes of an Artifact.
      * @return True if a corresponding java file exists, false otherwise.
      */
-    private boolean checkIfJavaFileExists(String className, JarFile source, List<String> missingClasses) {
+    private boolean checkIfJavaFileExists(String className, JarMetadata source, List<String> missingClasses) {
         className = className.replace(".class", ".java");
-        JarEntry temp = source.getJarEntry(className);
-        if (null == temp) {
+        if (!source.containsEntry(className)) {
             missingClasses.add(className);
             return false;
         }
@@ -162,11 +158,19 @@ public class SourceValidator extends AbstractComplianceChecker {
     public IPolicyEvaluation evaluate(Collection<Artifact> artifacts) {
         DefaultPolicyEvaluation policyEvaluation = new DefaultPolicyEvaluation();
 
-        artifacts.stream()
+        List<Artifact> mavenArtifacts = artifacts.stream()
                 .filter(artifact -> ! artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY))
                 .filter(artifact ->  artifact.getCoordinateForType(Coordinate.Types.MAVEN).isPresent())
-                .forEach(artifact -> validateSources(artifact)
-                        .forEach(policyEvaluation::addEvaluationResult));
+                .collect(Collectors.toList());
+        jarInspector.inspectAll(mavenArtifacts.stream()
+                .filter(artifact -> artifact.getSourceFile().isPresent() && artifact.getFile().isPresent())
+                .filter(artifact -> !isArtifactAllowedToHaveIncompleteSources(artifact))
+                .flatMap(artifact -> Stream.of(artifact.getFile().get(), artifact.getSourceFile().get()))
+                .filter(file -> file.toFile().length() > 0)
+                .collect(Collectors.toList()));
+
+        mavenArtifacts.forEach(artifact -> validateSources(artifact)
+                .forEach(policyEvaluation::addEvaluationResult));
 
         return policyEvaluation;
     }
@@ -191,5 +195,6 @@ public class SourceValidator extends AbstractComplianceChecker {
         incompleteSourcesSeverity = getSeverityFromConfig(INCOMPLETE_SOURCES_KEY, configMap, IEvaluationResult.Severity.WARN);
 
         reporter = context.getProcessingReporter();
+        jarInspector = JarInspector.fromContext(context);
     }
 }
@@ -13,6 +13,7 @@ package org.eclipse.sw360.antenna.validators.workflow.processors;
 
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
 import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
 import org.eclipse.sw360.antenna.model.license.License;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
@@ -21,10 +22,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.sw360.antenna.validators.workflow.processors.LicenseValidator.*;
@@ -135,4 +138,20 @@ public class LicenseValidatorTest extends AntennaTestWithMockedContext {
                 .map(IEvaluationResult::getSeverity)
                 .allMatch(expectedSeverity::equals)).isTrue();
     }
+
+    @Test
+    public void evaluateReturnsResultsInTheOrderOfTheArtifacts() {
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            artifacts.add(mkArtifact(forbiddenLicense).addFact(new ArtifactFilename("artifact" + i + ".jar")));
+        }
+        artifacts.add(mkArtifact(forbiddenLicense).setProprietary(true));
+        validator.configure(configMap);
+
+        List<Artifact> failedArtifacts = validator.evaluate(artifacts).getEvaluationResults().stream()
+                .flatMap(result -> result.getFailedArtifacts().stream())
+                .collect(Collectors.toList());
+
+        assertThat(failedArtifacts).isEqualTo(artifacts.subList(0, 50));
+    }
 }
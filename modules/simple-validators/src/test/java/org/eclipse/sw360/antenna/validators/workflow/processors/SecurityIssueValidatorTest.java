@@ -223,4 +223,26 @@ public class SecurityIssueValidatorTest extends AntennaTestWithMockedContext {
         assertThat(validator.validate(artifact)).hasSize(1);
 
     }
+
+    @Test
+    public void evaluateSuppressesIssuesOnlyForMatchingArtifacts() {
+        openIssue.setReference("CVE-SUPPRESSED");
+        Artifact suppressedArtifact = mkArtifact(openIssue);
+        Artifact otherArtifact = new Artifact();
+        otherArtifact.addFact(new ArtifactIssues(suppressedArtifact.askFor(ArtifactIssues.class).get().get()));
+        otherArtifact.addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "com.test", "other-artifact", "1.0"));
+
+        GregorianCalendar suppressedUntil = new GregorianCalendar();
+        suppressedUntil.add(Calendar.DAY_OF_MONTH, 1);
+        Map<ArtifactSelector, GregorianCalendar> suppressors =
+                Collections.singletonMap(new ArtifactCoordinates(mkArtifactIdentifier()), suppressedUntil);
+        when(configMock.getSuppressedSecurityIssues()).thenReturn(Collections.singletonMap("CVE-SUPPRESSED", suppressors));
+        validator.configure(configMap);
+
+        Set<IEvaluationResult> results = validator.evaluate(Arrays.asList(suppressedArtifact, otherArtifact))
+                .getEvaluationResults();
+
+        assertThat(results).hasSize(1);
+        assertThat(results.iterator().next().getFailedArtifacts()).containsExactly(otherArtifact);
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
+import org.eclipse.sw360.antenna.util.JarInspector;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -59,6 +60,7 @@ public class SourceValidatorTest extends AntennaTestWithMockedContext {
     public void after() {
         Mockito.verify(configMock, Mockito.atLeast(1)).getValidForMissingSources();
         Mockito.verify(configMock, Mockito.atLeast(1)).getValidForIncompleteSources();
+        Mockito.verify(antennaContextMock, Mockito.atLeast(0)).getGeneric(JarInspector.class);
     }
 
     private void configure(Map<String,String> configMap) {
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.client.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * A persistent cache for the responses of GET requests to SW360.
+ * </p>
+ * <p>
+ * Entries are keyed by the URL of the request and store the response body
+ * together with the validators sent by the server (the {@code ETag} and
+ * {@code Last-Modified} headers) and the time when the response was received.
+ * An entry is fresh for the configured time to live; a fresh entry can be used
+ * without contacting the server. A stale entry is revalidated with a
+ * conditional request if the server provided validators, otherwise it is
+ * simply replaced by the next response.
+ * </p>
+ * <p>
+ * Every entry is stored in its own file in the cache directory, named after
+ * the hash of its URL, so that the cache survives the current run and can be
+ * shared by subsequent runs (e.g. of a CI pipeline). Files are replaced
+ * atomically. Entries that have been read or written in this run are also kept
+ * in memory. Problems with the cache files are logged and otherwise treated
+ * like missing entries; the cache never lets a request fail.
+ * </p>
+ */
+public class SW360ResponseCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SW360ResponseCache.class);
+
+    /**
+     * A version number written to every cache file, so that files in an
+     * outdated format are ignored.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FILE_EXTENSION = ".entry";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path cacheDirectory;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of {@code SW360ResponseCache} that stores its
+     * entries in the given directory. The directory is created when the first
+     * entry is written if it does not exist yet.
+     *
+     * @param cacheDirectory the directory for the cache files
+     * @param timeToLive     the time for which an entry can be used without
+     *                       revalidating it
+     */
+    public SW360ResponseCache(Path cacheDirectory, Duration timeToLive) {
+        this(cacheDirectory, timeToLive, Clock.systemUTC());
+    }
+
+    SW360ResponseCache(Path cacheDirectory, Duration timeToLive, Clock clock) {
+        Validate.isTrue(!timeToLive.isNegative(), "The time to live of cache entries must not be negative");
+        this.cacheDirectory = cacheDirectory;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Returns the entry stored for the given URL, regardless of whether it is
+     * still fresh.
+     *
+     * @param url the URL of the request
+     * @return an {@code Optional} with the entry for this URL
+     */
+    public Optional<Entry> get(String url) {
+        Entry entry = entries.get(url);
+        if (entry == null) {
+            entry = readEntry(url);
+            if (entry != null) {
+                entries.putIfAbsent(url, entry);
+            }
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Stores a new response for the given URL.
+     *
+     * @param url          the URL of the request
+     * @param body         the body of the response
+     * @param eTag         the value of the {@code ETag} header (can be
+     *                     <strong>null</strong>)
+     * @param lastModified the value of the {@code Last-Modified} header (can
+     *                     be <strong>null</strong>)
+     * @return the new entry
+     */
+    public Entry put(String url, byte[] body, String eTag, String lastModified) {
+        Entry entry = new Entry(body, StringUtils.defaultString(eTag), StringUtils.defaultString(lastModified),
+                clock.millis());
+        store(url, entry);
+        return entry;
+    }
+
+    /**
+     * Records that the server confirmed the entry for the given URL to be
+     * still valid. The entry is fresh again for the time to live.
+     *
+     * @param url   the URL of the request
+     * @param entry the entry that has been revalidated
+     * @return the updated entry
+     */
+    public Entry revalidated(String url, Entry entry) {
+        Entry updated = new Entry(entry.body, entry.eTag, entry.lastModified, clock.millis());
+        store(url, updated);
+        return updated;
+    }
+
+    /**
+     * Checks whether the given entry can be used without revalidating it.
+     *
+     * @param entry the entry to check
+     * @return a flag whether this entry is still fresh
+     */
+    public boolean isFresh(Entry entry) {
+        return clock.millis() - entry.storedAt < timeToLive.toMillis();
+    }
+
+    private void store(String url, Entry entry) {
+        entries.put(url, entry);
+        try {
+            writeEntry(url, entry);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write cache entry for {} to {}.", url, cacheDirectory, e);
+        }
+    }
+
+    private Entry readEntry(String url) {
+        Path file = entryFile(url);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION || !url.equals(in.readUTF())) {
+                return null;
+            }
+            String eTag = in.readUTF();
+            String lastModified = in.readUTF();
+            long storedAt = in.readLong();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(body, eTag, lastModified, storedAt);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring unreadable cache entry {}.", file, e);
+            return null;
+        }
+    }
+
+    private void writeEntry(String url, Entry entry) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path file = entryFile(url);
+        Path tempFile = Files.createTempFile(cacheDirectory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tempFile);
+                 DataOutputStream out = new DataOutputStream(os)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(url);
+                out.writeUTF(entry.eTag);
+                out.writeUTF(entry.lastModified);
+                out.writeLong(entry.storedAt);
+                out.writeInt(entry.body.length);
+                out.write(entry.body);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path entryFile(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            char[] name = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                name[2 * i] = HEX_DIGITS[hash[i] >> 4 & 0xF];
+                name[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+            }
+            return cacheDirectory.resolve(new String(name) + FILE_EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            // This cannot happen as every implementation of the Java platform must support this algorithm
+            throw new AssertionError("SHA-256 algorithm not supported");
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    public static final class Entry {
+        private final byte[] body;
+        private final String eTag;
+        private final String lastModified;
+        private final long storedAt;
+
+        private Entry(byte[] body, String eTag, String lastModified, long storedAt) {
+            this.body = body;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.storedAt = storedAt;
+        }
+
+        /**
+         * Returns a stream with the body of the cached response.
+         *
+         * @return a stream with the response body
+         */
+        public InputStream bodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        /**
+         * Returns the {@code ETag} the server sent with the response.
+         *
+         * @return an {@code Optional} with the entity tag
+         */
+        public Optional<String> getETag() {
+            return Optional.of(eTag).filter(StringUtils::isNotEmpty);
+        }
+
+        /**
+         * Returns the {@code Last-Modified} date the server sent with the
+         * response.
+         *
+         * @return an {@code Optional} with the last modification date
+         */
+        public Optional<String> getLastModified() {
+            return Optional.of(lastModified).filter(StringUtils::isNotEmpty);
+        }
+
+        /**
+         * Checks whether the entry can be revalidated with a conditional
+         * request.
+         *
+         * @return a flag whether the server provided validators
+         */
+        public boolean isRevalidatable() {
+            return getETag().isPresent() || getLastModified().isPresent();
+        }
+    }
+}
@@ -15,9 +15,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.eclipse.sw360.antenna.http.HttpClient;
 import org.eclipse.sw360.antenna.http.utils.HttpConstants;
+import org.eclipse.sw360.antenna.sw360.client.cache.SW360ResponseCache;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <p>
@@ -88,8 +90,19 @@ public final class SW360ClientConfig {
      */
     private final ObjectMapper objectMapper;
 
+    /**
+     * The optional cache for the responses of lookup requests.
+     */
+    private final SW360ResponseCache responseCache;
+
     private SW360ClientConfig(URI baseURI, String authURL, String user, String password, String clientId,
                               String clientPassword, String token, HttpClient httpClient, ObjectMapper objectMapper) {
+        this(baseURI, authURL, user, password, clientId, clientPassword, token, httpClient, objectMapper, null);
+    }
+
+    private SW360ClientConfig(URI baseURI, String authURL, String user, String password, String clientId,
+                              String clientPassword, String token, HttpClient httpClient, ObjectMapper objectMapper,
+                              SW360ResponseCache responseCache) {
         this.baseURI = baseURI;
         this.authURL = authURL;
         this.user = user;
@@ -99,6 +112,7 @@ public final class SW360ClientConfig {
         this.token = token;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -246,6 +260,31 @@ public final class SW360ClientConfig {
         return objectMapper;
     }
 
+    /**
+     * Returns the cache for the responses of lookup requests if one has been
+     * configured. If the cache is present, lookups that are typically repeated
+     * in every run, like searches for releases by their external IDs or the
+     * list of licenses, are answered from the cache or revalidated with
+     * conditional requests.
+     *
+     * @return an {@code Optional} with the response cache
+     */
+    public Optional<SW360ResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    /**
+     * Returns a copy of this configuration that uses the given response
+     * cache. Passing <strong>null</strong> disables caching.
+     *
+     * @param cache the response cache to be used
+     * @return the new configuration with this response cache
+     */
+    public SW360ClientConfig withResponseCache(SW360ResponseCache cache) {
+        return new SW360ClientConfig(baseURI, authURL, user, password, clientId, clientPassword, token,
+                httpClient, objectMapper, cache);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -263,13 +302,14 @@ public final class SW360ClientConfig {
                 getClientPassword().equals(that.getClientPassword()) &&
                 getToken().equals(that.getToken()) &&
                 getHttpClient().equals(that.getHttpClient()) &&
-                getObjectMapper().equals(that.getObjectMapper());
+                getObjectMapper().equals(that.getObjectMapper()) &&
+                getResponseCache().equals(that.getResponseCache());
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getRestURL(), getAuthURL(), getUser(), getPassword(), getClientId(), getClientPassword(),
-                getToken(), getHttpClient(), getObjectMapper());
+                getToken(), getHttpClient(), getObjectMapper(), getResponseCache());
     }
 
     /**
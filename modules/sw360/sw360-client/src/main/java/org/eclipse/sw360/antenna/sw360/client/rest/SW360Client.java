@@ -11,21 +11,28 @@
  */
 package org.eclipse.sw360.antenna.sw360.client.rest;
 
+import org.apache.commons.io.IOUtils;
 import org.eclipse.sw360.antenna.http.RequestBuilder;
+import org.eclipse.sw360.antenna.http.Response;
 import org.eclipse.sw360.antenna.http.ResponseProcessor;
 import org.eclipse.sw360.antenna.http.utils.HttpConstants;
 import org.eclipse.sw360.antenna.http.utils.HttpUtils;
 import org.eclipse.sw360.antenna.sw360.client.auth.AccessTokenProvider;
+import org.eclipse.sw360.antenna.sw360.client.cache.SW360ResponseCache;
 import org.eclipse.sw360.antenna.sw360.client.config.SW360ClientConfig;
 import org.eclipse.sw360.antenna.sw360.client.utils.FutureUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.eclipse.sw360.antenna.http.utils.HttpConstants.URL_PATH_SEPARATOR;
@@ -52,6 +59,20 @@ public abstract class SW360Client {
      */
     private static final String URI_SEPARATOR = "/";
 
+    /**
+     * Status code of a response to a conditional request if the resource has
+     * not been modified.
+     */
+    private static final int STATUS_NOT_MODIFIED = 304;
+
+    private static final String HEADER_ETAG = "ETag";
+
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
     private static final Logger LOG = LoggerFactory.getLogger(SW360Client.class);
 
     /**
@@ -113,7 +134,7 @@ public abstract class SW360Client {
     protected <T> CompletableFuture<T> executeRequest(Consumer<? super RequestBuilder> producer,
                                                       ResponseProcessor<T> processor,
                                                       String tag) {
-        return manageTokenAndExecute(producer, processor, tag, true);
+        return manageTokenAndExecute(producer, processor, HttpUtils.SUCCESS_STATUS, tag, true);
     }
 
     /**
@@ -187,6 +208,75 @@ public abstract class SW360Client {
         return executeRequest(producer, processor, tag);
     }
 
+    /**
+     * Executes a GET request for JSON data whose response may be taken from
+     * the response cache. This method behaves like
+     * {@link #executeJsonRequestWithDefault(Consumer, Class, String, Supplier)}
+     * if no cache is configured. Otherwise, a fresh cache entry for the URL is
+     * used without contacting the server; a stale entry is revalidated with a
+     * conditional request if possible. Responses are only stored in the cache
+     * if the given condition accepts their result. This allows callers to
+     * exclude results that are likely to change soon, e.g. empty search
+     * results for entities that are about to be created.
+     *
+     * @param url            the URL to be requested
+     * @param resultClass    the class to which the JSON payload is to be
+     *                       converted
+     * @param tag            a tag to identify the request
+     * @param defaultResult  the producer of the result for a response with
+     *                       status code 204 NO CONTENT
+     * @param cacheCondition a condition whether a result may be cached
+     * @param <T>            the type of the result
+     * @return a future with the result of the request
+     */
+    protected <T> CompletableFuture<T> executeCachedJsonRequest(String url, Class<T> resultClass, String tag,
+                                                                Supplier<? extends T> defaultResult,
+                                                                Predicate<? super T> cacheCondition) {
+        Optional<SW360ResponseCache> optCache = getClientConfig().getResponseCache();
+        if (!optCache.isPresent()) {
+            return executeJsonRequestWithDefault(HttpUtils.get(url), resultClass, tag, defaultResult);
+        }
+
+        SW360ResponseCache cache = optCache.get();
+        Optional<SW360ResponseCache.Entry> optEntry = cache.get(url);
+        if (optEntry.isPresent() && cache.isFresh(optEntry.get())) {
+            try {
+                LOG.debug("Answering request '{}' from the response cache.", tag);
+                return CompletableFuture.completedFuture(readJson(optEntry.get().bodyStream(), resultClass));
+            } catch (IOException e) {
+                LOG.warn("Could not read cached response for request '{}'.", tag, e);
+            }
+        }
+
+        Optional<SW360ResponseCache.Entry> revalidatableEntry =
+                optEntry.filter(SW360ResponseCache.Entry::isRevalidatable);
+        Consumer<RequestBuilder> producer = builder -> {
+            builder.uri(url);
+            revalidatableEntry.ifPresent(entry -> {
+                entry.getETag().ifPresent(eTag -> builder.header(HEADER_IF_NONE_MATCH, eTag));
+                entry.getLastModified().ifPresent(date -> builder.header(HEADER_IF_MODIFIED_SINCE, date));
+            });
+        };
+        ResponseProcessor<T> processor = response -> {
+            if (response.statusCode() == STATUS_NOT_MODIFIED && revalidatableEntry.isPresent()) {
+                LOG.debug("Cached response for request '{}' is still valid.", tag);
+                return readJson(cache.revalidated(url, revalidatableEntry.get()).bodyStream(), resultClass);
+            }
+            if (response.statusCode() == HttpConstants.STATUS_NO_CONTENT) {
+                return defaultResult.get();
+            }
+            byte[] body = IOUtils.toByteArray(response.bodyStream());
+            T result = readJson(body, resultClass);
+            if (cacheCondition.test(result)) {
+                cache.put(url, body, response.header(HEADER_ETAG), response.header(HEADER_LAST_MODIFIED));
+            }
+            return result;
+        };
+        Predicate<Response> successPredicate = HttpUtils.SUCCESS_STATUS
+                .or(response -> revalidatableEntry.isPresent() && response.statusCode() == STATUS_NOT_MODIFIED);
+        return manageTokenAndExecute(producer, processor, successPredicate, tag, true);
+    }
+
     /**
      * Generates a URL pointing to a specific resource of the SW360 server.
      * This method concatenates the given path segments and appends them to the
@@ -235,26 +325,29 @@ public abstract class SW360Client {
      * expired access token. If this is the case, another request execution is
      * chained to the original future.
      *
-     * @param producer  the {@code RequestProducer}
-     * @param processor the {@code ResponseProcessor}
-     * @param tag       a tag to identify the request
-     * @param canRetry  a flag whether a retry is possible
-     * @param <T>       the type of the result
+     * @param producer         the {@code RequestProducer}
+     * @param processor        the {@code ResponseProcessor}
+     * @param successPredicate a predicate to determine whether the response
+     *                         is successful
+     * @param tag              a tag to identify the request
+     * @param canRetry         a flag whether a retry is possible
+     * @param <T>              the type of the result
      * @return a future with the result of the request
      */
     private <T> CompletableFuture<T> manageTokenAndExecute(Consumer<? super RequestBuilder> producer,
                                                            ResponseProcessor<T> processor,
+                                                           Predicate<Response> successPredicate,
                                                            String tag,
                                                            boolean canRetry) {
         LOG.debug("Executing request '{}'{}.", tag, canRetry ? "" : " (retry)");
 
         CompletableFuture<T> futRequest = getTokenProvider().doWithToken(accessToken ->
                 getClientConfig().getHttpClient().execute(accessToken.tokenProducer(producer),
-                        HttpUtils.checkResponse(processor, tag)));
+                        HttpUtils.checkResponse(processor, successPredicate, tag)));
         return canRetry ?
                 FutureUtils.wrapFutureForConditionalFallback(futRequest,
                         this::checkIfRetry,
-                        () -> manageTokenAndExecute(producer, processor, tag, false)) :
+                        () -> manageTokenAndExecute(producer, processor, successPredicate, tag, false)) :
                 futRequest;
     }
 
@@ -284,6 +377,14 @@ public abstract class SW360Client {
         return HttpUtils.checkResponse(processor, HttpUtils.hasStatus(HttpConstants.STATUS_MULTI_STATUS), tag);
     }
 
+    private <T> T readJson(byte[] body, Class<T> resultClass) throws IOException {
+        return getClientConfig().getObjectMapper().readValue(body, resultClass);
+    }
+
+    private <T> T readJson(InputStream body, Class<T> resultClass) throws IOException {
+        return getClientConfig().getObjectMapper().readValue(body, resultClass);
+    }
+
     /**
      * Determines the path for the source URI relative to the base URI. The
      * path of the source URI is appended to the base URI, but common path
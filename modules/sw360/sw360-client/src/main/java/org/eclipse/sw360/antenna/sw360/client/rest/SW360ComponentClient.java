@@ -122,7 +122,9 @@ public class SW360ComponentClient extends SW360Client {
      * future with a result object. The result contains the entities matched by
      * the search criteria and paging-related metadata if available. (If the
      * search parameters do not use paging, the paging-related objects in the
-     * result are <strong>null</strong>.)
+     * result are <strong>null</strong>.) Results of a search by name may be
+     * answered from the response cache if they contain a component with
+     * exactly this name.
      *
      * @param searchParams the object with search parameters
      * @return a future with an object holding the search results
@@ -130,8 +132,8 @@ public class SW360ComponentClient extends SW360Client {
     public CompletableFuture<PagingResult<SW360SparseComponent>> search(ComponentSearchParams searchParams) {
         Map<String, Object> params = createSearchQueryParameters(searchParams);
         String url = HttpUtils.addQueryParameters(resourceUrl(COMPONENTS_ENDPOINT), params, true);
-        return executeJsonRequestWithDefault(HttpUtils.get(url), SW360ComponentList.class,
-                TAG_GET_COMPONENTS, SW360ComponentList::new)
+        return executeCachedJsonRequest(url, SW360ComponentList.class, TAG_GET_COMPONENTS,
+                SW360ComponentList::new, components -> containsSearchedComponent(components, searchParams))
                 .thenApply(SW360ComponentClient::createPagingComponentResult);
     }
 
@@ -204,6 +206,22 @@ public class SW360ComponentClient extends SW360Client {
         return String.join(",", values);
     }
 
+    /**
+     * Checks whether the result of a search by name contains the component
+     * with exactly this name. Only such results are cached; otherwise, a
+     * component created later with this name would be hidden by the cache.
+     *
+     * @param components   the components found
+     * @param searchParams the object with search parameters
+     * @return a flag whether the result of this search may be cached
+     */
+    private static boolean containsSearchedComponent(SW360ComponentList components,
+                                                     ComponentSearchParams searchParams) {
+        return searchParams.getName() != null &&
+                SW360ResourceUtils.getSw360SparseComponents(components).stream()
+                        .anyMatch(component -> searchParams.getName().equals(component.getName()));
+    }
+
     /**
      * Converts the given component list to a paging result.
      *
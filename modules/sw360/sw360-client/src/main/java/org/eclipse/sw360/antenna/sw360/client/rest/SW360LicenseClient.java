@@ -13,7 +13,6 @@
 package org.eclipse.sw360.antenna.sw360.client.rest;
 
 import org.eclipse.sw360.antenna.http.RequestBuilder;
-import org.eclipse.sw360.antenna.http.utils.HttpUtils;
 import org.eclipse.sw360.antenna.sw360.client.config.SW360ClientConfig;
 import org.eclipse.sw360.antenna.sw360.client.auth.AccessTokenProvider;
 import org.eclipse.sw360.antenna.sw360.client.utils.SW360ResourceUtils;
@@ -61,13 +60,14 @@ public class SW360LicenseClient extends SW360Client {
 
     /**
      * Returns a future with a list of sparse license information for all the
-     * licenses available in SW360.
+     * licenses available in SW360. The list may be answered from the
+     * response cache.
      *
      * @return a future with the list of licenses
      */
     public CompletableFuture<List<SW360SparseLicense>> getLicenses() {
-        return executeJsonRequestWithDefault(HttpUtils.get(resourceUrl(LICENSES_ENDPOINT)), SW360LicenseList.class,
-                TAG_GET_LICENSES, SW360LicenseList::new)
+        return executeCachedJsonRequest(resourceUrl(LICENSES_ENDPOINT), SW360LicenseList.class, TAG_GET_LICENSES,
+                SW360LicenseList::new, licenses -> !SW360ResourceUtils.getSw360SparseLicenses(licenses).isEmpty())
                 .thenApply(SW360ResourceUtils::getSw360SparseLicenses);
     }
 
@@ -75,14 +75,14 @@ public class SW360LicenseClient extends SW360Client {
      * Returns a future with detail information of a license selected by its
      * name. If the name provided cannot be resolved, the future fails with a
      * {@link org.eclipse.sw360.antenna.http.utils.FailedRequestException} with
-     * status code 404.
+     * status code 404. The details may be answered from the response cache.
      *
      * @param name the name of the license in question
      * @return a future with the details of this license
      */
     public CompletableFuture<SW360License> getLicenseByName(String name) {
-        return executeJsonRequest(HttpUtils.get(resourceUrl(LICENSES_ENDPOINT, name)), SW360License.class,
-                TAG_GET_LICENSE_BY_NAME);
+        return executeCachedJsonRequest(resourceUrl(LICENSES_ENDPOINT, name), SW360License.class,
+                TAG_GET_LICENSE_BY_NAME, SW360License::new, license -> true);
     }
 
     /**
@@ -93,7 +93,8 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
 
     /**
      * Returns a future with a list of releases that match the external IDs
-     * passed to this method.
+     * passed to this method. Non-empty results may be answered from the
+     * response cache.
      *
      * @param externalIds a map with the IDs to be matched and their values
      * @return a future with a list of the releases that could be matched
@@ -103,8 +104,8 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
     // but can change in the order of the values
     public CompletableFuture<List<SW360SparseRelease>> getReleasesByExternalIds(Map<String, ?> externalIds) {
         String url = getExternalIdUrl(externalIds);
-        return executeJsonRequestWithDefault(HttpUtils.get(url), SW360ReleaseList.class,
-                TAG_GET_RELEASES_BY_EXTERNAL_IDS, SW360ReleaseList::new)
+        return executeCachedJsonRequest(url, SW360ReleaseList.class, TAG_GET_RELEASES_BY_EXTERNAL_IDS,
+                SW360ReleaseList::new, releases -> !SW360ResourceUtils.getSw360SparseReleases(releases).isEmpty())
                 .thenApply(SW360ResourceUtils::getSw360SparseReleases);
     }
 
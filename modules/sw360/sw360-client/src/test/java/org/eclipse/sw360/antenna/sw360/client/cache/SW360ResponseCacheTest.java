@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) Bosch.IO GmbH 2021.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.client.cache;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SW360ResponseCacheTest {
+    private static final String URL = "https://sw360.org/api/releases/searchByExternalIds?maven-id=foo";
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final Instant NOW = Instant.parse("2021-03-01T10:00:00Z");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path cacheDirectory;
+
+    private TestClock clock;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = temporaryFolder.getRoot().toPath().resolve("cache");
+        clock = new TestClock();
+        givenTime(NOW);
+    }
+
+    private void givenTime(Instant time) {
+        clock.now = time;
+    }
+
+    private SW360ResponseCache createCache() {
+        return new SW360ResponseCache(cacheDirectory, TTL, clock);
+    }
+
+    private static String body(SW360ResponseCache.Entry entry) throws IOException {
+        return IOUtils.toString(entry.bodyStream(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEntryIsFreshForTheTimeToLive() {
+        SW360ResponseCache cache = createCache();
+        SW360ResponseCache.Entry entry = cache.put(URL, "{}".getBytes(StandardCharsets.UTF_8), null, null);
+
+        assertThat(cache.isFresh(entry)).isTrue();
+        givenTime(NOW.plus(TTL).minusSeconds(1));
+        assertThat(cache.isFresh(entry)).isTrue();
+        givenTime(NOW.plus(TTL));
+        assertThat(cache.isFresh(entry)).isFalse();
+    }
+
+    @Test
+    public void testEntriesArePersistedAcrossInstances() throws IOException {
+        createCache().put(URL, "{\"name\":\"foo\"}".getBytes(StandardCharsets.UTF_8), "\"v1\"", null);
+
+        Optional<SW360ResponseCache.Entry> optEntry = createCache().get(URL);
+
+        assertThat(optEntry).isPresent();
+        SW360ResponseCache.Entry entry = optEntry.get();
+        assertThat(body(entry)).isEqualTo("{\"name\":\"foo\"}");
+        assertThat(entry.getETag()).contains("\"v1\"");
+        assertThat(entry.getLastModified()).isEmpty();
+        assertThat(entry.isRevalidatable()).isTrue();
+    }
+
+    @Test
+    public void testUnknownUrlHasNoEntry() {
+        SW360ResponseCache cache = createCache();
+        cache.put(URL, new byte[0], null, null);
+
+        assertThat(cache.get(URL + "&other=bar")).isEmpty();
+    }
+
+    @Test
+    public void testRevalidatedEntryIsFreshAgain() throws IOException {
+        SW360ResponseCache cache = createCache();
+        SW360ResponseCache.Entry entry = cache.put(URL, "[]".getBytes(StandardCharsets.UTF_8), null,
+                "Mon, 01 Mar 2021 09:00:00 GMT");
+        givenTime(NOW.plus(TTL).plusSeconds(1));
+
+        SW360ResponseCache.Entry revalidated = cache.revalidated(URL, entry);
+
+        assertThat(cache.isFresh(revalidated)).isTrue();
+        assertThat(body(revalidated)).isEqualTo("[]");
+        assertThat(revalidated.getLastModified()).contains("Mon, 01 Mar 2021 09:00:00 GMT");
+        assertThat(cache.isFresh(createCache().get(URL).get())).isTrue();
+    }
+
+    @Test
+    public void testUnreadableEntryIsIgnored() throws IOException {
+        createCache().put(URL, "{}".getBytes(StandardCharsets.UTF_8), null, null);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, new byte[]{0, 0, 0, 1, 42});
+            }
+        }
+
+        assertThat(createCache().get(URL)).isEmpty();
+    }
+
+    /**
+     * A clock whose current time can be changed by the test.
+     */
+    private static final class TestClock extends Clock {
+        private Instant now;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException("Time zones are not supported by the test clock");
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
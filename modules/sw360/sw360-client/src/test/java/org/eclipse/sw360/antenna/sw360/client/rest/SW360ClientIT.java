@@ -15,18 +15,24 @@ import org.eclipse.sw360.antenna.http.utils.FailedRequestException;
 import org.eclipse.sw360.antenna.http.utils.HttpConstants;
 import org.eclipse.sw360.antenna.http.utils.HttpUtils;
 import org.eclipse.sw360.antenna.sw360.client.auth.AccessToken;
+import org.eclipse.sw360.antenna.sw360.client.cache.SW360ResponseCache;
 import org.eclipse.sw360.antenna.sw360.client.rest.resource.projects.SW360Project;
 import org.eclipse.sw360.antenna.sw360.client.rest.resource.projects.SW360ProjectList;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.atLeastOnce;
@@ -44,6 +50,9 @@ public class SW360ClientIT extends AbstractMockServerTest {
      */
     private static final String TAG = "The test request";
 
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
     /**
      * Mock for the token provider.
      */
@@ -181,6 +190,78 @@ public class SW360ClientIT extends AbstractMockServerTest {
         verify(tokenProvider, atLeastOnce()).invalidate(new AccessToken(token));
     }
 
+    /**
+     * Creates a test client that uses a response cache with the given time to
+     * live and invokes a cached request on it.
+     *
+     * @param timeToLive the time to live of cached responses
+     * @return the converted JSON data received from the server or the cache
+     * @throws IOException if an error occurs
+     */
+    private SW360ProjectList whenCachingClientInvoked(Duration timeToLive) throws IOException {
+        SW360Client cachingClient = new SW360Client(createClientConfig()
+                .withResponseCache(new SW360ResponseCache(cacheFolder.getRoot().toPath(), timeToLive)),
+                tokenProvider) {
+        };
+        String endpointUrl = cachingClient.resourceUrl(StringUtils.stripStart(ENDPOINT, "/"));
+        return HttpUtils.waitFor(cachingClient.executeCachedJsonRequest(endpointUrl, SW360ProjectList.class, TAG,
+                SW360ProjectList::new, projects -> true));
+    }
+
+    @Test
+    public void testFreshCachedResponseIsUsedWithoutRequest() throws IOException {
+        wireMockRule.stubFor(authorized(get(urlPathEqualTo(ENDPOINT)))
+                .willReturn(aJsonResponse(HttpConstants.STATUS_OK)
+                        .withBodyFile("all_projects.json")));
+        givenAccessTokenAvailable();
+
+        whenCachingClientInvoked(Duration.ofHours(1));
+        SW360ProjectList projectList = whenCachingClientInvoked(Duration.ofHours(1));
+
+        thenCorrectResultsShouldHaveBeenRetrieved(projectList);
+        wireMockRule.verify(1, getRequestedFor(urlPathEqualTo(ENDPOINT)));
+    }
+
+    @Test
+    public void testStaleCachedResponseIsRevalidated() throws IOException {
+        final String eTag = "\"projects-v1\"";
+        wireMockRule.stubFor(authorized(get(urlPathEqualTo(ENDPOINT)))
+                .willReturn(aJsonResponse(HttpConstants.STATUS_OK)
+                        .withHeader("ETag", eTag)
+                        .withBodyFile("all_projects.json")));
+        wireMockRule.stubFor(authorized(get(urlPathEqualTo(ENDPOINT)))
+                .withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+        givenAccessTokenAvailable();
+
+        whenCachingClientInvoked(Duration.ZERO);
+        SW360ProjectList projectList = whenCachingClientInvoked(Duration.ZERO);
+
+        thenCorrectResultsShouldHaveBeenRetrieved(projectList);
+        wireMockRule.verify(1, getRequestedFor(urlPathEqualTo(ENDPOINT))
+                .withHeader("If-None-Match", equalTo(eTag)));
+    }
+
+    @Test
+    public void testResponseIsNotCachedIfConditionFails() throws IOException {
+        wireMockRule.stubFor(authorized(get(urlPathEqualTo(ENDPOINT)))
+                .willReturn(aJsonResponse(HttpConstants.STATUS_OK)
+                        .withBodyFile("all_projects.json")));
+        givenAccessTokenAvailable();
+        SW360Client cachingClient = new SW360Client(createClientConfig()
+                .withResponseCache(new SW360ResponseCache(cacheFolder.getRoot().toPath(), Duration.ofHours(1))),
+                tokenProvider) {
+        };
+        String endpointUrl = cachingClient.resourceUrl(StringUtils.stripStart(ENDPOINT, "/"));
+
+        for (int i = 0; i < 2; i++) {
+            HttpUtils.waitFor(cachingClient.executeCachedJsonRequest(endpointUrl, SW360ProjectList.class, TAG,
+                    SW360ProjectList::new, projects -> false));
+        }
+
+        wireMockRule.verify(2, getRequestedFor(urlPathEqualTo(ENDPOINT)));
+    }
+
     @Test
     public void testResourceUrlWithMultipleSegments() {
         String url = client.resourceUrl("foo", "bar", "baz", "42");
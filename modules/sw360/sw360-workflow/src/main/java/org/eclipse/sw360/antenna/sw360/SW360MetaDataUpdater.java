@@ -42,6 +42,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -215,11 +216,13 @@ public class SW360MetaDataUpdater {
         Set<String> attachmentsToDelete = new HashSet<>();
         Map<AttachmentUploadRequest.Item, Throwable> conflictFailures = new HashMap<>();
         AttachmentUploadRequest.Builder<SW360Release> builder = AttachmentUploadRequest.builder(sw360Release);
+        Map<Path, Optional<String>> localHashes = calculateAttachmentHashes(sw360Release, attachments.keySet());
         for (Map.Entry<Path, SW360AttachmentType> e : attachments.entrySet()) {
             String fileName = String.valueOf(e.getKey().getFileName());
             Optional<SW360SparseAttachment> optAttachment = findAttachmentByFileName(sw360Release, fileName);
             boolean shouldUpload = optAttachment.map(attachment ->
-                    checkUploadCriteria(e.getKey(), attachment, attachmentsToDelete, conflictFailures, force))
+                    checkUploadCriteria(e.getKey(), localHashes.get(e.getKey()), attachment, attachmentsToDelete,
+                            conflictFailures, force))
                     .orElse(true);
             if (shouldUpload) {
                 builder = builder.addAttachment(e.getKey(), e.getValue());
@@ -285,20 +288,28 @@ public class SW360MetaDataUpdater {
     }
 
     /**
-     * Checks whether an attachment associated with a release is identical to
-     * the local file. If this is the case, the upload of this attachment file
-     * can be skipped.
+     * Calculates the SHA-1 hashes of all local attachment files for which the
+     * release already has an attachment with the same name. Only for these
+     * files the hash is needed to decide whether they have to be uploaded.
+     * The files are hashed in parallel. If the hash of a file cannot be
+     * calculated, its value in the resulting map is empty.
      *
-     * @param path       the path to the local attachment file
-     * @param attachment the attachment from the current release
-     * @return a flag whether the attachment is matched by these properties
+     * @param sw360Release the release
+     * @param paths        the paths to the local attachment files
+     * @return a map with the hashes of the files that need to be compared
      */
-    private boolean checkAttachmentContentUpToDate(Path path, SW360SparseAttachment attachment) {
+    private Map<Path, Optional<String>> calculateAttachmentHashes(SW360Release sw360Release, Collection<Path> paths) {
+        return paths.parallelStream()
+                .filter(path -> findAttachmentByFileName(sw360Release, String.valueOf(path.getFileName())).isPresent())
+                .collect(Collectors.toConcurrentMap(Function.identity(), this::tryCalculateAttachmentHash));
+    }
+
+    private Optional<String> tryCalculateAttachmentHash(Path path) {
         try {
-            return calculateAttachmentHash(path).equals(attachment.getSha1());
+            return Optional.of(calculateAttachmentHash(path));
         } catch (SW360ClientException e) {
             LOGGER.warn("Could not calculate has for attachment {}.", path, e);
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -348,16 +359,18 @@ public class SW360MetaDataUpdater {
      * otherwise, a conflict error is reported for this upload.
      *
      * @param path                the path to the local attachment file
+     * @param localHash           the hash of the local attachment file (empty
+     *                            if it could not be calculated)
      * @param attachment          the attachment assigned to the release
      * @param attachmentsToDelete set with IDs of attachments to delete
      * @param conflictFailures    map to report conflict failures
      * @param force               the flag that controls how to deal with conflicts
      * @return a flag whether this attachment file must be uploaded
      */
-    private boolean checkUploadCriteria(Path path, SW360SparseAttachment attachment,
+    private boolean checkUploadCriteria(Path path, Optional<String> localHash, SW360SparseAttachment attachment,
                                         Set<String> attachmentsToDelete,
                                         Map<AttachmentUploadRequest.Item, Throwable> conflictFailures, boolean force) {
-        if (checkAttachmentContentUpToDate(path, attachment)) {
+        if (localHash.filter(hash -> hash.equals(attachment.getSha1())).isPresent()) {
             LOGGER.debug("Skipping upload for {} as it already exists.", path);
             return false;
         } else {
@@ -11,11 +11,16 @@
 package org.eclipse.sw360.antenna.sw360.workflow;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.http.HttpClient;
 import org.eclipse.sw360.antenna.sw360.client.adapter.SW360ConnectionFactory;
 import org.eclipse.sw360.antenna.sw360.client.adapter.SW360Connection;
+import org.eclipse.sw360.antenna.sw360.client.cache.SW360ResponseCache;
 import org.eclipse.sw360.antenna.sw360.client.config.SW360ClientConfig;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+
 /**
  * <p>
  * A class for setting up the SW360 client library from the Antenna
@@ -79,6 +84,25 @@ public class SW360ConnectionConfigurationFactory {
      */
     public static final String TOKEN_KEY = "user.token";
 
+    /**
+     * The name of the optional property from the Antenna tool configuration
+     * that defines a directory for a persistent cache of lookup responses
+     * from SW360. If the property is not set, no cache is used.
+     */
+    public static final String CACHE_DIRECTORY_KEY = "cache.directory";
+
+    /**
+     * The name of the optional property from the Antenna tool configuration
+     * that defines for how many seconds a cached response is used without
+     * asking the server whether it is still valid.
+     */
+    public static final String CACHE_TTL_KEY = "cache.ttl";
+
+    /**
+     * The time to live of cached responses if no other value is configured.
+     */
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+
     /**
      * The factory for creating a new connection.
      */
@@ -116,6 +140,24 @@ public class SW360ConnectionConfigurationFactory {
      */
     public SW360Connection createConnection(Getter<String> getConfigValue, HttpClient httpClient,
                                             ObjectMapper mapper) {
+        return createConnection(getConfigValue, key -> null, httpClient, mapper);
+    }
+
+    /**
+     * Creates a new {@code SW360Connection} object that is initialized from
+     * configuration data, including optional settings. Mandatory settings are
+     * read with the first {@code Getter}; the second one is used for optional
+     * settings and returns <strong>null</strong> for settings which are not
+     * present.
+     *
+     * @param getConfigValue         getter for string config settings
+     * @param getOptionalConfigValue getter for optional string config settings
+     * @param httpClient             the HTTP client
+     * @param mapper                 the JSON mapper
+     * @return the new {@code SW360Connection}
+     */
+    public SW360Connection createConnection(Getter<String> getConfigValue, Getter<String> getOptionalConfigValue,
+                                            HttpClient httpClient, ObjectMapper mapper) {
         String restUrl = getConfigValue.apply(REST_SERVER_URL_KEY);
         String authUrl = getConfigValue.apply(AUTH_SERVER_URL_KEY);
         String user = getConfigValue.apply(USERNAME_KEY);
@@ -126,10 +168,43 @@ public class SW360ConnectionConfigurationFactory {
 
         SW360ClientConfig clientConfig =
                 SW360ClientConfig.createConfig(restUrl, authUrl, user, password, clientId, clientPassword,
-                        token, httpClient, mapper);
+                        token, httpClient, mapper)
+                        .withResponseCache(createResponseCache(getOptionalConfigValue));
         return connectionFactory.newConnection(clientConfig);
     }
 
+    /**
+     * Creates the cache for lookup responses if a cache directory is
+     * configured.
+     *
+     * @param getOptionalConfigValue getter for optional string config settings
+     * @return the response cache or <strong>null</strong> if caching is
+     * disabled
+     */
+    private static SW360ResponseCache createResponseCache(Getter<String> getOptionalConfigValue) {
+        String cacheDirectory = getOptionalConfigValue.apply(CACHE_DIRECTORY_KEY);
+        if (cacheDirectory == null || cacheDirectory.trim().isEmpty()) {
+            return null;
+        }
+        String ttl = getOptionalConfigValue.apply(CACHE_TTL_KEY);
+        return new SW360ResponseCache(Paths.get(cacheDirectory.trim()),
+                ttl == null ? DEFAULT_CACHE_TTL : parseTimeToLive(ttl));
+    }
+
+    private static Duration parseTimeToLive(String ttl) {
+        final String message = "The value of '" + CACHE_TTL_KEY + "' must be a number of seconds, but is '" + ttl + "'.";
+        final long seconds;
+        try {
+            seconds = Long.parseLong(ttl.trim());
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException(message, e);
+        }
+        if (seconds < 0) {
+            throw new ConfigurationException(message);
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
     /**
      * Returns the {@code SW360ConnectionFactory} used by this object.
      *
@@ -26,6 +26,7 @@ public class SW360Updater extends AbstractGenerator {
     private static final String UPDATE_RELEASES = "update_releases";
     private static final String UPLOAD_SOURCES = "upload_sources";
     private static final String DELETE_OBSOLETE_SOURCES = "delete_obsolete_sources";
+    private static final String CONCURRENT_REQUESTS = "concurrent.requests";
 
     private final SW360ConnectionConfigurationFactory connectionFactory;
 
@@ -78,14 +79,16 @@ public class SW360Updater extends AbstractGenerator {
      */
     SW360UpdaterImpl createUpdaterImpl(Map<String, String> configMap) {
         SW360Connection sw360Connection =
-                getConnectionFactory().createConnection(key -> getConfigValue(key, configMap),
+                getConnectionFactory().createConnection(key -> getConfigValue(key, configMap), configMap::get,
                         context.getHttpClient(), context.getObjectMapper());
         SW360MetaDataUpdater sw360MetaDataUpdater = new SW360MetaDataUpdater(sw360Connection);
 
         return new SW360UpdaterImpl(sw360MetaDataUpdater, getProjectName(), getProjectVersion(),
                 getBooleanConfigValue(UPDATE_RELEASES, configMap),
                 getBooleanConfigValue(UPLOAD_SOURCES, configMap),
-                getBooleanConfigValue(DELETE_OBSOLETE_SOURCES, configMap));
+                getBooleanConfigValue(DELETE_OBSOLETE_SOURCES, configMap),
+                getIntConfigValue(CONCURRENT_REQUESTS, configMap,
+                        SW360UpdaterImpl.DEFAULT_CONCURRENT_REQUESTS, 1, Integer.MAX_VALUE));
     }
 
     SW360ConnectionConfigurationFactory getConnectionFactory() {
@@ -24,12 +24,17 @@ import org.eclipse.sw360.antenna.sw360.client.rest.resource.licenses.SW360Licens
 import org.eclipse.sw360.antenna.sw360.client.rest.resource.releases.SW360Release;
 import org.eclipse.sw360.antenna.sw360.client.utils.SW360ClientException;
 import org.eclipse.sw360.antenna.sw360.utils.ArtifactToAttachmentUtils;
+import org.eclipse.sw360.antenna.sw360.utils.ArtifactToComponentUtils;
 import org.eclipse.sw360.antenna.sw360.utils.ArtifactToReleaseUtils;
+import org.eclipse.sw360.antenna.util.ConcurrencyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -45,26 +50,53 @@ import java.util.stream.Collectors;
  * whether updates on release properties should be done or source attachments
  * should be uploaded.
  * </p>
+ * <p>
+ * The artifacts are processed concurrently; the number of artifacts whose
+ * releases are created or updated at the same time can be limited. Artifacts
+ * that belong to the same component are processed one after the other by a
+ * single task: SW360 looks up a component by its name and creates it if it
+ * does not exist yet, so concurrent releases of a new component would create
+ * this component multiple times. For the same reason, the attachments of a
+ * single release are uploaded one after the other.
+ * </p>
  */
 public class SW360UpdaterImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(SW360UpdaterImpl.class);
 
+    /**
+     * The default number of artifacts that are processed concurrently.
+     */
+    public static final int DEFAULT_CONCURRENT_REQUESTS = 8;
+
     private final String projectName;
     private final String projectVersion;
     private final SW360MetaDataUpdater sw360MetaDataUpdater;
     private final boolean updateReleases;
     private final boolean uploadSources;
     private final boolean deleteObsoleteSourceAttachments;
+    private final int concurrentRequests;
 
     public SW360UpdaterImpl(SW360MetaDataUpdater sw360MetaDataUpdater,
                             String projectName, String projectVersion, boolean updateReleases,
                             boolean uploadSources, boolean deleteObsoleteSourceAttachments) {
+        this(sw360MetaDataUpdater, projectName, projectVersion, updateReleases, uploadSources,
+                deleteObsoleteSourceAttachments, DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    public SW360UpdaterImpl(SW360MetaDataUpdater sw360MetaDataUpdater,
+                            String projectName, String projectVersion, boolean updateReleases,
+                            boolean uploadSources, boolean deleteObsoleteSourceAttachments,
+                            int concurrentRequests) {
+        if (concurrentRequests < 1) {
+            throw new IllegalArgumentException("The number of concurrent requests must be positive, but is " + concurrentRequests);
+        }
         this.projectName = projectName;
         this.projectVersion = projectVersion;
         this.sw360MetaDataUpdater = sw360MetaDataUpdater;
         this.updateReleases = updateReleases;
         this.uploadSources = uploadSources;
         this.deleteObsoleteSourceAttachments = deleteObsoleteSourceAttachments;
+        this.concurrentRequests = concurrentRequests;
     }
 
     /**
@@ -110,22 +142,113 @@ public class SW360UpdaterImpl {
         return deleteObsoleteSourceAttachments;
     }
 
+    /**
+     * Returns the maximum number of artifacts that are processed
+     * concurrently, i.e. whose releases are created or updated and whose
+     * attachments are uploaded at the same time.
+     *
+     * @return the maximum number of concurrently processed artifacts
+     */
+    public int getConcurrentRequests() {
+        return concurrentRequests;
+    }
+
     public Map<String, IAttachable> produce(Collection<Artifact> intermediates) {
         List<SW360Release> releases = new ArrayList<>();
-        for (Artifact artifact : intermediates) {
-            try {
-                SW360Release sw360ReleaseFinal = artifactToReleaseInSW360(artifact);
-                releases.add(sw360ReleaseFinal);
-            } catch (ExecutionException e) {
-                LOGGER.error("Release will not be created in SW360. Reason: {}", e.getMessage());
-                LOGGER.debug("Error: ", e);
-            }
+        for (Optional<SW360Release> release : releasesInSW360(intermediates)) {
+            release.ifPresent(releases::add);
         }
 
         sw360MetaDataUpdater.createProject(projectName, projectVersion, releases);
         return Collections.emptyMap();
     }
 
+    /**
+     * Maps all artifacts onto releases in SW360 using a pool with the
+     * configured number of threads. Artifacts of the same component are
+     * handled by the same task. The results are returned in the order of the
+     * artifacts; an artifact for which no release could be created yields an
+     * empty {@code Optional}.
+     *
+     * @param artifacts the artifacts to be transformed to releases
+     * @return a list with the resulting releases
+     */
+    private List<Optional<SW360Release>> releasesInSW360(Collection<Artifact> artifacts) {
+        if (artifacts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Artifact> artifactList = new ArrayList<>(artifacts);
+        List<List<Integer>> groups = groupByComponent(artifactList);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrentRequests, groups.size()));
+        try {
+            List<Future<List<Optional<SW360Release>>>> futures = new ArrayList<>(groups.size());
+            for (List<Integer> group : groups) {
+                futures.add(executor.submit(() -> group.stream()
+                        .map(index -> tryArtifactToReleaseInSW360(artifactList.get(index)))
+                        .collect(Collectors.toList())));
+            }
+            List<Optional<SW360Release>> releases =
+                    new ArrayList<>(Collections.nCopies(artifactList.size(), Optional.empty()));
+            for (int i = 0; i < groups.size(); i++) {
+                List<Integer> group = groups.get(i);
+                List<Optional<SW360Release>> groupReleases =
+                        ConcurrencyUtils.awaitResult(futures.get(i), "Update of releases in SW360");
+                for (int j = 0; j < group.size(); j++) {
+                    releases.set(group.get(j), groupReleases.get(j));
+                }
+            }
+            return releases;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Groups the artifacts by the names of the components they belong to. An
+     * artifact without a component name is put into a group of its own; it
+     * fails later with a meaningful message.
+     *
+     * @param artifacts the artifacts to be grouped
+     * @return the groups with the indices of their artifacts in ascending order
+     */
+    private static List<List<Integer>> groupByComponent(List<Artifact> artifacts) {
+        Map<String, List<Integer>> groupsByName = new LinkedHashMap<>();
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int i = 0; i < artifacts.size(); i++) {
+            Optional<String> componentName = componentName(artifacts.get(i));
+            if (componentName.isPresent()) {
+                List<Integer> group = groupsByName.get(componentName.get());
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groupsByName.put(componentName.get(), group);
+                    groups.add(group);
+                }
+                group.add(i);
+            } else {
+                groups.add(Collections.singletonList(i));
+            }
+        }
+        return groups;
+    }
+
+    private static Optional<String> componentName(Artifact artifact) {
+        try {
+            return Optional.of(ArtifactToComponentUtils.createComponentName(artifact));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<SW360Release> tryArtifactToReleaseInSW360(Artifact artifact) {
+        try {
+            return Optional.ofNullable(artifactToReleaseInSW360(artifact));
+        } catch (ExecutionException e) {
+            LOGGER.error("Release will not be created in SW360. Reason: {}", e.getMessage());
+            LOGGER.debug("Error: ", e);
+            return Optional.empty();
+        }
+    }
+
     /**
      * Maps an artifact onto an SW360Release object and either gets
      * information about it from a SW360 instance or, if it does not
@@ -26,11 +26,13 @@ import java.util.Map;
 public class SW360Enricher extends AbstractProcessor {
     private static final String DOWNLOAD_ATTACHMENTS = "download.attachments";
     private static final String DOWNLOAD_ATTACHMENTS_DIR = "download.directory";
+    private static final String CONCURRENT_REQUESTS = "concurrent.requests";
 
     private final SW360ConnectionConfigurationFactory connectionFactory;
 
     private boolean downloadAttachments;
     private Path downloadPath;
+    private int concurrentRequests;
 
     private SW360MetaDataReceiver connector;
 
@@ -64,17 +66,21 @@ public class SW360Enricher extends AbstractProcessor {
                     .toAbsolutePath();
         }
 
+        concurrentRequests = getIntConfigValue(CONCURRENT_REQUESTS, configMap,
+                SW360EnricherImpl.DEFAULT_CONCURRENT_REQUESTS, 1, Integer.MAX_VALUE);
+
         connector = createMetaDataReceiver(configMap);
     }
 
     @Override
     public Collection<Artifact> process(Collection<Artifact> intermediates) {
-        return new SW360EnricherImpl(reporter, connector, downloadAttachments, downloadPath).process(intermediates);
+        return new SW360EnricherImpl(reporter, connector, downloadAttachments, downloadPath, concurrentRequests)
+                .process(intermediates);
     }
 
     SW360MetaDataReceiver createMetaDataReceiver(Map<String, String> configMap) {
         SW360Connection connection =
-                getConnectionFactory().createConnection(key -> getConfigValue(key, configMap),
+                getConnectionFactory().createConnection(key -> getConfigValue(key, configMap), configMap::get,
                         context.getHttpClient(), context.getObjectMapper());
         return new SW360MetaDataReceiver(connection);
     }
@@ -26,47 +26,104 @@ import org.eclipse.sw360.antenna.sw360.client.rest.resource.licenses.SW360Sparse
 import org.eclipse.sw360.antenna.sw360.client.rest.resource.releases.SW360Release;
 import org.eclipse.sw360.antenna.sw360.client.rest.resource.releases.SW360ReleaseEmbedded;
 import org.eclipse.sw360.antenna.sw360.utils.ArtifactToReleaseUtils;
+import org.eclipse.sw360.antenna.util.ConcurrencyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+/**
+ * Enriches artifacts with the data of their releases in SW360.
+ *
+ * The artifacts are looked up concurrently, with at most the configured number of requests to SW360 running at the
+ * same time. The details of a license are requested only once per run, however many artifacts refer to it. Source
+ * attachments are downloaded by a separate pool of the same size, so that the lookups of further artifacts do not
+ * wait for the downloads.
+ */
 public class SW360EnricherImpl {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SW360EnricherImpl.class);
 
+    public static final int DEFAULT_CONCURRENT_REQUESTS = 8;
+
     private final IProcessingReporter reporter;
     private final SW360MetaDataReceiver connector;
     private final boolean downloadAttachments;
     private final Path downloadPath;
+    private final int concurrentRequests;
+    private final Map<String, CompletableFuture<Optional<SW360License>>> licenseDetails = new ConcurrentHashMap<>();
 
     public SW360EnricherImpl(IProcessingReporter reporter, SW360MetaDataReceiver connector, boolean downloadAttachments, Path downloadPath) {
+        this(reporter, connector, downloadAttachments, downloadPath, DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    public SW360EnricherImpl(IProcessingReporter reporter, SW360MetaDataReceiver connector, boolean downloadAttachments,
+                             Path downloadPath, int concurrentRequests) {
+        if (concurrentRequests < 1) {
+            throw new IllegalArgumentException("The number of concurrent requests must be positive, but is " + concurrentRequests);
+        }
         this.reporter = reporter;
         this.connector = connector;
         this.downloadAttachments = downloadAttachments;
         this.downloadPath = downloadPath;
+        this.concurrentRequests = concurrentRequests;
     }
 
     public Collection<Artifact> process(Collection<Artifact> intermediates) {
-        for (Artifact artifact : intermediates) {
-            Optional<SW360Release> release = connector.findReleaseForArtifact(artifact);
-            if (release.isPresent()) {
-                mapReleaseToArtifact(release.get(), artifact);
-            } else {
-                warnAndReport(artifact, "No SW360 release found for artifact.", MessageType.PROCESSING_FAILURE);
+        if (intermediates.isEmpty()) {
+            return intermediates;
+        }
+        final int poolSize = Math.min(concurrentRequests, intermediates.size());
+        ExecutorService lookupExecutor = Executors.newFixedThreadPool(poolSize);
+        ExecutorService downloadExecutor = downloadAttachments ? Executors.newFixedThreadPool(poolSize) : null;
+        try {
+            Queue<Future<?>> downloads = new ConcurrentLinkedQueue<>();
+            List<Future<Boolean>> lookups = new ArrayList<>(intermediates.size());
+            for (Artifact artifact : intermediates) {
+                lookups.add(lookupExecutor.submit(() -> enrichArtifact(artifact, downloadExecutor, downloads)));
+            }
+
+            // reported from the calling thread and in the order of the artifacts, as if they were processed one by one
+            Iterator<Future<Boolean>> lookupIterator = lookups.iterator();
+            for (Artifact artifact : intermediates) {
+                if (!ConcurrencyUtils.awaitResult(lookupIterator.next(), "Enrichment with SW360 data")) {
+                    warnAndReport(artifact, "No SW360 release found for artifact.", MessageType.PROCESSING_FAILURE);
+                }
+            }
+            for (Future<?> download : downloads) {
+                ConcurrencyUtils.awaitResult(download, "Enrichment with SW360 data");
+            }
+        } finally {
+            lookupExecutor.shutdownNow();
+            if (downloadExecutor != null) {
+                downloadExecutor.shutdownNow();
             }
         }
         return intermediates;
     }
 
-    private void mapReleaseToArtifact(SW360Release sw360Release, Artifact artifact) {
+    private boolean enrichArtifact(Artifact artifact, ExecutorService downloadExecutor, Queue<Future<?>> downloads) {
+        Optional<SW360Release> release = connector.findReleaseForArtifact(artifact);
+        release.ifPresent(sw360Release -> mapReleaseToArtifact(sw360Release, artifact, downloadExecutor, downloads));
+        return release.isPresent();
+    }
+
+    private void mapReleaseToArtifact(SW360Release sw360Release, Artifact artifact,
+                                      ExecutorService downloadExecutor, Queue<Future<?>> downloads) {
         ArtifactToReleaseUtils.convertToArtifactWithoutSourceFile(sw360Release, artifact);
         updateLicenses(artifact, sw360Release);
 
         if (downloadAttachments) {
-            downloadAttachments(sw360Release, artifact);
+            downloads.add(downloadExecutor.submit(() -> downloadAttachments(sw360Release, artifact)));
         }
     }
 
@@ -120,7 +177,7 @@ public class SW360EnricherImpl {
     }
 
     private License enrichLicenseWithSW360Data(License license, SW360SparseLicense sparseLicense) {
-        Optional<License> updatedLicense = connector.getLicenseDetails(sparseLicense)
+        Optional<License> updatedLicense = getLicenseDetails(sparseLicense)
                 .map(licenseDetails -> makeLicenseFromLicenseDetails(license, licenseDetails));
         if (updatedLicense.isPresent()) {
             return updatedLicense.get();
@@ -130,6 +187,37 @@ public class SW360EnricherImpl {
         return license;
     }
 
+    /*
+     * The first artifact referring to a license requests its details, all others wait for and share the result.
+     * A failed request releases the waiting artifacts with its failure and is forgotten, so that a later artifact
+     * can request the details again.
+     */
+    private Optional<SW360License> getLicenseDetails(SW360SparseLicense sparseLicense) {
+        final String key = sparseLicense.getShortName();
+        CompletableFuture<Optional<SW360License>> request = new CompletableFuture<>();
+        CompletableFuture<Optional<SW360License>> pendingRequest = licenseDetails.putIfAbsent(key, request);
+        if (pendingRequest != null) {
+            try {
+                return pendingRequest.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+            }
+        }
+        try {
+            Optional<SW360License> details = connector.getLicenseDetails(sparseLicense);
+            request.complete(details);
+            return details;
+        } catch (Throwable t) {
+            licenseDetails.remove(key, request);
+            request.completeExceptionally(t);
+            throw t;
+        }
+    }
+
     private License makeLicenseFromLicenseDetails(License license, SW360License licenseDetails) {
         license.setCommonName(licenseDetails.getFullName());
         license.setText(licenseDetails.getText());
@@ -11,17 +11,22 @@
 package org.eclipse.sw360.antenna.sw360.workflow;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.http.HttpClient;
 import org.eclipse.sw360.antenna.sw360.client.adapter.SW360ConnectionFactory;
 import org.eclipse.sw360.antenna.sw360.client.adapter.SW360Connection;
+import org.eclipse.sw360.antenna.sw360.client.cache.SW360ResponseCache;
 import org.eclipse.sw360.antenna.sw360.client.config.SW360ClientConfig;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -85,5 +90,49 @@ public class SW360ConnectionConfigurationFactoryTest {
         assertThat(sw360ClientConfig.getClientPassword()).isEqualTo(CLIENT_SECRET);
         assertThat(sw360ClientConfig.getHttpClient()).isEqualTo(httpClient);
         assertThat(sw360ClientConfig.getObjectMapper()).isEqualTo(mapper);
+        assertThat(sw360ClientConfig.getResponseCache()).isEmpty();
+    }
+
+    private SW360ClientConfig createConfigWithOptionalSettings(Map<String, String> optionalSettings) {
+        SW360ConnectionFactory connectionFactory = mock(SW360ConnectionFactory.class);
+        SW360ConnectionConfigurationFactory factory = new SW360ConnectionConfigurationFactory(connectionFactory);
+
+        factory.createConnection(stringConfigGetter(), optionalSettings::get, mock(HttpClient.class),
+                mock(ObjectMapper.class));
+
+        ArgumentCaptor<SW360ClientConfig> captSW360Config = ArgumentCaptor.forClass(SW360ClientConfig.class);
+        verify(connectionFactory).newConnection(captSW360Config.capture());
+        return captSW360Config.getValue();
+    }
+
+    @Test
+    public void testResponseCacheIsCreated() {
+        Map<String, String> optionalSettings = new HashMap<>();
+        optionalSettings.put(SW360ConnectionConfigurationFactory.CACHE_DIRECTORY_KEY, "target/sw360-cache");
+        optionalSettings.put(SW360ConnectionConfigurationFactory.CACHE_TTL_KEY, "600");
+
+        SW360ResponseCache cache = createConfigWithOptionalSettings(optionalSettings).getResponseCache().get();
+        assertThat(cache.getCacheDirectory()).isEqualTo(Paths.get("target/sw360-cache"));
+        assertThat(cache.getTimeToLive()).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testResponseCacheWithDefaultTimeToLive() {
+        Map<String, String> optionalSettings = new HashMap<>();
+        optionalSettings.put(SW360ConnectionConfigurationFactory.CACHE_DIRECTORY_KEY, "target/sw360-cache");
+
+        SW360ResponseCache cache = createConfigWithOptionalSettings(optionalSettings).getResponseCache().get();
+        assertThat(cache.getTimeToLive()).isEqualTo(SW360ConnectionConfigurationFactory.DEFAULT_CACHE_TTL);
+    }
+
+    @Test
+    public void testInvalidTimeToLiveOfResponseCache() {
+        Map<String, String> optionalSettings = new HashMap<>();
+        optionalSettings.put(SW360ConnectionConfigurationFactory.CACHE_DIRECTORY_KEY, "target/sw360-cache");
+        optionalSettings.put(SW360ConnectionConfigurationFactory.CACHE_TTL_KEY, "one hour");
+
+        assertThatThrownBy(() -> createConfigWithOptionalSettings(optionalSettings))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining(SW360ConnectionConfigurationFactory.CACHE_TTL_KEY);
     }
 }
@@ -10,9 +10,11 @@
  */
 package org.eclipse.sw360.antenna.sw360.workflow.generators;
 
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
 import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.license.License;
 import org.eclipse.sw360.antenna.sw360.SW360MetaDataUpdater;
 import org.eclipse.sw360.antenna.sw360.client.adapter.AttachmentUploadResult;
@@ -33,13 +35,21 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeast;
@@ -104,6 +114,72 @@ public class SW360UpdaterImplTest {
         checkUpdaterProduce(true);
     }
 
+    @Test
+    public void testUpdaterProduceKeepsOrderAndSkipsFailedArtifacts() {
+        List<Artifact> artifacts = IntStream.range(0, 30)
+                .mapToObj(i -> TestUtils.mkArtifact("test" + i, false))
+                .collect(Collectors.toList());
+        when(metaDataUpdater.getOrCreateRelease(any(), anyBoolean(), anyBoolean())).thenAnswer(invocation -> {
+            SW360Release release = invocation.getArgument(0);
+            if (release.getName().endsWith("test13")) {
+                throw new ExecutionException("Test exception");
+            }
+            return release;
+        });
+        SW360UpdaterImpl updater = new SW360UpdaterImpl(metaDataUpdater, "test", "version",
+                false, false, false, 4);
+
+        updater.produce(artifacts);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SW360Release>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(metaDataUpdater).createProject(eq("test"), eq("version"), captor.capture());
+        List<String> expectedNames = IntStream.range(0, 30)
+                .filter(i -> i != 13)
+                .mapToObj(i -> "org.group.id/artifactIdtest" + i)
+                .collect(Collectors.toList());
+        assertThat(captor.getValue())
+                .extracting(SW360Release::getName)
+                .containsExactlyElementsOf(expectedNames);
+    }
+
+    @Test
+    public void testUpdaterProduceHandlesReleasesOfTheSameComponentOneAfterTheOther() {
+        List<Artifact> artifacts = Arrays.asList(mkArtifactWithVersion("newComponent", "1.0"),
+                mkArtifactWithVersion("otherComponent", "1.0"),
+                mkArtifactWithVersion("newComponent", "2.0"));
+        Map<String, AtomicInteger> activeCalls = new ConcurrentHashMap<>();
+        AtomicInteger maxActiveCalls = new AtomicInteger();
+        when(metaDataUpdater.getOrCreateRelease(any(), anyBoolean(), anyBoolean())).thenAnswer(invocation -> {
+            SW360Release release = invocation.getArgument(0);
+            AtomicInteger active = activeCalls.computeIfAbsent(release.getName(), name -> new AtomicInteger());
+            maxActiveCalls.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(100);
+            active.decrementAndGet();
+            return release;
+        });
+        SW360UpdaterImpl updater = new SW360UpdaterImpl(metaDataUpdater, "test", "version",
+                false, false, false, 4);
+
+        updater.produce(artifacts);
+
+        assertThat(maxActiveCalls.get()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SW360Release>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(metaDataUpdater).createProject(eq("test"), eq("version"), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(SW360Release::getName, SW360Release::getVersion)
+                .containsExactly(tuple("org.group.id/newComponent", "1.0"),
+                        tuple("org.group.id/otherComponent", "1.0"),
+                        tuple("org.group.id/newComponent", "2.0"));
+    }
+
+    private static Artifact mkArtifactWithVersion(String name, String version) {
+        Artifact artifact = new Artifact("test");
+        artifact.addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.group.id", name, version));
+        return artifact;
+    }
+
     @Test
     public void testUpdaterArtifactToReleaseWithUploadsNoUploads() {
         Artifact artifact = TestUtils.mkArtifact("test", false);
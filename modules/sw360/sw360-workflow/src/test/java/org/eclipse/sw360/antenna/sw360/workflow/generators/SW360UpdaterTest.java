@@ -13,6 +13,7 @@ package org.eclipse.sw360.antenna.sw360.workflow.generators;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
 import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
 import org.eclipse.sw360.antenna.http.HttpClient;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -90,7 +92,7 @@ public class SW360UpdaterTest {
         SW360Connection connection = mock(SW360Connection.class);
         when(antennaContextMock.getHttpClient()).thenReturn(httpClient);
         when(antennaContextMock.getObjectMapper()).thenReturn(mapper);
-        when(connectionFactory.createConnection(any(), eq(httpClient), eq(mapper))).thenReturn(connection);
+        when(connectionFactory.createConnection(any(), any(), eq(httpClient), eq(mapper))).thenReturn(connection);
 
         SW360Updater updater = new SW360Updater(connectionFactory);
         updater.setAntennaContext(antennaContextMock);
@@ -102,7 +104,7 @@ public class SW360UpdaterTest {
         @SuppressWarnings("unchecked")
         ArgumentCaptor<SW360ConnectionConfigurationFactory.Getter<String>> captor =
                 ArgumentCaptor.forClass(SW360ConnectionConfigurationFactory.Getter.class);
-        verify(connectionFactory).createConnection(captor.capture(), eq(httpClient), eq(mapper));
+        verify(connectionFactory).createConnection(captor.capture(), any(), eq(httpClient), eq(mapper));
         SW360ConnectionConfigurationFactory.Getter<String> getter = captor.getValue();
         for (Map.Entry<String, String> e : configMap.entrySet()) {
             assertThat(getter.apply(e.getKey())).isEqualTo(e.getValue());
@@ -114,7 +116,7 @@ public class SW360UpdaterTest {
     public void testCreateUpdaterImpl() {
         SW360ConnectionConfigurationFactory connectionFactory = mock(SW360ConnectionConfigurationFactory.class);
         SW360Connection connection = mock(SW360Connection.class);
-        when(connectionFactory.createConnection(any(), any(), any())).thenReturn(connection);
+        when(connectionFactory.createConnection(any(), any(), any(), any())).thenReturn(connection);
         SW360Updater updater = new SW360Updater(connectionFactory);
         updater.setAntennaContext(antennaContextMock);
 
@@ -122,6 +124,22 @@ public class SW360UpdaterTest {
         assertThat(updaterImpl.isUpdateReleases()).isTrue();
         assertThat(updaterImpl.isUploadSources()).isTrue();
         assertThat(updaterImpl.isDeleteObsoleteSourceAttachments()).isTrue();
+        assertThat(updaterImpl.getConcurrentRequests()).isEqualTo(SW360UpdaterImpl.DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    @Test
+    public void testCreateUpdaterImplWithInvalidConcurrentRequests() {
+        SW360ConnectionConfigurationFactory connectionFactory = mock(SW360ConnectionConfigurationFactory.class);
+        SW360Connection connection = mock(SW360Connection.class);
+        when(connectionFactory.createConnection(any(), any(), any(), any())).thenReturn(connection);
+        SW360Updater updater = new SW360Updater(connectionFactory);
+        updater.setAntennaContext(antennaContextMock);
+        Map<String, String> configMap = createConfigMap();
+        configMap.put("concurrent.requests", "many");
+
+        assertThatThrownBy(() -> updater.createUpdaterImpl(configMap))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("concurrent.requests");
     }
 
     @Test
@@ -13,6 +13,7 @@
 package org.eclipse.sw360.antenna.sw360.workflow.processors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.http.HttpClient;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactChangeStatus;
@@ -30,6 +31,7 @@ import org.eclipse.sw360.antenna.model.license.License;
 import org.eclipse.sw360.antenna.model.license.LicenseInformation;
 import org.eclipse.sw360.antenna.model.license.LicenseOperator;
 import org.eclipse.sw360.antenna.model.license.LicenseStatement;
+import org.eclipse.sw360.antenna.model.reporting.MessageType;
 import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
 import org.eclipse.sw360.antenna.sw360.SW360MetaDataReceiver;
 import org.eclipse.sw360.antenna.sw360.client.adapter.SW360Connection;
@@ -47,6 +49,7 @@ import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.io.IOException;
@@ -59,12 +62,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -120,7 +128,7 @@ public class SW360EnricherTest extends AntennaTestWithMockedContext {
         SW360Connection connection = mock(SW360Connection.class);
         when(antennaContextMock.getHttpClient()).thenReturn(httpClient);
         when(antennaContextMock.getObjectMapper()).thenReturn(mapper);
-        when(connectionFactory.createConnection(any(), eq(httpClient), eq(mapper))).thenReturn(connection);
+        when(connectionFactory.createConnection(any(), any(), eq(httpClient), eq(mapper))).thenReturn(connection);
 
         sw360Enricher = new SW360Enricher(connectionFactory);
         sw360Enricher.setAntennaContext(antennaContextMock);
@@ -131,7 +139,7 @@ public class SW360EnricherTest extends AntennaTestWithMockedContext {
         @SuppressWarnings("unchecked")
         ArgumentCaptor<SW360ConnectionConfigurationFactory.Getter<String>> captor =
                 ArgumentCaptor.forClass(SW360ConnectionConfigurationFactory.Getter.class);
-        verify(connectionFactory).createConnection(captor.capture(), eq(httpClient), eq(mapper));
+        verify(connectionFactory).createConnection(captor.capture(), any(), eq(httpClient), eq(mapper));
         SW360ConnectionConfigurationFactory.Getter<String> getter = captor.getValue();
         for (Map.Entry<String, String> e : createStandardConfigMap().entrySet()) {
             assertThat(getter.apply(e.getKey())).isEqualTo(e.getValue());
@@ -318,6 +326,90 @@ public class SW360EnricherTest extends AntennaTestWithMockedContext {
         assertThat(ArtifactLicenseUtils.getFinalLicenses(artifacts.get(0)).getLicenses().iterator().next().evaluate()).isEqualTo("mit");
     }
 
+    @Test
+    public void licenseDetailsAreRequestedOncePerRun() {
+        SW360SparseLicense apacheSparse = createSparseLicense("apache2", "Apache 2.0");
+        SW360License apache = createLicenseFromSparseLicense(apacheSparse, "Some text");
+
+        SW360Release release = new SW360Release();
+        release.setEmbedded(new SW360ReleaseEmbedded());
+        release.getEmbedded().setLicenses(Collections.singletonList(apacheSparse));
+        release.setDeclaredLicense("apache2");
+
+        List<Artifact> manyArtifacts = IntStream.range(0, 50)
+                .mapToObj(i -> new Artifact().addFact(new ArtifactFilename("filename" + i)))
+                .collect(Collectors.toList());
+        when(connector.findReleaseForArtifact(any())).thenReturn(Optional.of(release));
+        when(connector.getLicenseDetails(any())).thenReturn(Optional.of(apache));
+
+        Map<String, String> configMap = createStandardConfigMap();
+        configMap.put("concurrent.requests", "4");
+        sw360Enricher.configure(configMap);
+        sw360Enricher.process(manyArtifacts);
+
+        verify(connector, times(1)).getLicenseDetails(any());
+        assertThat(manyArtifacts).allSatisfy(artifact ->
+                assertThat(ArtifactLicenseUtils.getFinalLicenses(artifact).getLicenses().iterator().next().getText())
+                        .isEqualTo("Some text"));
+    }
+
+    @Test(timeout = 10000)
+    public void failedLicenseDetailsRequestReleasesWaitingArtifacts() {
+        SW360SparseLicense apacheSparse = createSparseLicense("apache2", "Apache 2.0");
+
+        SW360Release release = new SW360Release();
+        release.setEmbedded(new SW360ReleaseEmbedded());
+        release.getEmbedded().setLicenses(Collections.singletonList(apacheSparse));
+        release.setDeclaredLicense("apache2");
+
+        Artifact waitingArtifact = new Artifact().addFact(new ArtifactFilename("filename0"));
+        Artifact requestingArtifact = new Artifact().addFact(new ArtifactFilename("filename1"));
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        when(connector.findReleaseForArtifact(requestingArtifact)).thenReturn(Optional.of(release));
+        when(connector.findReleaseForArtifact(waitingArtifact)).thenAnswer(invocation -> {
+            requestStarted.await(5, TimeUnit.SECONDS);
+            return Optional.of(release);
+        });
+        when(connector.getLicenseDetails(any())).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            throw new NoClassDefFoundError("broken");
+        });
+
+        Map<String, String> configMap = createStandardConfigMap();
+        configMap.put("concurrent.requests", "2");
+        sw360Enricher.configure(configMap);
+
+        assertThatThrownBy(() -> sw360Enricher.process(Arrays.asList(waitingArtifact, requestingArtifact)))
+                .hasCauseInstanceOf(NoClassDefFoundError.class);
+    }
+
+    @Test
+    public void missingReleasesAreReportedInArtifactOrder() {
+        List<Artifact> manyArtifacts = IntStream.range(0, 20)
+                .mapToObj(i -> new Artifact().addFact(new ArtifactFilename("filename" + i)))
+                .collect(Collectors.toList());
+        when(connector.findReleaseForArtifact(any())).thenReturn(Optional.empty());
+
+        sw360Enricher.configure(createStandardConfigMap());
+        final Collection<Artifact> process = sw360Enricher.process(manyArtifacts);
+
+        assertThat(process).containsExactlyElementsOf(manyArtifacts);
+        InOrder inOrder = inOrder(reporterMock);
+        for (Artifact artifact : manyArtifacts) {
+            inOrder.verify(reporterMock).add(eq(artifact), eq(MessageType.PROCESSING_FAILURE), any());
+        }
+    }
+
+    @Test
+    public void invalidNumberOfConcurrentRequestsIsRejected() {
+        Map<String, String> configMap = createStandardConfigMap();
+        configMap.put("concurrent.requests", "0");
+
+        assertThatThrownBy(() -> sw360Enricher.configure(configMap))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("concurrent.requests");
+    }
+
     private SW360SparseLicense createSparseLicense(String name, String fullName) {
         SW360SparseLicense sparseLicense = new SW360SparseLicense();
         sparseLicense.setFullName(fullName);